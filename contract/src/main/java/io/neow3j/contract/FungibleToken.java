@@ -3,9 +3,19 @@ package io.neow3j.contract;
 import io.neow3j.contract.exceptions.UnexpectedReturnTypeException;
 import io.neow3j.contract.exceptions.UnresolvableDomainNameException;
 import io.neow3j.contract.types.NNSName;
+import io.neow3j.contract.types.TokenTransfer;
 import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoInvokeScript;
+import io.neow3j.script.OpCode;
+import io.neow3j.script.ScriptTemplate;
+import io.neow3j.serialization.IOUtils;
 import io.neow3j.transaction.ContractSigner;
+import io.neow3j.transaction.NetworkFeeCalculator;
+import io.neow3j.transaction.Signer;
+import io.neow3j.transaction.Transaction;
 import io.neow3j.transaction.TransactionBuilder;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
 import io.neow3j.types.ContractParameter;
 import io.neow3j.types.Hash160;
 import io.neow3j.wallet.Account;
@@ -13,10 +23,21 @@ import io.neow3j.wallet.Wallet;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import static io.neow3j.constants.NeoConstants.MAX_TRANSACTION_SIZE;
+import static io.neow3j.script.ScriptTemplate.slot;
 import static io.neow3j.transaction.AccountSigner.calledByEntry;
 import static io.neow3j.types.ContractParameter.hash160;
 import static io.neow3j.types.ContractParameter.integer;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
 /**
  * Represents a fungible token contract that is compliant with the NEP-17 standard and provides methods to invoke it.
@@ -26,6 +47,8 @@ public class FungibleToken extends Token {
     private static final String BALANCE_OF = "balanceOf";
     private static final String TRANSFER = "transfer";
 
+    private final ScriptTemplate transferTemplate;
+
     /**
      * Constructs a new {@code FungibleToken} representing the token contract with the given script hash. Uses the
      * given {@link Neow3j} instance for all invocations.
@@ -34,7 +57,20 @@ public class FungibleToken extends Token {
      * @param neow       the {@link Neow3j} instance to use for invocations.
      */
     public FungibleToken(Hash160 scriptHash, Neow3j neow) {
-        super(scriptHash, neow);
+        this(scriptHash, neow, null);
+    }
+
+    /**
+     * Constructs a new {@code FungibleToken} representing the token contract with the given script hash. Uses the
+     * given {@link Neow3j} instance for all invocations and the given registry for the token's metadata.
+     *
+     * @param scriptHash       the token contract's script hash
+     * @param neow             the {@link Neow3j} instance to use for invocations.
+     * @param metadataRegistry the registry to use for the token's metadata or null to cache it in this instance.
+     */
+    public FungibleToken(Hash160 scriptHash, Neow3j neow, TokenMetadataRegistry metadataRegistry) {
+        super(scriptHash, neow, metadataRegistry);
+        transferTemplate = ScriptTemplate.contractCall(scriptHash, TRANSFER, asList(slot(), slot(), slot(), slot()));
     }
 
     /**
@@ -177,9 +213,171 @@ public class FungibleToken extends Token {
      * @return a transfer script.
      */
     public byte[] buildTransferScript(Hash160 from, Hash160 to, BigInteger amount, ContractParameter data) {
-        return buildInvokeFunctionScript(TRANSFER, hash160(from), hash160(to), integer(amount), data);
+        return transferTemplate.build(hash160(from), hash160(to), integer(amount), data);
+    }
+
+    /**
+     * Gets the compiled template of the transfer script of this token. Its slots are the sender, the recipient, the
+     * amount and the data parameter.
+     *
+     * @return the transfer script template.
+     * @see #buildTransferScript(Hash160, Hash160, BigInteger, ContractParameter)
+     */
+    public ScriptTemplate getTransferScriptTemplate() {
+        return transferTemplate;
+    }
+
+    // region batch transfer
+
+    /**
+     * Creates transactions that make all the given transfers from one account.
+     * <p>
+     * The transfers are packed into as few transactions as possible. A transaction is closed as soon as the next
+     * transfer would let it exceed the maximum transaction size, taking into account the witness of the sender. Each
+     * transaction calls the {@code transfer} method once per transfer and asserts its result, i.e., a transaction
+     * faults and none of its transfers is made if one of them fails.
+     * <p>
+     * The {@code from} account is set as the only signer of the transactions.
+     *
+     * @param from      the sender account.
+     * @param transfers the transfers.
+     * @return the transaction builders in the order of the transfers.
+     */
+    public List<TransactionBuilder> transferMany(Account from, List<TokenTransfer> transfers) {
+        return toTransactionBuilders(from, packBySize(from, transfers));
+    }
+
+    /**
+     * Creates transactions that make all the given transfers from one account and whose system fees do not exceed the
+     * given maximum.
+     * <p>
+     * The transfers are first packed as described in {@link #transferMany(Account, List)}. Then, the script of each
+     * transaction is test-invoked and split into smaller transactions until the system fee of each transaction is at
+     * most {@code maxSystemFee}.
+     *
+     * @param from         the sender account.
+     * @param transfers    the transfers.
+     * @param maxSystemFee the maximum system fee of a transaction in GAS fractions.
+     * @return the transaction builders in the order of the transfers.
+     * @throws IOException                       if there was a problem fetching information from the Neo node.
+     * @throws TransactionConfigurationException if the invocation of a script faults or a single transfer exceeds the
+     *                                           maximum system fee.
+     */
+    public List<TransactionBuilder> transferMany(Account from, List<TokenTransfer> transfers, long maxSystemFee)
+            throws IOException {
+
+        if (maxSystemFee <= 0) {
+            throw new IllegalArgumentException("The maximum system fee must be greater than 0.");
+        }
+        List<List<byte[]>> batches = new ArrayList<>();
+        for (List<byte[]> batch : packBySize(from, transfers)) {
+            splitBySystemFee(batch, calledByEntry(from), maxSystemFee, batches);
+        }
+        return toTransactionBuilders(from, batches);
     }
 
+    /**
+     * Builds a script that invokes the transfer method on the fungible token for each of the given transfers and
+     * asserts that each invocation returns true.
+     *
+     * @param from      the sender.
+     * @param transfers the transfers.
+     * @return the script.
+     */
+    public byte[] buildTransferManyScript(Hash160 from, List<TokenTransfer> transfers) {
+        return concatenate(transfers.stream()
+                .map(t -> buildAssertedTransferScript(from, t))
+                .collect(Collectors.toList()));
+    }
+
+    private byte[] buildAssertedTransferScript(Hash160 from, TokenTransfer transfer) {
+        byte[] script = buildTransferScript(from, transfer.getTo(), transfer.getAmount(), transfer.getData());
+        byte[] asserted = Arrays.copyOf(script, script.length + 1);
+        asserted[script.length] = (byte) OpCode.ASSERT.getCode();
+        return asserted;
+    }
+
+    private List<List<byte[]>> packBySize(Account from, List<TokenTransfer> transfers) {
+        int sizeWithoutScript = transactionSizeWithoutScript(from);
+        List<List<byte[]>> batches = new ArrayList<>();
+        List<byte[]> batch = new ArrayList<>();
+        int scriptLength = 0;
+        for (TokenTransfer transfer : transfers) {
+            byte[] script = buildAssertedTransferScript(from.getScriptHash(), transfer);
+            int length = scriptLength + script.length;
+            if (sizeWithoutScript + IOUtils.getVarSize(length) + length > MAX_TRANSACTION_SIZE) {
+                if (batch.isEmpty()) {
+                    throw new TransactionConfigurationException(format("The transfer to %s exceeds the maximum " +
+                            "transaction size.", transfer.getTo()));
+                }
+                batches.add(batch);
+                batch = new ArrayList<>();
+                length = script.length;
+            }
+            batch.add(script);
+            scriptLength = length;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    // The size of a transaction from the given account with an empty script, including the witness of the account.
+    private int transactionSizeWithoutScript(Account from) {
+        Transaction tx = new Transaction(neow3j, (byte) 0, 0L, 0L, new ArrayList<>(singletonList(calledByEntry(from))),
+                0L, 0L, new ArrayList<>(), new byte[0], new ArrayList<>());
+        // Subtract the size of the empty script. The count of the witnesses takes one byte with or without the witness.
+        return tx.getSize() - 1 + NetworkFeeCalculator.calculateWitnessSize(from);
+    }
+
+    // Splits the batch evenly into as many parts as the system fee requires and checks the parts again.
+    private void splitBySystemFee(List<byte[]> batch, Signer signer, long maxSystemFee, List<List<byte[]>> result)
+            throws IOException {
+
+        long systemFee = fetchSystemFee(concatenate(batch), signer);
+        if (systemFee <= maxSystemFee) {
+            result.add(batch);
+            return;
+        }
+        if (batch.size() == 1) {
+            throw new TransactionConfigurationException(format("The system fee of a single transfer (%s) exceeds " +
+                    "the maximum system fee of %s.", systemFee, maxSystemFee));
+        }
+        long parts = Math.min(batch.size(), Math.max(2, (systemFee + maxSystemFee - 1) / maxSystemFee));
+        int from = 0;
+        for (int i = 0; i < parts; i++) {
+            int to = (int) ((i + 1) * batch.size() / parts);
+            splitBySystemFee(batch.subList(from, to), signer, maxSystemFee, result);
+            from = to;
+        }
+    }
+
+    private long fetchSystemFee(byte[] script, Signer signer) throws IOException {
+        NeoInvokeScript response = neow3j.invokeScript(toHexStringNoPrefix(script), signer).send();
+        InvocationResult result = response.getInvocationResult();
+        if (result.hasStateFault() && !neow3j.transmissionOnFaultIsAllowed()) {
+            throw new TransactionConfigurationException(
+                    "The vm exited due to the following exception: " + result.getException());
+        }
+        return new BigInteger(result.getGasConsumed()).longValue();
+    }
+
+    private List<TransactionBuilder> toTransactionBuilders(Account from, List<List<byte[]>> batches) {
+        return batches.stream()
+                .map(b -> new TransactionBuilder(neow3j).script(concatenate(b)).signers(calledByEntry(from)))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] concatenate(List<byte[]> scripts) {
+        int length = scripts.stream().mapToInt(s -> s.length).sum();
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        scripts.forEach(buffer::put);
+        return buffer.array();
+    }
+
+    // endregion
+
     // region transfer using NNS
 
     /**
@@ -0,0 +1,297 @@
+package io.neow3j.contract;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoFindStates;
+import io.neow3j.protocol.core.response.NeoGetStateRoot;
+import io.neow3j.serialization.BinaryReader;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import io.neow3j.types.StackItemType;
+import io.neow3j.utils.BigIntegers;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.neow3j.constants.NeoConstants.HASH160_SIZE;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+
+/**
+ * Reads the NEP-17 balances of many accounts at past block heights from the state service of a Neo node.
+ * <p>
+ * The Neo node cannot invoke {@code balanceOf} on a past state. Instead, the balances are read with
+ * {@code findstates} from the storage of the token at the state root of the block height. Thus, the storage layout of
+ * the balances must be known. The layouts of the {@link NeoToken} and the {@link GasToken} are registered by default.
+ * Other tokens are registered with {@link #balanceLayout(Hash160, BalanceLayout)}.
+ * <p>
+ * The lookups of the missing balances are sent in JSON-RPC batches, of which several are sent concurrently. Since the
+ * state at a block height never changes, the state roots and balances are cached per block height, token and account
+ * for the lifetime of the reader.
+ * <pre>{@code
+ * HistoricalBalanceReader reader = new HistoricalBalanceReader(neow3j);
+ * Map<Hash160, BigInteger> balances = reader.getBalances(height, GasToken.SCRIPT_HASH, accounts);
+ * }</pre>
+ */
+public class HistoricalBalanceReader {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    // The prefix of the account states in the storage of the native fungible tokens.
+    private static final byte NATIVE_ACCOUNT_PREFIX = 20;
+
+    private final Neow3j neow3j;
+    private final Map<Hash160, BalanceLayout> layouts = new ConcurrentHashMap<>();
+    private final Map<Long, Hash256> stateRoots = new ConcurrentHashMap<>();
+    private final Map<BalanceKey, BigInteger> balances = new ConcurrentHashMap<>();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Constructs a balance reader.
+     *
+     * @param neow3j the {@link Neow3j} instance to use. Its Neo node must run the state service and keep the state of
+     *               past blocks.
+     */
+    public HistoricalBalanceReader(Neow3j neow3j) {
+        this.neow3j = neow3j;
+        layouts.put(NeoToken.SCRIPT_HASH, BalanceLayout.accountState(new byte[]{NATIVE_ACCOUNT_PREFIX}));
+        layouts.put(GasToken.SCRIPT_HASH, BalanceLayout.accountState(new byte[]{NATIVE_ACCOUNT_PREFIX}));
+    }
+
+    /**
+     * Sets the maximum number of balance lookups per JSON-RPC batch. Defaults to {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @param batchSize the maximum number of lookups per batch.
+     * @return this.
+     */
+    public HistoricalBalanceReader batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1.");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of batches that are sent concurrently. Defaults to {@link #DEFAULT_MAX_CONCURRENCY}.
+     *
+     * @param maxConcurrency the maximum number of concurrent batches.
+     * @return this.
+     */
+    public HistoricalBalanceReader maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Registers the storage layout of the balances of a token.
+     *
+     * @param token  the script hash of the token.
+     * @param layout the storage layout of its balances.
+     * @return this.
+     */
+    public HistoricalBalanceReader balanceLayout(Hash160 token, BalanceLayout layout) {
+        if (layout == null) {
+            throw new IllegalArgumentException("The balance layout must not be null.");
+        }
+        layouts.put(token, layout);
+        return this;
+    }
+
+    /**
+     * Gets the balance of an account at a block height.
+     *
+     * @param height  the block height.
+     * @param token   the script hash of the token.
+     * @param account the script hash of the account.
+     * @return the balance in token fractions.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public BigInteger getBalance(long height, Hash160 token, Hash160 account) throws IOException {
+        return getBalances(height, token, singletonList(account)).get(account);
+    }
+
+    /**
+     * Gets the balances of accounts at a block height.
+     * <p>
+     * Only the balances that are not cached yet are read from the Neo node.
+     *
+     * @param height   the block height.
+     * @param token    the script hash of the token.
+     * @param accounts the script hashes of the accounts.
+     * @return the balances in token fractions by account, in the order of the given accounts.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public Map<Hash160, BigInteger> getBalances(long height, Hash160 token, List<Hash160> accounts)
+            throws IOException {
+
+        BalanceLayout layout = layouts.get(token);
+        if (layout == null) {
+            throw new IllegalArgumentException(format("No balance layout is registered for the token %s.", token));
+        }
+        Set<Hash160> missingAccounts = new LinkedHashSet<>();
+        for (Hash160 account : accounts) {
+            if (!balances.containsKey(new BalanceKey(height, token, account))) {
+                missingAccounts.add(account);
+            }
+        }
+        List<Hash160> missing = new ArrayList<>(missingAccounts);
+        if (!missing.isEmpty()) {
+            Hash256 stateRoot = getStateRoot(height);
+            List<Request<?, NeoFindStates>> requests = new ArrayList<>(missing.size());
+            for (Hash160 account : missing) {
+                requests.add(neow3j.findStates(stateRoot, token, toHexStringNoPrefix(layout.key(account)), 1));
+            }
+            List<NeoFindStates> responses = Request.sendBatches(requests, batchSize, maxConcurrency);
+            for (int i = 0; i < missing.size(); i++) {
+                Hash160 account = missing.get(i);
+                NeoFindStates response = responses.get(i);
+                response.throwOnError();
+                byte[] value = findValue(response.getStates(), layout.key(account));
+                BigInteger balance = value == null ? BigInteger.ZERO : layout.decode(value);
+                balances.put(new BalanceKey(height, token, account), balance);
+            }
+        }
+        Map<Hash160, BigInteger> result = new LinkedHashMap<>();
+        for (Hash160 account : accounts) {
+            result.put(account, balances.get(new BalanceKey(height, token, account)));
+        }
+        return result;
+    }
+
+    private Hash256 getStateRoot(long height) throws IOException {
+        Hash256 stateRoot = stateRoots.get(height);
+        if (stateRoot == null) {
+            NeoGetStateRoot response = neow3j.getStateRoot(height).send();
+            response.throwOnError();
+            stateRoot = response.getStateRoot().getRootHash();
+            stateRoots.put(height, stateRoot);
+        }
+        return stateRoot;
+    }
+
+    // The key is used as prefix. Thus, the first result is either the key itself or a longer key if it is missing.
+    private static byte[] findValue(NeoFindStates.States states, byte[] key) {
+        if (states.getResults().isEmpty()) {
+            return null;
+        }
+        NeoFindStates.States.Result first = states.getResults().get(0);
+        return Arrays.equals(Base64.decode(first.getKey()), key) ? Base64.decode(first.getValue()) : null;
+    }
+
+    /**
+     * Describes how the balances of a token are stored in its storage.
+     */
+    public static class BalanceLayout {
+
+        private final byte[] prefix;
+        private final Function<byte[], BigInteger> decoder;
+
+        /**
+         * Creates a layout in which the balance of an account is stored under the key prefix followed by the script
+         * hash of the account in little-endian order.
+         *
+         * @param prefix  the key prefix of the balances.
+         * @param decoder the function that reads the balance from a stored value.
+         */
+        public BalanceLayout(byte[] prefix, Function<byte[], BigInteger> decoder) {
+            this.prefix = prefix;
+            this.decoder = decoder;
+        }
+
+        /**
+         * Creates a layout in which the balances are stored as integers, as done by the {@code Nep17Token} of the
+         * C# devpack with the prefix {@code 0x01}.
+         *
+         * @param prefix the key prefix of the balances.
+         * @return the layout.
+         */
+        public static BalanceLayout integer(byte[] prefix) {
+            return new BalanceLayout(prefix, BigIntegers::fromLittleEndianByteArray);
+        }
+
+        /**
+         * Creates a layout in which each account has a serialized struct with its balance as first field, as done by
+         * the native fungible tokens.
+         *
+         * @param prefix the key prefix of the account states.
+         * @return the layout.
+         */
+        public static BalanceLayout accountState(byte[] prefix) {
+            return new BalanceLayout(prefix, BalanceLayout::readFirstStructField);
+        }
+
+        byte[] key(Hash160 account) {
+            byte[] key = Arrays.copyOf(prefix, prefix.length + HASH160_SIZE);
+            System.arraycopy(account.toLittleEndianArray(), 0, key, prefix.length, HASH160_SIZE);
+            return key;
+        }
+
+        BigInteger decode(byte[] value) {
+            return decoder.apply(value);
+        }
+
+        private static BigInteger readFirstStructField(byte[] value) {
+            BinaryReader reader = new BinaryReader(value);
+            try {
+                if (reader.readByte() != StackItemType.STRUCT.byteValue() || reader.readVarInt() < 1
+                        || reader.readByte() != StackItemType.INTEGER.byteValue()) {
+                    throw new IllegalStateException("The stored account state does not start with an integer.");
+                }
+                return BigIntegers.fromLittleEndianByteArray(reader.readVarBytes());
+            } catch (IOException e) {
+                throw new IllegalStateException("The stored account state is malformed.", e);
+            }
+        }
+
+    }
+
+    private static class BalanceKey {
+
+        private final long height;
+        private final Hash160 token;
+        private final Hash160 account;
+
+        private BalanceKey(long height, Hash160 token, Hash160 account) {
+            this.height = height;
+            this.token = token;
+            this.account = account;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BalanceKey)) {
+                return false;
+            }
+            BalanceKey that = (BalanceKey) o;
+            return height == that.height && token.equals(that.token) && account.equals(that.account);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(height, token, account);
+        }
+
+    }
+
+}
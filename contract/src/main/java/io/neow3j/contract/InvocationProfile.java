@@ -0,0 +1,305 @@
+package io.neow3j.contract;
+
+import io.neow3j.protocol.core.response.Diagnostics;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.types.Hash160;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The profile of an invocation created by an {@link InvocationProfiler}.
+ * <p>
+ * The GAS consumption is attributed to the contracts that caused it as far as the diagnostics of the Neo node allow.
+ * These are the storage fees and the fees of the storage and notification system calls. The remaining GAS is consumed
+ * by the execution of the scripts, which the diagnostics do not break down. It is reported as unattributed.
+ * <p>
+ * All GAS values are in fractions, i.e., 10^-8 GAS.
+ */
+public class InvocationProfile {
+
+    private final InvocationResult invocationResult;
+    private final BigInteger gasConsumed;
+    private final Map<Hash160, ContractUsage> contracts;
+    private final List<PrefixUsage> prefixes;
+    private final List<String> foldedStacks;
+
+    InvocationProfile(InvocationResult invocationResult, Map<Hash160, ContractUsage> contracts,
+            List<PrefixUsage> prefixes, List<String> foldedStacks) {
+        this.invocationResult = invocationResult;
+        this.gasConsumed = new BigInteger(invocationResult.getGasConsumed());
+        this.contracts = contracts;
+        this.prefixes = prefixes;
+        this.foldedStacks = foldedStacks;
+    }
+
+    /**
+     * @return the result of the profiled invocation.
+     */
+    public InvocationResult getInvocationResult() {
+        return invocationResult;
+    }
+
+    /**
+     * @return the tree of the invoked contracts.
+     */
+    public Diagnostics.InvokedContract getCallTree() {
+        return invocationResult.getDiagnostics().getInvokedContracts();
+    }
+
+    /**
+     * @return the GAS consumed by the invocation.
+     */
+    public BigInteger getGasConsumed() {
+        return gasConsumed;
+    }
+
+    /**
+     * @return the GAS that is not attributed to a contract.
+     */
+    public BigInteger getUnattributedGas() {
+        return contracts.values().stream()
+                .map(ContractUsage::getAttributedGas)
+                .reduce(gasConsumed, BigInteger::subtract);
+    }
+
+    /**
+     * @return the usages of the invoked contracts and the contracts whose storage changed, in the order in which they
+     * appear in the call tree.
+     */
+    public Collection<ContractUsage> getContracts() {
+        return unmodifiableCollection(contracts.values());
+    }
+
+    /**
+     * Gets the usage of a contract.
+     *
+     * @param contract the script hash of the contract.
+     * @return the usage or null if the contract was not invoked and its storage did not change.
+     */
+    public ContractUsage getContract(Hash160 contract) {
+        return contracts.get(contract);
+    }
+
+    /**
+     * @return the storage changes grouped by contract and key prefix, sorted by the attributed GAS in descending order.
+     */
+    public List<PrefixUsage> getStoragePrefixes() {
+        return unmodifiableList(prefixes);
+    }
+
+    /**
+     * Renders the attributed GAS in the folded stack format, which is read by flame graph tools, e.g.,
+     * {@code flamegraph.pl}.
+     * <p>
+     * Each line is a path in the call tree followed by the GAS attributed to its last contract. The unattributed GAS
+     * is attributed to the invocation script, which is the root of the call tree.
+     *
+     * @return the folded stacks.
+     */
+    public String toFoldedStacks() {
+        return String.join("\n", foldedStacks);
+    }
+
+    /**
+     * Renders the usages of the contracts and the storage prefixes as text tables.
+     *
+     * @return the summary.
+     */
+    public String toSummaryTable() {
+        StringBuilder b = new StringBuilder();
+        b.append(format("GAS consumed: %s, unattributed: %s%n%n", gasConsumed, getUnattributedGas()));
+        b.append(format("%-42s %6s %6s %6s %6s %6s %10s %14s%n", "Contract", "Calls", "Notify", "Added", "Changed",
+                "Deleted", "Bytes", "Attributed GAS"));
+        for (ContractUsage c : contracts.values()) {
+            b.append(format("%-42s %6d %6d %6d %6d %6d %10d %14s%n", "0x" + c.contract, c.calls, c.notifications,
+                    c.added, c.changed, c.deleted, c.bytesWritten, c.getAttributedGas()));
+        }
+        b.append(format("%n%-42s %-16s %6s %6s %6s %10s %14s%n", "Contract", "Prefix", "Added", "Changed", "Deleted",
+                "Bytes", "Attributed GAS"));
+        for (PrefixUsage p : prefixes) {
+            b.append(format("%-42s %-16s %6d %6d %6d %10d %14s%n", "0x" + p.contract, p.prefix, p.added, p.changed,
+                    p.deleted, p.bytesWritten, p.storageGas));
+        }
+        return b.toString();
+    }
+
+    /**
+     * The usage of a contract in an invocation.
+     */
+    public static class ContractUsage {
+
+        private final Hash160 contract;
+        int calls;
+        int notifications;
+        int added;
+        int changed;
+        int deleted;
+        long bytesWritten;
+        BigInteger storageGas = BigInteger.ZERO;
+        BigInteger syscallGas = BigInteger.ZERO;
+
+        ContractUsage(Hash160 contract) {
+            this.contract = contract;
+        }
+
+        /**
+         * @return the script hash of the contract.
+         */
+        public Hash160 getContract() {
+            return contract;
+        }
+
+        /**
+         * @return how often the contract appears in the call tree.
+         */
+        public int getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the number of notifications that the contract sent.
+         */
+        public int getNotifications() {
+            return notifications;
+        }
+
+        /**
+         * @return the number of storage entries that were added.
+         */
+        public int getAdded() {
+            return added;
+        }
+
+        /**
+         * @return the number of storage entries that were changed.
+         */
+        public int getChanged() {
+            return changed;
+        }
+
+        /**
+         * @return the number of storage entries that were deleted.
+         */
+        public int getDeleted() {
+            return deleted;
+        }
+
+        /**
+         * @return the number of key and value bytes of the added entries and value bytes of the changed entries.
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /**
+         * Gets the storage fee paid for the storage changes of the contract.
+         * <p>
+         * The fee of a changed entry depends on the size of its previous value, which the diagnostics do not contain.
+         * Thus, the lowest possible fee is assumed for changed entries.
+         *
+         * @return the storage fee.
+         */
+        public BigInteger getStorageGas() {
+            return storageGas;
+        }
+
+        /**
+         * @return the fees of the storage and notification system calls of the contract.
+         */
+        public BigInteger getSyscallGas() {
+            return syscallGas;
+        }
+
+        /**
+         * @return the GAS attributed to the contract.
+         */
+        public BigInteger getAttributedGas() {
+            return storageGas.add(syscallGas);
+        }
+
+    }
+
+    /**
+     * The storage changes of a contract under a key prefix.
+     */
+    public static class PrefixUsage {
+
+        private final Hash160 contract;
+        private final String prefix;
+        int added;
+        int changed;
+        int deleted;
+        long bytesWritten;
+        BigInteger storageGas = BigInteger.ZERO;
+
+        PrefixUsage(Hash160 contract, String prefix) {
+            this.contract = contract;
+            this.prefix = prefix;
+        }
+
+        /**
+         * @return the script hash of the contract.
+         */
+        public Hash160 getContract() {
+            return contract;
+        }
+
+        /**
+         * @return the key prefix in hexadecimal format.
+         */
+        public String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * @return the number of storage entries that were added.
+         */
+        public int getAdded() {
+            return added;
+        }
+
+        /**
+         * @return the number of storage entries that were changed.
+         */
+        public int getChanged() {
+            return changed;
+        }
+
+        /**
+         * @return the number of storage entries that were deleted.
+         */
+        public int getDeleted() {
+            return deleted;
+        }
+
+        /**
+         * @return the number of key and value bytes of the added entries and value bytes of the changed entries.
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /**
+         * @return the storage fee paid for the changes. See {@link ContractUsage#getStorageGas()}.
+         */
+        public BigInteger getStorageGas() {
+            return storageGas;
+        }
+
+    }
+
+    static List<PrefixUsage> sorted(Collection<PrefixUsage> prefixes) {
+        List<PrefixUsage> list = new ArrayList<>(prefixes);
+        list.sort((a, b) -> b.storageGas.compareTo(a.storageGas));
+        return list;
+    }
+
+}
@@ -0,0 +1,278 @@
+package io.neow3j.contract;
+
+import io.neow3j.contract.InvocationProfile.ContractUsage;
+import io.neow3j.contract.InvocationProfile.PrefixUsage;
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.Diagnostics;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoGetContractState;
+import io.neow3j.protocol.core.response.Notification;
+import io.neow3j.transaction.Signer;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.Hash160;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.neow3j.utils.Numeric.toHexString;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static java.util.Arrays.asList;
+
+/**
+ * Profiles invocations with the diagnostics of the Neo node.
+ * <p>
+ * The invocation is run with {@code invokefunction} or {@code invokescript} and diagnostics enabled. The resulting
+ * call tree, storage changes and notifications are combined into an {@link InvocationProfile} that attributes GAS to
+ * the contracts and their storage key prefixes. This shows which contract makes an invocation expensive before it is
+ * sent in a transaction.
+ * <p>
+ * The diagnostics only contain the storage changes of an invocation, not the storage reads. Thus, storage reads are
+ * not part of the profile. Native contracts write to their storage and emit events without system calls and storage
+ * fees. Their storage changes and notifications are counted, but no GAS is attributed to them.
+ * <pre>{@code
+ * InvocationProfile profile = new InvocationProfiler(neow3j)
+ *         .profile(contract, "transfer", asList(hash160(from), hash160(to), integer(1), any(null)),
+ *                 AccountSigner.calledByEntry(from));
+ * System.out.println(profile.toSummaryTable());
+ * }</pre>
+ */
+public class InvocationProfiler {
+
+    public static final int DEFAULT_PREFIX_LENGTH = 1;
+
+    // The price of the System.Storage.Put, System.Storage.Delete and System.Runtime.Notify system calls.
+    private static final BigInteger SYSCALL_PRICE = BigInteger.valueOf(1 << 15);
+    private static final String ADDED = "Added";
+    private static final String CHANGED = "Changed";
+    private static final String DELETED = "Deleted";
+    private static final Set<Hash160> NATIVE_CONTRACTS = new HashSet<>();
+
+    static {
+        for (String name : asList("ContractManagement", "StdLib", "CryptoLib", "LedgerContract", "NeoToken",
+                "GasToken", "PolicyContract", "RoleManagement", "OracleContract", "Notary")) {
+            NATIVE_CONTRACTS.add(SmartContract.calcNativeContractHash(name));
+        }
+    }
+
+    private final Neow3j neow3j;
+    private final Map<Integer, Hash160> contractHashes = new ConcurrentHashMap<>();
+    private int prefixLength = DEFAULT_PREFIX_LENGTH;
+    private BigInteger execFeeFactor;
+    private BigInteger storagePrice;
+
+    /**
+     * Constructs a profiler.
+     *
+     * @param neow3j the {@link Neow3j} instance to use for the invocations.
+     */
+    public InvocationProfiler(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Sets the number of bytes by which the storage keys are grouped. Defaults to {@value DEFAULT_PREFIX_LENGTH}.
+     *
+     * @param prefixLength the prefix length.
+     * @return this.
+     */
+    public InvocationProfiler prefixLength(int prefixLength) {
+        if (prefixLength < 0) {
+            throw new IllegalArgumentException("The prefix length must not be negative.");
+        }
+        this.prefixLength = prefixLength;
+        return this;
+    }
+
+    /**
+     * Sets the fee factors to use instead of fetching them from the Policy contract.
+     *
+     * @param execFeeFactor the execution fee factor.
+     * @param storagePrice  the storage price per byte.
+     * @return this.
+     */
+    public InvocationProfiler feeFactors(BigInteger execFeeFactor, BigInteger storagePrice) {
+        this.execFeeFactor = execFeeFactor;
+        this.storagePrice = storagePrice;
+        return this;
+    }
+
+    /**
+     * Profiles the invocation of a contract function.
+     *
+     * @param contract the script hash of the contract.
+     * @param function the function to invoke.
+     * @param params   the parameters of the function.
+     * @param signers  the signers of the invocation.
+     * @return the profile.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public InvocationProfile profile(Hash160 contract, String function, List<ContractParameter> params,
+            Signer... signers) throws IOException {
+
+        return profile(neow3j.invokeFunctionDiagnostics(contract, function, params, signers).send()
+                .getInvocationResult());
+    }
+
+    /**
+     * Profiles the invocation of a script.
+     *
+     * @param script  the script.
+     * @param signers the signers of the invocation.
+     * @return the profile.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public InvocationProfile profile(byte[] script, Signer... signers) throws IOException {
+        return profile(neow3j.invokeScriptDiagnostics(toHexStringNoPrefix(script), signers).send()
+                .getInvocationResult());
+    }
+
+    /**
+     * Profiles an invocation that was run with diagnostics enabled.
+     *
+     * @param result the result of the invocation.
+     * @return the profile.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public InvocationProfile profile(InvocationResult result) throws IOException {
+        Diagnostics diagnostics = result.getDiagnostics();
+        if (diagnostics == null) {
+            throw new IllegalArgumentException("The invocation result does not contain diagnostics.");
+        }
+        fetchFeeFactorsIfMissing();
+        BigInteger syscallFee = SYSCALL_PRICE.multiply(execFeeFactor);
+
+        Map<Hash160, ContractUsage> contracts = new LinkedHashMap<>();
+        Map<Hash160, String> paths = new LinkedHashMap<>();
+        Diagnostics.InvokedContract root = diagnostics.getInvokedContracts();
+        collectCalls(root, "", contracts, paths);
+        String rootPath = root == null ? "script" : frame(root.getHash());
+
+        for (Notification notification : result.getNotifications()) {
+            ContractUsage usage = usage(contracts, paths, rootPath, notification.getContract());
+            usage.notifications++;
+            if (!NATIVE_CONTRACTS.contains(notification.getContract())) {
+                usage.syscallGas = usage.syscallGas.add(syscallFee);
+            }
+        }
+
+        Map<String, PrefixUsage> prefixes = new LinkedHashMap<>();
+        for (Diagnostics.StorageChange change : diagnostics.getStorageChanges()) {
+            byte[] storageKey = Base64.decode(change.getKey());
+            int contractId = contractId(storageKey);
+            Hash160 contract = resolveContract(contractId);
+            int keyLength = storageKey.length - 4;
+            int valueLength = change.getValue() == null ? 0 : Base64.decode(change.getValue()).length;
+            String prefix = toHexString(storageKey, 4, Math.min(prefixLength, keyLength), false);
+
+            ContractUsage usage = usage(contracts, paths, rootPath, contract);
+            PrefixUsage prefixUsage =
+                    prefixes.computeIfAbsent(contract + prefix, k -> new PrefixUsage(contract, prefix));
+            long bytes;
+            long chargedBytes;
+            if (DELETED.equals(change.getState())) {
+                usage.deleted++;
+                prefixUsage.deleted++;
+                bytes = 0;
+                chargedBytes = 0;
+            } else if (CHANGED.equals(change.getState())) {
+                usage.changed++;
+                prefixUsage.changed++;
+                bytes = valueLength;
+                // The lowest fee, which applies if the new value is not longer than the old one. The Neo node
+                // computes it with truncating division, which yields 1 for an empty value.
+                chargedBytes = (valueLength - 1) / 4 + 1;
+            } else if (ADDED.equals(change.getState())) {
+                usage.added++;
+                prefixUsage.added++;
+                bytes = keyLength + valueLength;
+                chargedBytes = bytes;
+            } else {
+                continue;
+            }
+            usage.bytesWritten += bytes;
+            prefixUsage.bytesWritten += bytes;
+            // Native contracts have negative ids.
+            if (contractId >= 0) {
+                BigInteger storageGas = storagePrice.multiply(BigInteger.valueOf(chargedBytes));
+                usage.storageGas = usage.storageGas.add(storageGas);
+                usage.syscallGas = usage.syscallGas.add(syscallFee);
+                prefixUsage.storageGas = prefixUsage.storageGas.add(storageGas);
+            }
+        }
+
+        List<String> foldedStacks = new ArrayList<>();
+        BigInteger unattributed = contracts.values().stream()
+                .map(ContractUsage::getAttributedGas)
+                .reduce(new BigInteger(result.getGasConsumed()), BigInteger::subtract);
+        foldedStacks.add(rootPath + " " + unattributed.max(BigInteger.ZERO));
+        for (ContractUsage usage : contracts.values()) {
+            if (usage.getAttributedGas().signum() > 0) {
+                foldedStacks.add(paths.get(usage.getContract()) + " " + usage.getAttributedGas());
+            }
+        }
+        return new InvocationProfile(result, contracts, InvocationProfile.sorted(prefixes.values()), foldedStacks);
+    }
+
+    private void fetchFeeFactorsIfMissing() throws IOException {
+        if (execFeeFactor == null || storagePrice == null) {
+            PolicyContract policy = new PolicyContract(neow3j);
+            execFeeFactor = policy.getExecFeeFactor();
+            storagePrice = policy.getStoragePrice();
+        }
+    }
+
+    // Records each contract of the call tree with the path of its first occurrence. The root is the invocation script,
+    // which is not a contract.
+    private static void collectCalls(Diagnostics.InvokedContract call, String parentPath,
+            Map<Hash160, ContractUsage> contracts, Map<Hash160, String> paths) {
+
+        if (call == null) {
+            return;
+        }
+        String path = parentPath.isEmpty() ? frame(call.getHash()) : parentPath + ";" + frame(call.getHash());
+        if (!parentPath.isEmpty()) {
+            contracts.computeIfAbsent(call.getHash(), ContractUsage::new).calls++;
+            paths.putIfAbsent(call.getHash(), path);
+        }
+        for (Diagnostics.InvokedContract child : call.getInvokedContracts()) {
+            collectCalls(child, path, contracts, paths);
+        }
+    }
+
+    // Contracts that are not in the call tree, e.g., native contracts called by the system, are put below the root.
+    private static ContractUsage usage(Map<Hash160, ContractUsage> contracts, Map<Hash160, String> paths,
+            String rootPath, Hash160 contract) {
+
+        paths.putIfAbsent(contract, rootPath + ";" + frame(contract));
+        return contracts.computeIfAbsent(contract, ContractUsage::new);
+    }
+
+    private static String frame(Hash160 hash) {
+        return "0x" + hash;
+    }
+
+    private static int contractId(byte[] storageKey) {
+        return (storageKey[0] & 0xff) | (storageKey[1] & 0xff) << 8 | (storageKey[2] & 0xff) << 16
+                | (storageKey[3] & 0xff) << 24;
+    }
+
+    private Hash160 resolveContract(int id) throws IOException {
+        Hash160 hash = contractHashes.get(id);
+        if (hash == null) {
+            NeoGetContractState response = neow3j.getContractState(BigInteger.valueOf(id)).send();
+            response.throwOnError();
+            hash = response.getContractState().getHash();
+            contractHashes.put(id, hash);
+        }
+        return hash;
+    }
+
+}
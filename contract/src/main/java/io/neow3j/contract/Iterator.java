@@ -3,11 +3,13 @@ package io.neow3j.contract;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.stackitem.StackItem;
 import io.neow3j.types.StackItemType;
+import io.reactivex.Flowable;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This class represents an iterator for stack items of the type {@link StackItemType#INTEROP_INTERFACE}.
@@ -72,6 +74,43 @@ public class Iterator<T> {
                 .stream().map(mapper).collect(Collectors.toList());
     }
 
+    /**
+     * Gets a lazily evaluated stream over the remaining items of this iterator.
+     * <p>
+     * The items are fetched in pages of {@code pageSize} items. The next page is requested while the items of the
+     * current page are consumed. The session is terminated as soon as all items are read, when fetching a page
+     * fails or when the stream is closed. Thus, close the stream if it is not consumed completely, e.g., by using it
+     * in a try-with-resources statement.
+     * <p>
+     * Errors while fetching a page are thrown as {@link java.io.UncheckedIOException}.
+     *
+     * @param pageSize the number of items per traverse request. Must not exceed the Neo node's configured maximum.
+     * @return the stream of iterator items.
+     */
+    public Stream<T> stream(int pageSize) {
+        return pageReader(pageSize).stream();
+    }
+
+    /**
+     * Gets a {@link Flowable} that emits the remaining items of this iterator.
+     * <p>
+     * The items are fetched in pages of {@code pageSize} items. The next page is requested while the items of the
+     * current page are emitted. The session is terminated as soon as all items are emitted, when fetching a page
+     * fails or when the subscription is cancelled.
+     * <p>
+     * Since the iterator session can only be traversed once, the returned flowable should only be subscribed to once.
+     *
+     * @param pageSize the number of items per traverse request. Must not exceed the Neo node's configured maximum.
+     * @return the flowable of iterator items.
+     */
+    public Flowable<T> flowable(int pageSize) {
+        return IteratorPageReader.flowable(() -> pageReader(pageSize));
+    }
+
+    IteratorPageReader<T> pageReader(int pageSize) {
+        return new IteratorPageReader<>((offset, count) -> traverse(count), pageSize, this::terminateSession);
+    }
+
     /**
      * Terminates the session on the Neo node.
      *
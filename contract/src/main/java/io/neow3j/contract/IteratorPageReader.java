@@ -0,0 +1,182 @@
+package io.neow3j.contract;
+
+import io.neow3j.utils.Async;
+import io.reactivex.Flowable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Reads the items of an iterator page by page and requests the next page while the current one is consumed.
+ * <p>
+ * A page that holds less items than the page size marks the end of the iterator. The close action is run as soon as
+ * the end is reached, when fetching a page fails or when the reader is closed explicitly.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @param <T> the type of the iterator items.
+ */
+class IteratorPageReader<T> implements java.util.Iterator<T>, AutoCloseable {
+
+    /**
+     * Fetches a page of iterator items.
+     *
+     * @param <T> the type of the iterator items.
+     */
+    @FunctionalInterface
+    interface PageFetcher<T> {
+
+        List<T> fetch(int offset, int count) throws IOException;
+
+    }
+
+    /**
+     * Releases the resources on the Neo node, e.g., terminates the iterator session.
+     */
+    @FunctionalInterface
+    interface CloseAction {
+
+        void close() throws IOException;
+
+    }
+
+    private final PageFetcher<T> fetcher;
+    private final CloseAction closeAction;
+    private final int pageSize;
+
+    private List<T> page = Collections.emptyList();
+    private int position;
+    private int nextOffset;
+    private CompletableFuture<List<T>> nextPage;
+    private boolean closed;
+
+    IteratorPageReader(PageFetcher<T> fetcher, int pageSize, CloseAction closeAction) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException(format("The page size must be greater than 0 but was %s.", pageSize));
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.closeAction = closeAction;
+        this.nextPage = fetchNextPage();
+    }
+
+    private CompletableFuture<List<T>> fetchNextPage() {
+        int offset = nextOffset;
+        nextOffset += pageSize;
+        return Async.run(() -> fetcher.fetch(offset, pageSize));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < page.size()) {
+            return true;
+        }
+        if (nextPage == null) {
+            return false;
+        }
+        page = awaitNextPage();
+        position = 0;
+        if (page.size() < pageSize) {
+            close();
+        } else {
+            nextPage = fetchNextPage();
+        }
+        return !page.isEmpty();
+    }
+
+    private List<T> awaitNextPage() {
+        try {
+            return nextPage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw closeOnError(new IllegalStateException("Interrupted while fetching the iterator items.", e));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw closeOnError(new UncheckedIOException((IOException) cause));
+            }
+            if (cause instanceof RuntimeException) {
+                throw closeOnError((RuntimeException) cause);
+            }
+            throw closeOnError(new IllegalStateException(cause));
+        }
+    }
+
+    private RuntimeException closeOnError(RuntimeException error) {
+        try {
+            close();
+        } catch (RuntimeException e) {
+            error.addSuppressed(e);
+        }
+        return error;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(position++);
+    }
+
+    /**
+     * @return a sequential stream over the remaining items that runs the close action when it is closed.
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Creates a flowable that opens a new reader for each subscriber and emits its items. The reader is closed when
+     * all items are emitted, when reading fails or when the subscription is cancelled.
+     *
+     * @param readerSupplier opens the reader.
+     * @param <T>            the type of the iterator items.
+     * @return the flowable.
+     */
+    static <T> Flowable<T> flowable(Callable<IteratorPageReader<T>> readerSupplier) {
+        return Flowable.generate(readerSupplier, (reader, emitter) -> {
+            if (reader.hasNext()) {
+                emitter.onNext(reader.next());
+            } else {
+                emitter.onComplete();
+            }
+        }, IteratorPageReader::close);
+    }
+
+    /**
+     * Stops fetching pages and runs the close action if it has not run yet.
+     *
+     * @throws UncheckedIOException if the close action fails.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+        try {
+            closeAction.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
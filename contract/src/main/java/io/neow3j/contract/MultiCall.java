@@ -0,0 +1,374 @@
+package io.neow3j.contract;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.core.response.NeoInvokeScript;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.protocol.exceptions.InvocationFaultStateException;
+import io.neow3j.protocol.exceptions.StackItemCastException;
+import io.neow3j.script.OpCode;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.types.CallFlags;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.Hash160;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.neow3j.utils.Numeric.toHexString;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Executes many read-only contract calls with a few {@code invokescript} requests.
+ * <p>
+ * The calls are packed into scripts of at most {@link #maxCallsPerBatch(int)} calls. Each call is wrapped in a
+ * try-catch block on the NeoVM, so that a faulting call does not affect the other calls in the same script. The
+ * scripts of all batches are sent in one JSON-RPC batch request by default. With {@link #scriptsPerRequest(int)} and
+ * {@link #maxConcurrency(int)}, they are distributed over several JSON-RPC batch requests that are sent concurrently.
+ * <p>
+ * If a script exceeds the limits of the Neo node or the NeoVM, e.g., the maximum GAS per invocation or the maximum
+ * stack size, it is split in half and the halves are executed again until each call is executed.
+ * <pre>{@code
+ * MultiCall multiCall = new MultiCall(neow3j);
+ * MultiCall.Call<BigInteger> balance = multiCall.add(token, "balanceOf", asList(hash160(account)),
+ *         StackItem::getInteger);
+ * MultiCall.Call<String> symbol = multiCall.add(token, "symbol", new ArrayList<>(), StackItem::getString);
+ * multiCall.execute();
+ * BigInteger value = balance.get();
+ * }</pre>
+ */
+public class MultiCall {
+
+    public static final int DEFAULT_MAX_CALLS_PER_BATCH = 100;
+
+    // Size of the TRY_L and ENDTRY_L instructions.
+    private static final int TRY_L_SIZE = 9;
+    private static final int ENDTRY_L_SIZE = 5;
+
+    private final Neow3j neow3j;
+    private final List<Call<?>> calls = new ArrayList<>();
+    private int maxCallsPerBatch = DEFAULT_MAX_CALLS_PER_BATCH;
+    private int scriptsPerRequest = Integer.MAX_VALUE;
+    private int maxConcurrency = 1;
+
+    /**
+     * Creates an empty multi call.
+     *
+     * @param neow3j the {@link Neow3j} instance to use for the invocations.
+     */
+    public MultiCall(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Sets the maximum number of calls that are packed into one script.
+     * <p>
+     * The number of calls is limited so that the results of a script stay within the NeoVM's stack size limit.
+     * Scripts that still exceed a limit are split automatically. Defaults to {@link #DEFAULT_MAX_CALLS_PER_BATCH}.
+     *
+     * @param maxCallsPerBatch the maximum number of calls per script.
+     * @return this.
+     */
+    public MultiCall maxCallsPerBatch(int maxCallsPerBatch) {
+        if (maxCallsPerBatch < 1) {
+            throw new IllegalArgumentException("The maximum number of calls per batch must be at least 1.");
+        }
+        this.maxCallsPerBatch = maxCallsPerBatch;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of scripts that are sent in one JSON-RPC batch request.
+     * <p>
+     * By default, all scripts are sent in one JSON-RPC batch request.
+     *
+     * @param scriptsPerRequest the maximum number of scripts per JSON-RPC batch request.
+     * @return this.
+     */
+    public MultiCall scriptsPerRequest(int scriptsPerRequest) {
+        if (scriptsPerRequest < 1) {
+            throw new IllegalArgumentException("The number of scripts per request must be at least 1.");
+        }
+        this.scriptsPerRequest = scriptsPerRequest;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of JSON-RPC batch requests that are sent concurrently. Defaults to 1.
+     *
+     * @param maxConcurrency the maximum number of concurrent requests.
+     * @return this.
+     */
+    public MultiCall maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Adds a call whose result is decoded with the given function.
+     *
+     * @param contract the script hash of the contract to call.
+     * @param function the function to call.
+     * @param params   the parameters of the call.
+     * @param decoder  the function that decodes the returned stack item.
+     * @param <T>      the type of the decoded result.
+     * @return the call. Its result is available after {@link #execute()}.
+     */
+    public <T> Call<T> add(Hash160 contract, String function, List<ContractParameter> params,
+            Function<StackItem, T> decoder) {
+
+        if (function == null || function.isEmpty()) {
+            throw new IllegalArgumentException("The invocation function must not be null or empty.");
+        }
+        Call<T> call = new Call<>(contract, function, params, decoder);
+        calls.add(call);
+        return call;
+    }
+
+    /**
+     * Adds a call whose result is the returned stack item.
+     *
+     * @param contract the script hash of the contract to call.
+     * @param function the function to call.
+     * @param params   the parameters of the call.
+     * @return the call. Its result is available after {@link #execute()}.
+     */
+    public Call<StackItem> add(Hash160 contract, String function, ContractParameter... params) {
+        return add(contract, function, asList(params), i -> i);
+    }
+
+    /**
+     * @return the calls in the order they were added.
+     */
+    public List<Call<?>> getCalls() {
+        return unmodifiableList(calls);
+    }
+
+    /**
+     * Executes all calls that have not been executed yet.
+     * <p>
+     * A call that faults on its own is marked as faulted and does not affect the other calls.
+     *
+     * @return this.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public MultiCall execute() throws IOException {
+        List<Call<?>> pendingCalls = calls.stream().filter(c -> !c.isExecuted()).collect(Collectors.toList());
+        List<List<Call<?>>> batches = new ArrayList<>();
+        for (int i = 0; i < pendingCalls.size(); i += maxCallsPerBatch) {
+            batches.add(pendingCalls.subList(i, Math.min(i + maxCallsPerBatch, pendingCalls.size())));
+        }
+        while (!batches.isEmpty()) {
+            List<Request<?, NeoInvokeScript>> requests = batches.stream()
+                    .map(b -> neow3j.invokeScript(toHexString(buildScript(b))))
+                    .collect(Collectors.toList());
+            List<NeoInvokeScript> responses = requests.size() == 1
+                    ? singletonList(requests.get(0).send())
+                    : Request.sendBatches(requests, scriptsPerRequest, maxConcurrency);
+            List<List<Call<?>>> splitBatches = new ArrayList<>();
+            for (int i = 0; i < batches.size(); i++) {
+                responses.get(i).throwOnError();
+                handleResult(batches.get(i), responses.get(i).getInvocationResult(), splitBatches);
+            }
+            batches = splitBatches;
+        }
+        return this;
+    }
+
+    private void handleResult(List<Call<?>> batch, InvocationResult result, List<List<Call<?>>> splitBatches) {
+        if (result.hasStateFault()) {
+            // The faults of single calls are caught in the script. Thus, the script exceeded a limit.
+            if (batch.size() == 1) {
+                batch.get(0).fail(result.getException());
+            } else {
+                int half = batch.size() / 2;
+                splitBatches.add(batch.subList(0, half));
+                splitBatches.add(batch.subList(half, batch.size()));
+            }
+            return;
+        }
+        List<StackItem> results = result.getFirstStackItem().getList();
+        if (results.size() != batch.size()) {
+            throw new IllegalStateException(format("Expected %s results but the invocation returned %s.",
+                    batch.size(), results.size()));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            List<StackItem> outcome = results.get(i).getList();
+            if (outcome.get(0).getBoolean()) {
+                batch.get(i).complete(outcome.get(1));
+            } else {
+                batch.get(i).fail(toExceptionMessage(outcome.get(1)));
+            }
+        }
+    }
+
+    // Contracts may throw any stack item. Usually, it is a string.
+    private static String toExceptionMessage(StackItem exception) {
+        try {
+            return exception.getString();
+        } catch (StackItemCastException e) {
+            return exception.toString();
+        }
+    }
+
+    /**
+     * Builds a script that executes the given calls and returns an array with one entry per call.
+     * <p>
+     * Each entry is an array of two items. The first item is {@code true} if the call succeeded. The second item is
+     * either the returned stack item or the exception message of the failed call.
+     *
+     * @param calls the calls.
+     * @return the script.
+     */
+    public static byte[] buildScript(List<Call<?>> calls) {
+        ScriptBuilder b = new ScriptBuilder();                   // Stack state after opcode execution (top to bottom).
+        b.opCode(OpCode.NEWARRAY0);                              // Stack: results
+        for (Call<?> call : calls) {
+            int callLength = new ScriptBuilder()
+                    .contractCall(call.contract, call.function, call.params, CallFlags.READ_ONLY)
+                    .toArray().length;
+            // Jump offsets are relative to the start of the jump instruction.
+            int catchOffset = TRY_L_SIZE + callLength + 1 + ENDTRY_L_SIZE;
+            int endOffset = ENDTRY_L_SIZE + 1 + ENDTRY_L_SIZE;
+
+            b.opCode(OpCode.DUP);                                // Stack: results, results
+            b.opCode(OpCode.TRY_L, int32Operands(catchOffset, 0));
+            // ### Try block ###
+            b.contractCall(call.contract, call.function, call.params,
+                    CallFlags.READ_ONLY);                        // Stack: value, results, results
+            b.opCode(OpCode.PUSHT);                              // Stack: true, value, results, results
+            b.opCode(OpCode.ENDTRY_L, int32Operands(endOffset));
+            // ### Catch block ###
+            // The VM pushes the exception.                      // Stack: exception, results, results
+            b.opCode(OpCode.PUSHF);                              // Stack: false, exception, results, results
+            b.opCode(OpCode.ENDTRY_L, int32Operands(ENDTRY_L_SIZE));
+            // ### End of try-catch ###
+            b.opCode(OpCode.PUSH2, OpCode.PACK);                 // Stack: [success, item], results, results
+            b.opCode(OpCode.APPEND);                             // Stack: results
+        }
+        return b.toArray();
+    }
+
+    private static byte[] int32Operands(int... operands) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 * operands.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (int operand : operands) {
+            buffer.putInt(operand);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * A contract call of a {@link MultiCall}.
+     *
+     * @param <T> the type of the decoded result.
+     */
+    public static class Call<T> {
+
+        private final Hash160 contract;
+        private final String function;
+        private final List<ContractParameter> params;
+        private final Function<StackItem, T> decoder;
+
+        private boolean executed;
+        private StackItem stackItem;
+        private String exception;
+
+        private Call(Hash160 contract, String function, List<ContractParameter> params,
+                Function<StackItem, T> decoder) {
+            this.contract = contract;
+            this.function = function;
+            this.params = params;
+            this.decoder = decoder;
+        }
+
+        private void complete(StackItem stackItem) {
+            this.stackItem = stackItem;
+            this.executed = true;
+        }
+
+        private void fail(String exception) {
+            this.exception = exception;
+            this.executed = true;
+        }
+
+        /**
+         * @return the script hash of the called contract.
+         */
+        public Hash160 getContract() {
+            return contract;
+        }
+
+        /**
+         * @return the called function.
+         */
+        public String getFunction() {
+            return function;
+        }
+
+        /**
+         * @return the parameters of the call.
+         */
+        public List<ContractParameter> getParams() {
+            return params;
+        }
+
+        /**
+         * @return true if the call has been executed. False, otherwise.
+         */
+        public boolean isExecuted() {
+            return executed;
+        }
+
+        /**
+         * @return true if the call has been executed and resulted in a fault. False, otherwise.
+         */
+        public boolean hasFault() {
+            return executed && stackItem == null;
+        }
+
+        /**
+         * @return the exception message if the call resulted in a fault. Null, otherwise.
+         */
+        public String getException() {
+            return exception;
+        }
+
+        /**
+         * @return the returned stack item or null if the call has not been executed or resulted in a fault.
+         */
+        public StackItem getStackItem() {
+            return stackItem;
+        }
+
+        /**
+         * Gets the decoded result of the call.
+         *
+         * @return the decoded result.
+         * @throws IllegalStateException         if the call has not been executed yet.
+         * @throws InvocationFaultStateException if the call resulted in a fault.
+         */
+        public T get() {
+            if (!executed) {
+                throw new IllegalStateException("The call has not been executed yet.");
+            }
+            if (stackItem == null) {
+                throw new InvocationFaultStateException(exception);
+            }
+            return decoder.apply(stackItem);
+        }
+
+    }
+
+}
@@ -0,0 +1,218 @@
+package io.neow3j.contract;
+
+import io.neow3j.contract.exceptions.UnresolvableDomainNameException;
+import io.neow3j.contract.types.NNSName;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.RecordType;
+import io.neow3j.protocol.core.response.RecordState;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.protocol.exceptions.InvocationFaultStateException;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.neow3j.types.ContractParameter.integer;
+import static io.neow3j.types.ContractParameter.string;
+import static java.util.Arrays.asList;
+
+/**
+ * Caches the records of NNS domain names and resolves them locally.
+ * <p>
+ * All records of a domain name are fetched with one request and cached for a configurable time. Resolving a record
+ * type of a cached domain name does not require a request. If the domain name has no record of the requested type but
+ * a {@link RecordType#CNAME} record, the target domain name is resolved the same way. Like the NNS contract, at most
+ * {@value MAX_REDIRECTS} redirects are followed.
+ * <p>
+ * The records of this NNS contract version have no time to live of their own. Thus, the time for which records are
+ * cached should be chosen according to how often the records of the resolved names change.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class NNSResolutionCache {
+
+    /**
+     * The default time in milliseconds for which the records of a domain name are cached.
+     */
+    public static final long DEFAULT_TTL = 60_000;
+
+    private static final int MAX_REDIRECTS = 2;
+    private static final String RESOLVE = "resolve";
+
+    private final Neow3j neow3j;
+    private final NeoNameService nameService;
+    private final long ttl;
+    private final Map<String, Expiring<List<RecordState>>> records = new ConcurrentHashMap<>();
+    // Results of bulk resolutions, keyed by record type and domain name.
+    private final Map<RecordType, Map<String, Expiring<String>>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a cache for the NNS contract configured in the given {@link Neow3j} instance. Caches the records for
+     * {@value DEFAULT_TTL} milliseconds.
+     *
+     * @param neow3j the {@link Neow3j} instance to use for invocations.
+     */
+    public NNSResolutionCache(Neow3j neow3j) {
+        this(neow3j, DEFAULT_TTL);
+    }
+
+    /**
+     * Constructs a cache for the NNS contract configured in the given {@link Neow3j} instance.
+     *
+     * @param neow3j the {@link Neow3j} instance to use for invocations.
+     * @param ttl    the time in milliseconds for which the records of a domain name are cached.
+     */
+    public NNSResolutionCache(Neow3j neow3j, long ttl) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("The time to live must not be negative.");
+        }
+        this.neow3j = neow3j;
+        this.nameService = new NeoNameService(neow3j);
+        this.ttl = ttl;
+    }
+
+    /**
+     * Resolves a domain name.
+     *
+     * @param name the domain name.
+     * @param type the record type.
+     * @return the resolution result.
+     * @throws IOException                     if there was a problem fetching information from the Neo node.
+     * @throws UnresolvableDomainNameException if the domain name could not be resolved.
+     */
+    public String resolve(NNSName name, RecordType type) throws IOException, UnresolvableDomainNameException {
+        Map<String, Expiring<String>> typeResults = resolved.get(type);
+        Expiring<String> result = typeResults == null ? null : typeResults.get(name.getName());
+        if (result != null && !result.isExpired()) {
+            return result.value;
+        }
+        return resolve(name, type, MAX_REDIRECTS)
+                .orElseThrow(() -> new UnresolvableDomainNameException(name.getName()));
+    }
+
+    private Optional<String> resolve(NNSName name, RecordType type, int redirects) throws IOException {
+        List<RecordState> nameRecords;
+        try {
+            nameRecords = getRecords(name);
+        } catch (InvocationFaultStateException e) {
+            // The domain name is not registered or expired.
+            return Optional.empty();
+        }
+        Optional<RecordState> record = nameRecords.stream().filter(r -> r.getRecordType() == type).findFirst();
+        if (record.isPresent()) {
+            return Optional.of(record.get().getData());
+        }
+        Optional<RecordState> cname = nameRecords.stream()
+                .filter(r -> r.getRecordType() == RecordType.CNAME)
+                .findFirst();
+        if (!cname.isPresent() || redirects == 0) {
+            return Optional.empty();
+        }
+        return resolve(new NNSName(cname.get().getData()), type, redirects - 1);
+    }
+
+    /**
+     * Gets all records of the domain name.
+     * <p>
+     * The records are fetched with {@link NeoNameService#getAllRecordsUnwrapped(NNSName)} and thus also work with Neo
+     * nodes that have sessions disabled.
+     *
+     * @param name the domain name.
+     * @return the records of the domain name.
+     * @throws IOException                   if there was a problem fetching information from the Neo node.
+     * @throws InvocationFaultStateException if the domain name is not registered.
+     */
+    public List<RecordState> getRecords(NNSName name) throws IOException {
+        Expiring<List<RecordState>> cached = records.get(name.getName());
+        if (cached != null && !cached.isExpired()) {
+            return cached.value;
+        }
+        List<RecordState> nameRecords = nameService.getAllRecordsUnwrapped(name);
+        records.put(name.getName(), expiring(nameRecords));
+        return nameRecords;
+    }
+
+    /**
+     * Resolves many domain names with one {@code invokescript} request.
+     * <p>
+     * The domain names that are not cached are resolved by the NNS contract in one {@link MultiCall}. The results are
+     * cached for the time to live of this cache.
+     *
+     * @param names the domain names.
+     * @param type  the record type.
+     * @return the resolution results by domain name. Domain names that could not be resolved are not contained.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public Map<NNSName, String> resolveAll(List<NNSName> names, RecordType type) throws IOException {
+        Map<String, Expiring<String>> typeResults = resolved.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        Map<NNSName, String> results = new LinkedHashMap<>();
+        MultiCall multiCall = new MultiCall(neow3j);
+        Map<NNSName, MultiCall.Call<String>> calls = new LinkedHashMap<>();
+        for (NNSName name : names) {
+            Expiring<String> cached = typeResults.get(name.getName());
+            if (cached != null && !cached.isExpired()) {
+                results.put(name, cached.value);
+            } else {
+                calls.put(name, multiCall.add(nameService.getScriptHash(), RESOLVE,
+                        asList(string(name.getName()), integer(type.byteValue())), StackItem::getString));
+            }
+        }
+        if (calls.isEmpty()) {
+            return results;
+        }
+        multiCall.execute();
+        calls.forEach((name, call) -> {
+            try {
+                String value = call.get();
+                typeResults.put(name.getName(), expiring(value));
+                results.put(name, value);
+            } catch (RuntimeException ignored) {
+                // The name is not registered or has no record of the type.
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Removes the cached records and resolution results of the given domain name.
+     *
+     * @param name the domain name.
+     */
+    public void invalidate(NNSName name) {
+        records.remove(name.getName());
+        resolved.values().forEach(m -> m.remove(name.getName()));
+    }
+
+    /**
+     * Removes all cached records and resolution results.
+     */
+    public void clear() {
+        records.clear();
+        resolved.clear();
+    }
+
+    private <T> Expiring<T> expiring(T value) {
+        long now = System.currentTimeMillis();
+        return new Expiring<>(value, ttl > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttl);
+    }
+
+    private static class Expiring<T> {
+
+        private final T value;
+        private final long expiry;
+
+        private Expiring(T value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiry;
+        }
+
+    }
+
+}
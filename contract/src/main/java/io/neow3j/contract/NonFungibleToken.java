@@ -14,7 +14,9 @@ import io.neow3j.wallet.Account;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.neow3j.transaction.AccountSigner.calledByEntry;
@@ -22,6 +24,7 @@ import static io.neow3j.types.ContractParameter.byteArray;
 import static io.neow3j.types.ContractParameter.hash160;
 import static io.neow3j.types.ContractParameter.integer;
 import static io.neow3j.types.StackItemType.ANY;
+import static io.neow3j.types.StackItemType.INTEGER;
 import static io.neow3j.types.StackItemType.MAP;
 import static java.util.Arrays.asList;
 
@@ -38,6 +41,10 @@ public class NonFungibleToken extends Token {
     private static final String TOKENS = "tokens";
     private static final String PROPERTIES = "properties";
 
+    // The number of calls per script of bulk queries and the number of scripts that are sent concurrently.
+    private static final int BULK_CALLS_PER_SCRIPT = 50;
+    private static final int BULK_MAX_CONCURRENCY = 4;
+
     /**
      * Constructs a new {@code NFT} representing the contract with the given script hash. Uses the given
      * {@link Neow3j} instance for all invocations.
@@ -49,6 +56,18 @@ public class NonFungibleToken extends Token {
         super(scriptHash, neow);
     }
 
+    /**
+     * Constructs a new {@code NFT} representing the contract with the given script hash. Uses the given
+     * {@link Neow3j} instance for all invocations and the given registry for the token's metadata.
+     *
+     * @param scriptHash       the token contract's script hash.
+     * @param neow             the {@link Neow3j} instance to use for invocations.
+     * @param metadataRegistry the registry to use for the token's metadata or null to cache it in this instance.
+     */
+    public NonFungibleToken(Hash160 scriptHash, Neow3j neow, TokenMetadataRegistry metadataRegistry) {
+        super(scriptHash, neow, metadataRegistry);
+    }
+
     // region Token methods
 
     /**
@@ -626,5 +645,118 @@ public class NonFungibleToken extends Token {
     }
 
     // endregion Optional methods
+    // region Bulk queries
+
+    /**
+     * Gets the owners of the tokens with the given ids.
+     * <p>
+     * All owners are fetched with one {@link MultiCall}, i.e., with as few {@code invokescript} requests as the limits
+     * of the Neo node allow. The calls are split into scripts of a fixed size. Scripts that exceed the GAS or stack
+     * limits of the Neo node are split further. The scripts are sent concurrently.
+     * <p>
+     * This method is intended to be used for non-divisible NFTs only.
+     *
+     * @param tokenIds the token ids.
+     * @return the calls in the order of the token ids. A call results in a fault if its token does not exist.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public List<MultiCall.Call<Hash160>> ownerOf(List<byte[]> tokenIds) throws IOException {
+        throwIfDivisibleNFT();
+        return bulkCall(OWNER_OF, tokenIds.stream()
+                .map(id -> asList(byteArray(id)))
+                .collect(Collectors.toList()), SmartContract::extractScriptHash);
+    }
+
+    /**
+     * Gets the balances of the tokens with the given ids for the given account.
+     * <p>
+     * All balances are fetched with one {@link MultiCall}. See {@link #ownerOf(List)} for how the calls are split
+     * into requests.
+     * <p>
+     * This method is intended to be used for divisible NFTs only.
+     *
+     * @param owner    the script hash of the account to fetch the balances for.
+     * @param tokenIds the token ids.
+     * @return the calls in the order of the token ids. Their results are the balances in token fractions.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public List<MultiCall.Call<BigInteger>> balanceOf(Hash160 owner, List<byte[]> tokenIds) throws IOException {
+        throwIfNonDivisibleNFT();
+        return bulkCall(BALANCE_OF, tokenIds.stream()
+                .map(id -> asList(hash160(owner), byteArray(id)))
+                .collect(Collectors.toList()), NonFungibleToken::extractInteger);
+    }
+
+    /**
+     * Gets the properties of the tokens with the given ids.
+     * <p>
+     * All properties are fetched with one {@link MultiCall}. See {@link #ownerOf(List)} for how the calls are split
+     * into requests.
+     * <p>
+     * This method is optional for the NEP-11 standard.
+     * <p>
+     * Use this method if the tokens' properties only contain {@code String} values. For custom value types, use the
+     * method {@link #customProperties(List) customProperties}.
+     *
+     * @param tokenIds the token ids.
+     * @return the calls in the order of the token ids.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public List<MultiCall.Call<Map<String, String>>> properties(List<byte[]> tokenIds) throws IOException {
+        return bulkCall(PROPERTIES, tokenIds.stream()
+                .map(id -> asList(byteArray(id)))
+                .collect(Collectors.toList()), item -> deserializeProperties(extractMap(item)));
+    }
+
+    /**
+     * Gets the properties of the tokens with the given ids.
+     * <p>
+     * All properties are fetched with one {@link MultiCall}. See {@link #ownerOf(List)} for how the calls are split
+     * into requests.
+     * <p>
+     * This method is optional for the NEP-11 standard.
+     * <p>
+     * Use this method to handle custom value types in the tokens' property values.
+     *
+     * @param tokenIds the token ids.
+     * @return the calls in the order of the token ids.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public List<MultiCall.Call<Map<String, StackItem>>> customProperties(List<byte[]> tokenIds) throws IOException {
+        return bulkCall(PROPERTIES, tokenIds.stream()
+                .map(id -> asList(byteArray(id)))
+                .collect(Collectors.toList()), item -> extractMap(item).getMap().entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().getString(), Map.Entry::getValue)));
+    }
+
+    private <T> List<MultiCall.Call<T>> bulkCall(String function, List<List<ContractParameter>> params,
+            Function<StackItem, T> decoder) throws IOException {
+
+        MultiCall multiCall = new MultiCall(neow3j)
+                .maxCallsPerBatch(BULK_CALLS_PER_SCRIPT)
+                .scriptsPerRequest(1)
+                .maxConcurrency(BULK_MAX_CONCURRENCY);
+        List<MultiCall.Call<T>> calls = params.stream()
+                .map(p -> multiCall.add(scriptHash, function, p, decoder))
+                .collect(Collectors.toList());
+        multiCall.execute();
+        return calls;
+    }
+
+    private static StackItem extractMap(StackItem item) {
+        if (!item.getType().equals(MAP)) {
+            throw new UnexpectedReturnTypeException(item.getType(), MAP);
+        }
+        return item;
+    }
+
+    private static BigInteger extractInteger(StackItem item) {
+        if (!item.getType().equals(INTEGER)) {
+            throw new UnexpectedReturnTypeException(item.getType(), INTEGER);
+        }
+        return item.getInteger();
+    }
+
+    // endregion Bulk queries
 
 }
@@ -13,16 +13,20 @@ import io.neow3j.protocol.exceptions.StackItemCastException;
 import io.neow3j.script.ScriptBuilder;
 import io.neow3j.transaction.Signer;
 import io.neow3j.transaction.TransactionBuilder;
+import io.neow3j.types.CallFlags;
 import io.neow3j.types.ContractParameter;
 import io.neow3j.types.Hash160;
 import io.neow3j.types.StackItemType;
 import io.neow3j.utils.Strings;
+import io.reactivex.Flowable;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.neow3j.types.StackItemType.BOOLEAN;
 import static io.neow3j.types.StackItemType.BUFFER;
@@ -188,7 +192,7 @@ public class SmartContract {
         return extractScriptHash(stackItem);
     }
 
-    private Hash160 extractScriptHash(StackItem item) {
+    static Hash160 extractScriptHash(StackItem item) {
         if (!item.getType().equals(BYTE_STRING)) {
             throw new UnexpectedReturnTypeException(item.getType(), BYTE_STRING);
         }
@@ -356,6 +360,103 @@ public class SmartContract {
         return invocationResult.getFirstStackItem().getList();
     }
 
+    /**
+     * Calls {@code function} of this contract and returns a lazily evaluated stream over the items of the returned
+     * iterator mapped with the provided mapper function.
+     * <p>
+     * If the Neo node has iterator sessions enabled, the items are traversed in pages of {@code pageSize} items and
+     * the session is terminated as soon as all items are read, when fetching a page fails or when the stream is
+     * closed. Otherwise, the items are unwrapped on the NeoVM in pages of {@code pageSize} items. Note, that in this
+     * case the function is invoked again for every page. In both cases, the next page is requested while the items of
+     * the current page are consumed.
+     * <p>
+     * Whether sessions are enabled is fetched from the Neo node only once per {@link Neow3j} instance (see
+     * {@link Neow3j#isSessionEnabled()}). Thus, on nodes without sessions, the items are unwrapped right away without
+     * first invoking the function for a session.
+     * <p>
+     * Close the stream if it is not consumed completely, e.g., by using it in a try-with-resources statement. Errors
+     * while fetching a page are thrown as {@link java.io.UncheckedIOException}.
+     *
+     * @param mapper   the mapper function to apply on the iterator items.
+     * @param function the function to call.
+     * @param pageSize the number of items per request. It is capped to the Neo node's configured maximum of
+     *                 iterator items when traversing in a session. Must not exceed NeoVM limits when unwrapping.
+     * @param params   the contract parameters to include in the call.
+     * @param <T>      the type the iterator items are mapped to.
+     * @return the stream of iterator items.
+     * @throws IOException                   if there was a problem fetching information from the Neo node.
+     * @throws UnexpectedReturnTypeException if the returned type is not an iterator.
+     * @throws InvocationFaultStateException if the invocation results in a fault VM state.
+     */
+    public <T> Stream<T> callFunctionAndStreamIterator(Function<StackItem, T> mapper, String function, int pageSize,
+            ContractParameter... params) throws IOException {
+        return openIteratorPageReader(mapper, function, pageSize, params).stream();
+    }
+
+    /**
+     * Gets a {@link Flowable} that calls {@code function} of this contract and emits the items of the returned
+     * iterator mapped with the provided mapper function.
+     * <p>
+     * The function is called for each subscriber. The items are fetched in the same way as with
+     * {@link #callFunctionAndStreamIterator(Function, String, int, ContractParameter...)}. If the Neo node has
+     * iterator sessions enabled, the session is terminated as soon as all items are emitted, when fetching a page
+     * fails or when the subscription is cancelled.
+     *
+     * @param mapper   the mapper function to apply on the iterator items.
+     * @param function the function to call.
+     * @param pageSize the number of items per request. It is capped to the Neo node's configured maximum of
+     *                 iterator items when traversing in a session. Must not exceed NeoVM limits when unwrapping.
+     * @param params   the contract parameters to include in the call.
+     * @param <T>      the type the iterator items are mapped to.
+     * @return the flowable of iterator items.
+     */
+    public <T> Flowable<T> callFunctionAndFlowIterator(Function<StackItem, T> mapper, String function, int pageSize,
+            ContractParameter... params) {
+        return IteratorPageReader.flowable(() -> openIteratorPageReader(mapper, function, pageSize, params));
+    }
+
+    private <T> IteratorPageReader<T> openIteratorPageReader(Function<StackItem, T> mapper, String function,
+            int pageSize, ContractParameter... params) throws IOException {
+
+        if (!neow3j.isSessionEnabled()) {
+            return unwrappingPageReader(mapper, function, pageSize, params);
+        }
+        InvocationResult invocationResult = callInvokeFunction(function, asList(params)).getInvocationResult();
+        throwIfFaultState(invocationResult);
+
+        StackItem stackItem = invocationResult.getFirstStackItem();
+        if (!stackItem.getType().equals(INTEROP_INTERFACE)) {
+            throw new UnexpectedReturnTypeException(stackItem.getType(), INTEROP_INTERFACE);
+        }
+        String sessionId;
+        try {
+            sessionId = invocationResult.getSessionId();
+        } catch (IllegalStateException e) {
+            // Sessions are disabled on a Neo node that does not provide its RPC settings.
+            return unwrappingPageReader(mapper, function, pageSize, params);
+        }
+        int traversalPageSize = Math.min(pageSize, neow3j.getMaxIteratorResultItems());
+        return new Iterator<>(neow3j, sessionId, stackItem.getIteratorId(), mapper).pageReader(traversalPageSize);
+    }
+
+    private <T> IteratorPageReader<T> unwrappingPageReader(Function<StackItem, T> mapper, String function,
+            int pageSize, ContractParameter... params) {
+
+        return new IteratorPageReader<>((offset, count) -> unwrapIterator(function, asList(params), offset, count)
+                .stream().map(mapper).collect(Collectors.toList()), pageSize, () -> {
+        });
+    }
+
+    private List<StackItem> unwrapIterator(String function, List<ContractParameter> params, int iteratorOffset,
+            int maxIteratorResultItems) throws IOException {
+
+        byte[] script = ScriptBuilder.buildContractCallAndUnwrapIterator(scriptHash, function, params, CallFlags.ALL,
+                iteratorOffset, maxIteratorResultItems);
+        InvocationResult invocationResult = neow3j.invokeScript(toHexString(script)).send().getInvocationResult();
+        throwIfFaultState(invocationResult);
+        return invocationResult.getFirstStackItem().getList();
+    }
+
     /**
      * Sends an {@code invokefunction} RPC call to the given contract function.
      *
@@ -0,0 +1,312 @@
+package io.neow3j.contract;
+
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * A read-only snapshot of the storage of a contract at a state root.
+ * <p>
+ * The snapshot is stored in a file that is memory-mapped when it is opened. The entries are sorted by their keys in
+ * unsigned lexicographic order, which is also the order in which the Neo node returns them. Thus, a value is looked up
+ * with a binary search on the file without loading it into memory.
+ * <p>
+ * Snapshots are created with a {@link StorageSnapshotBuilder}. Since the file is memory-mapped, it is limited to 2 GB.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class StorageSnapshot implements Closeable {
+
+    private static final byte[] MAGIC = new byte[]{'N', '3', 'S', 'S'};
+    private static final byte VERSION = 1;
+
+    private final File path;
+    private final RandomAccessFile file;
+    private final MappedByteBuffer buffer;
+    private final Hash256 stateRoot;
+    private final Hash160 contract;
+    private final byte[] prefix;
+    private final int size;
+    private final int offsetsStart;
+
+    private StorageSnapshot(File file) throws IOException {
+        this.path = file;
+        this.file = new RandomAccessFile(file, "r");
+        try {
+            this.buffer = this.file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, this.file.length());
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || buffer.get() != VERSION) {
+                throw new IOException("The file is not a storage snapshot of a supported version.");
+            }
+            byte[] rootHash = new byte[32];
+            buffer.get(rootHash);
+            this.stateRoot = new Hash256(rootHash);
+            byte[] contractHash = new byte[20];
+            buffer.get(contractHash);
+            this.contract = new Hash160(contractHash);
+            this.prefix = new byte[buffer.getInt()];
+            buffer.get(prefix);
+            this.size = buffer.getInt();
+            this.offsetsStart = buffer.position();
+        } catch (IOException | RuntimeException e) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a snapshot file.
+     *
+     * @param file the snapshot file.
+     * @return the snapshot.
+     * @throws IOException if the file cannot be read or is not a snapshot file.
+     */
+    public static StorageSnapshot open(File file) throws IOException {
+        return new StorageSnapshot(file);
+    }
+
+    /**
+     * @return the snapshot file.
+     */
+    public File getFile() {
+        return path;
+    }
+
+    /**
+     * @return the state root at which the storage was read.
+     */
+    public Hash256 getStateRoot() {
+        return stateRoot;
+    }
+
+    /**
+     * @return the script hash of the contract.
+     */
+    public Hash160 getContract() {
+        return contract;
+    }
+
+    /**
+     * @return the key prefix that all keys of this snapshot start with.
+     */
+    public byte[] getPrefix() {
+        return prefix.clone();
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the key of the entry at the given index.
+     *
+     * @param index the index of the entry in the sorted entries.
+     * @return the key.
+     */
+    public byte[] getKey(int index) {
+        checkIndex(index);
+        return readBytes(entryOffset(index));
+    }
+
+    /**
+     * Gets the value of the entry at the given index.
+     *
+     * @param index the index of the entry in the sorted entries.
+     * @return the value.
+     */
+    public byte[] getValue(int index) {
+        checkIndex(index);
+        int offset = entryOffset(index);
+        return readBytes(offset + 4 + buffer.getInt(offset));
+    }
+
+    /**
+     * Gets the value stored under the given key.
+     *
+     * @param key the key.
+     * @return the value or null if the key is not contained in this snapshot.
+     */
+    public byte[] get(byte[] key) {
+        int index = indexOf(key);
+        return index < 0 ? null : getValue(index);
+    }
+
+    /**
+     * Searches the index of the entry with the given key.
+     *
+     * @param key the key.
+     * @return the index of the entry if the key is contained. Otherwise, {@code -(insertion point) - 1}, like
+     * {@link Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(byte[] key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKeyAt(entryOffset(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for " + size + " entries.");
+        }
+    }
+
+    private int entryOffset(int index) {
+        return buffer.getInt(offsetsStart + 4 * index);
+    }
+
+    // Reads a length-prefixed byte array with absolute gets, so that concurrent reads do not interfere.
+    private byte[] readBytes(int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + 4 + i);
+        }
+        return bytes;
+    }
+
+    private int compareKeyAt(int offset, byte[] key) {
+        int length = buffer.getInt(offset);
+        for (int i = 0; i < Math.min(length, key.length); i++) {
+            int cmp = Integer.compare(buffer.get(offset + 4 + i) & 0xff, key[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    /**
+     * Closes the file of this snapshot. The memory mapping is released when the snapshot is garbage collected.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    static int compareKeys(byte[] a, byte[] b) {
+        for (int i = 0; i < Math.min(a.length, b.length); i++) {
+            int cmp = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    static boolean startsWith(byte[] key, byte[] prefix) {
+        if (key.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (key[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a snapshot file from entries that are added in ascending key order.
+     * <p>
+     * The entries are written to a temporary file first, because the offset table precedes them in the snapshot file.
+     */
+    static class Writer implements Closeable {
+
+        private final File target;
+        private final File data;
+        private final DataOutputStream dataOut;
+        private final Hash256 stateRoot;
+        private final Hash160 contract;
+        private final byte[] prefix;
+
+        private int[] offsets = new int[1024];
+        private int size;
+        private long dataLength;
+        private byte[] lastKey;
+
+        Writer(File target, Hash256 stateRoot, Hash160 contract, byte[] prefix) throws IOException {
+            this.target = target;
+            this.data = File.createTempFile(target.getName() + "-entries", ".tmp",
+                    target.getAbsoluteFile().getParentFile());
+            this.dataOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(data)));
+            this.stateRoot = stateRoot;
+            this.contract = contract;
+            this.prefix = prefix;
+        }
+
+        void add(byte[] key, byte[] value) throws IOException {
+            if (lastKey != null && compareKeys(lastKey, key) >= 0) {
+                throw new IllegalStateException("The entries must be added in ascending key order.");
+            }
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = (int) dataLength;
+            dataOut.writeInt(key.length);
+            dataOut.write(key);
+            dataOut.writeInt(value.length);
+            dataOut.write(value);
+            dataLength += 8 + key.length + value.length;
+            lastKey = key;
+        }
+
+        StorageSnapshot finish() throws IOException {
+            dataOut.close();
+            int headerLength = MAGIC.length + 1 + 32 + 20 + 4 + prefix.length + 4 + 4 * size;
+            if (headerLength + dataLength > Integer.MAX_VALUE) {
+                throw new IOException("The snapshot exceeds the maximum size of 2 GB.");
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target)))) {
+                out.write(MAGIC);
+                out.writeByte(VERSION);
+                out.write(stateRoot.toArray());
+                out.write(contract.toArray());
+                out.writeInt(prefix.length);
+                out.write(prefix);
+                out.writeInt(size);
+                for (int i = 0; i < size; i++) {
+                    out.writeInt(headerLength + offsets[i]);
+                }
+                Files.copy(data.toPath(), out);
+            } finally {
+                Files.delete(data.toPath());
+            }
+            return open(target);
+        }
+
+        @Override
+        public void close() throws IOException {
+            dataOut.close();
+            Files.deleteIfExists(data.toPath());
+        }
+
+    }
+
+}
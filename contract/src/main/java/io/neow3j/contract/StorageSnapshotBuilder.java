@@ -0,0 +1,300 @@
+package io.neow3j.contract;
+
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.NeoFindStates;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static java.util.Collections.singletonList;
+
+/**
+ * Creates {@link StorageSnapshot}s of contracts at a state root with the {@code findstates} RPC method.
+ * <p>
+ * The storage is read from the state service of the Neo node, i.e., at a fixed state root, so that all pages belong to
+ * the same state. If a key range does not fit into one page, the reading continues after the last key of the page. If
+ * that second page does not fit either, the rest of the range is split by the next byte after its prefix into up to
+ * 256 ranges, which are handled in the same way. The ranges are read concurrently and written to the snapshot file in
+ * key order as they complete. Only the next {@link #maxConcurrency(int)} ranges are read ahead, so that the memory use
+ * is bounded by a few pages per split, independent of the size of the storage.
+ * <p>
+ * A snapshot can be brought to a newer state root with
+ * {@link #update(StorageSnapshot, Hash256, List, File)}. Only the given key prefixes are read again, e.g., the
+ * prefixes of the balances that changed according to the notifications of the blocks in between. All other entries
+ * are copied from the old snapshot. The Neo node does not provide the differences between two state roots itself.
+ * <pre>{@code
+ * StorageSnapshotBuilder builder = new StorageSnapshotBuilder(neow3j);
+ * Hash256 root = neow3j.getStateRoot(height).send().getStateRoot().getRootHash();
+ * try (StorageSnapshot snapshot = builder.create(contract, root, new byte[0], new File("storage.snapshot"))) {
+ *     byte[] value = snapshot.get(key);
+ * }
+ * }</pre>
+ */
+public class StorageSnapshotBuilder {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private final Neow3j neow3j;
+    private Integer pageSize;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Constructs a snapshot builder.
+     *
+     * @param neow3j the {@link Neow3j} instance to use. Its Neo node must run the state service.
+     */
+    public StorageSnapshotBuilder(Neow3j neow3j) {
+        this.neow3j = neow3j;
+    }
+
+    /**
+     * Sets the number of entries that are requested per {@code findstates} request. By default, the maximum number of
+     * the Neo node is used.
+     *
+     * @param pageSize the number of entries per request.
+     * @return this.
+     */
+    public StorageSnapshotBuilder pageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1.");
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of key ranges that are read concurrently and ahead of the range that is written next.
+     * Defaults to {@link #DEFAULT_MAX_CONCURRENCY}.
+     *
+     * @param maxConcurrency the maximum number of concurrent requests.
+     * @return this.
+     */
+    public StorageSnapshotBuilder maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Reads all storage entries of a contract that start with the given prefix at the given state root and writes
+     * them to a snapshot file.
+     *
+     * @param contract  the script hash of the contract.
+     * @param stateRoot the state root.
+     * @param prefix    the key prefix. Use an empty array to read the whole storage.
+     * @param file      the file to write the snapshot to. An existing file is overwritten.
+     * @return the opened snapshot.
+     * @throws IOException if there was a problem fetching information from the Neo node or writing the file.
+     */
+    public StorageSnapshot create(Hash160 contract, Hash256 stateRoot, byte[] prefix, File file) throws IOException {
+        try (RangeReader reader = new RangeReader(stateRoot, contract, singletonList(prefix));
+             StorageSnapshot.Writer writer = new StorageSnapshot.Writer(file, stateRoot, contract, prefix)) {
+            while (reader.hasNext()) {
+                add(writer, reader.next());
+            }
+            return writer.finish();
+        }
+    }
+
+    /**
+     * Creates a snapshot at a newer state root from an existing snapshot.
+     * <p>
+     * All entries that start with one of the given prefixes are read again at the new state root. All other entries
+     * are copied from the existing snapshot. Thus, the prefixes must cover all keys that changed between the two state
+     * roots.
+     *
+     * @param base            the existing snapshot.
+     * @param stateRoot       the new state root.
+     * @param changedPrefixes the key prefixes of the changed entries. Each must start with the prefix of the
+     *                        snapshot.
+     * @param file            the file to write the new snapshot to. Must not be the file of the existing snapshot.
+     * @return the opened new snapshot.
+     * @throws IOException if there was a problem fetching information from the Neo node or writing the file.
+     */
+    public StorageSnapshot update(StorageSnapshot base, Hash256 stateRoot, List<byte[]> changedPrefixes, File file)
+            throws IOException {
+
+        if (file.getCanonicalFile().equals(base.getFile().getCanonicalFile())) {
+            throw new IllegalArgumentException("The new snapshot must not be written to the file of the existing " +
+                    "snapshot.");
+        }
+        byte[] basePrefix = base.getPrefix();
+        List<byte[]> prefixes = new ArrayList<>(changedPrefixes);
+        for (byte[] p : prefixes) {
+            if (!StorageSnapshot.startsWith(p, basePrefix)) {
+                throw new IllegalArgumentException("The changed prefixes must start with the prefix of the snapshot.");
+            }
+        }
+        // In key order, a prefix precedes all prefixes that it covers.
+        prefixes.sort(StorageSnapshot::compareKeys);
+        List<byte[]> disjointPrefixes = new ArrayList<>();
+        for (byte[] p : prefixes) {
+            if (disjointPrefixes.isEmpty()
+                    || !StorageSnapshot.startsWith(p, disjointPrefixes.get(disjointPrefixes.size() - 1))) {
+                disjointPrefixes.add(p);
+            }
+        }
+
+        try (RangeReader reader = new RangeReader(stateRoot, base.getContract(), disjointPrefixes);
+             StorageSnapshot.Writer writer =
+                     new StorageSnapshot.Writer(file, stateRoot, base.getContract(), basePrefix)) {
+            int i = 0;
+            for (byte[] changedPrefix : disjointPrefixes) {
+                // The entries of a prefix are contiguous and start with the prefix itself.
+                for (; i < base.size() && StorageSnapshot.compareKeys(base.getKey(i), changedPrefix) < 0; i++) {
+                    writer.add(base.getKey(i), base.getValue(i));
+                }
+                while (i < base.size() && StorageSnapshot.startsWith(base.getKey(i), changedPrefix)) {
+                    i++;
+                }
+                // The ranges of a prefix are read before the ranges of the next prefix.
+                while (reader.hasNext() && StorageSnapshot.startsWith(reader.nextPrefix(), changedPrefix)) {
+                    add(writer, reader.next());
+                }
+            }
+            for (; i < base.size(); i++) {
+                writer.add(base.getKey(i), base.getValue(i));
+            }
+            return writer.finish();
+        }
+    }
+
+    private static void add(StorageSnapshot.Writer writer, List<NeoFindStates.States.Result> results)
+            throws IOException {
+
+        for (NeoFindStates.States.Result result : results) {
+            writer.add(Base64.decode(result.getKey()), Base64.decode(result.getValue()));
+        }
+    }
+
+    private NeoFindStates.States findStates(Hash256 stateRoot, Hash160 contract, Range range) throws IOException {
+        NeoFindStates response = neow3j.findStates(stateRoot, contract, toHexStringNoPrefix(range.prefix),
+                range.from == null ? null : toHexStringNoPrefix(range.from), pageSize).send();
+        response.throwOnError();
+        return response.getStates();
+    }
+
+    /**
+     * Reads key ranges in key order. The next {@code maxConcurrency} ranges are read ahead concurrently.
+     */
+    private class RangeReader implements AutoCloseable {
+
+        private final Hash256 stateRoot;
+        private final Hash160 contract;
+        // The ranges that are not read yet in key order. The first ones are read ahead.
+        private final LinkedList<Range> ranges = new LinkedList<>();
+        private final ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency);
+
+        private RangeReader(Hash256 stateRoot, Hash160 contract, List<byte[]> prefixes) {
+            this.stateRoot = stateRoot;
+            this.contract = contract;
+            prefixes.forEach(p -> ranges.add(new Range(p, null, false)));
+        }
+
+        private boolean hasNext() {
+            return !ranges.isEmpty();
+        }
+
+        private byte[] nextPrefix() {
+            return ranges.getFirst().prefix;
+        }
+
+        /**
+         * Reads the entries of the next range. If the range does not fit into one page, the rest of it is put in front
+         * of the remaining ranges. It is read from the last key of the page on, or split if it did not fit into one
+         * page before either.
+         */
+        private List<NeoFindStates.States.Result> next() throws IOException {
+            readAhead();
+            Range range = ranges.removeFirst();
+            NeoFindStates.States page = await(range.page);
+            List<NeoFindStates.States.Result> results = page.getResults();
+            if (!page.isTruncated() || results.isEmpty()) {
+                return results;
+            }
+            byte[] lastKey = Base64.decode(results.get(results.size() - 1).getKey());
+            byte[] prefix = range.prefix;
+            if (!range.split || lastKey.length == prefix.length) {
+                ranges.addFirst(new Range(prefix, lastKey, true));
+                return results;
+            }
+            // The sub-range that contains the last key is continued after it, the following sub-ranges are read
+            // from the start.
+            int lastByte = lastKey[prefix.length] & 0xff;
+            for (int i = 255; i >= lastByte; i--) {
+                byte[] subPrefix = Arrays.copyOf(prefix, prefix.length + 1);
+                subPrefix[prefix.length] = (byte) i;
+                ranges.addFirst(new Range(subPrefix, i == lastByte ? lastKey : null, false));
+            }
+            return results;
+        }
+
+        // The window of ranges that are read ahead starts at the first range that is not read yet. Ranges further
+        // back that were read ahead before a split do not take up its slots.
+        private void readAhead() {
+            int i = 0;
+            for (Range range : ranges) {
+                if (i++ == maxConcurrency) {
+                    break;
+                }
+                if (range.page == null) {
+                    range.page = executor.submit(() -> findStates(stateRoot, contract, range));
+                }
+            }
+        }
+
+        private NeoFindStates.States await(Future<NeoFindStates.States> page) throws IOException {
+            try {
+                return page.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading the storage.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+
+    }
+
+    private static class Range {
+
+        private final byte[] prefix;
+        // The key after which the range is read, or null to read it from the start.
+        private final byte[] from;
+        // Whether the range is split if it does not fit into one page.
+        private final boolean split;
+        private Future<NeoFindStates.States> page;
+
+        private Range(byte[] prefix, byte[] from, boolean split) {
+            this.prefix = prefix;
+            this.from = from;
+            this.split = split;
+        }
+
+    }
+
+}
@@ -5,6 +5,7 @@ import io.neow3j.contract.exceptions.UnresolvableDomainNameException;
 import io.neow3j.contract.types.NNSName;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.RecordType;
+import io.neow3j.protocol.core.response.ContractManifest;
 import io.neow3j.types.Hash160;
 
 import java.io.IOException;
@@ -26,9 +27,24 @@ public class Token extends SmartContract {
     private BigInteger totalSupply;
     private Integer decimals;
     private String symbol;
+    private final TokenMetadataRegistry metadataRegistry;
+    private NNSResolutionCache nnsResolutionCache;
 
     public Token(Hash160 scriptHash, Neow3j neow3j) {
+        this(scriptHash, neow3j, null);
+    }
+
+    /**
+     * Constructs a token that gets its symbol, decimals, total supply and manifest from the given registry instead of
+     * caching them itself.
+     *
+     * @param scriptHash       the token contract's script hash.
+     * @param neow3j           the {@link Neow3j} instance to use for invocations.
+     * @param metadataRegistry the registry to use or null to cache the values in this instance.
+     */
+    public Token(Hash160 scriptHash, Neow3j neow3j, TokenMetadataRegistry metadataRegistry) {
         super(scriptHash, neow3j);
+        this.metadataRegistry = metadataRegistry;
     }
 
     /**
@@ -42,6 +58,9 @@ public class Token extends SmartContract {
      *                                       string.
      */
     public String getSymbol() throws IOException, UnexpectedReturnTypeException {
+        if (metadataRegistry != null) {
+            return metadataRegistry.getSymbol(scriptHash, neow3j);
+        }
         if (symbol == null) {
             symbol = callFunctionReturningString(SYMBOL);
         }
@@ -51,7 +70,8 @@ public class Token extends SmartContract {
     /**
      * Gets the total supply of this token in fractions.
      * <p>
-     * The return value is retrieved form the neo-node only once and then cached.
+     * The return value is retrieved form the neo-node only once and then cached. If this token uses a
+     * {@link TokenMetadataRegistry}, the value is cached for the registry's time to live instead.
      *
      * @return the total supply.
      * @throws IOException                   if there was a problem fetching information from the Neo node.
@@ -59,6 +79,9 @@ public class Token extends SmartContract {
      *                                       number.
      */
     public BigInteger getTotalSupply() throws IOException, UnexpectedReturnTypeException {
+        if (metadataRegistry != null) {
+            return metadataRegistry.getTotalSupply(scriptHash, neow3j);
+        }
         if (totalSupply == null) {
             totalSupply = callFunctionReturningInt(TOTAL_SUPPLY);
         }
@@ -76,12 +99,37 @@ public class Token extends SmartContract {
      *                                       number.
      */
     public int getDecimals() throws IOException, UnexpectedReturnTypeException {
+        if (metadataRegistry != null) {
+            return metadataRegistry.getDecimals(scriptHash, neow3j);
+        }
         if (decimals == null) {
             decimals = callFunctionReturningInt(DECIMALS).intValue();
         }
         return decimals;
     }
 
+    /**
+     * Gets the manifest of this token. If this token uses a {@link TokenMetadataRegistry}, the manifest is retrieved
+     * from the neo-node only once and then cached in the registry.
+     *
+     * @return the manifest.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    @Override
+    public ContractManifest getManifest() throws IOException {
+        if (metadataRegistry != null) {
+            return metadataRegistry.getManifest(scriptHash, neow3j);
+        }
+        return super.getManifest();
+    }
+
+    /**
+     * @return the metadata registry of this token or null if it caches the values itself.
+     */
+    public TokenMetadataRegistry getMetadataRegistry() {
+        return metadataRegistry;
+    }
+
     /**
      * Converts the token amount from a decimal point number to the amount in token fractions according to this
      * token's number of decimals.
@@ -145,9 +193,29 @@ public class Token extends SmartContract {
         return new BigDecimal(amount, decimals);
     }
 
+    /**
+     * Sets the cache that is used to resolve NNS domain names, e.g., for transfers to a domain name.
+     * <p>
+     * By default, domain names are resolved by the NNS contract on every transfer.
+     *
+     * @param nnsResolutionCache the cache or null to resolve domain names without a cache.
+     */
+    public void setNNSResolutionCache(NNSResolutionCache nnsResolutionCache) {
+        this.nnsResolutionCache = nnsResolutionCache;
+    }
+
+    /**
+     * @return the cache that is used to resolve NNS domain names or null if none is used.
+     */
+    public NNSResolutionCache getNNSResolutionCache() {
+        return nnsResolutionCache;
+    }
+
     // Resolves the text record of a NNS domain name and returns its script hash.
     protected Hash160 resolveNNSTextRecord(NNSName name) throws UnresolvableDomainNameException, IOException {
-        String resolvedAddress = new NeoNameService(neow3j).resolve(name, RecordType.TXT);
+        String resolvedAddress = nnsResolutionCache != null
+                ? nnsResolutionCache.resolve(name, RecordType.TXT)
+                : new NeoNameService(neow3j).resolve(name, RecordType.TXT);
         return Hash160.fromAddress(resolvedAddress);
     }
 
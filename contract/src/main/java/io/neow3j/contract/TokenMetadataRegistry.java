@@ -0,0 +1,298 @@
+package io.neow3j.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.neow3j.contract.exceptions.UnexpectedReturnTypeException;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.response.ContractManifest;
+import io.neow3j.protocol.core.response.NeoGetContractState;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.types.Hash160;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe cache for the metadata of token contracts that can be shared by all {@link Token} instances.
+ * <p>
+ * The symbol, the decimals and the manifest of a token never change and are cached indefinitely. The total supply
+ * changes with mints and burns and is cached for a configurable time.
+ * <p>
+ * The metadata of many tokens can be fetched at once with {@link #warmUp(Neow3j, List)}, which uses a single
+ * {@link MultiCall}. The immutable metadata can be saved to a file with {@link #save(File)} and loaded again with
+ * {@link #load(File)}, e.g., to avoid fetching it after every restart.
+ * <p>
+ * A token uses a registry if one is passed to its constructor. The registry returned by {@link #getDefault()} is
+ * shared by the whole process. Since the metadata is stored by contract hash, a registry should only be used for the
+ * tokens of a single network.
+ */
+public class TokenMetadataRegistry {
+
+    /**
+     * The default time in milliseconds for which the total supply is cached.
+     */
+    public static final long DEFAULT_TOTAL_SUPPLY_TTL = 15_000;
+
+    private static final TokenMetadataRegistry DEFAULT = new TokenMetadataRegistry();
+
+    private static final String SYMBOL = "symbol";
+    private static final String DECIMALS = "decimals";
+    private static final String TOTAL_SUPPLY = "totalSupply";
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getObjectMapper();
+
+    private final long totalSupplyTtl;
+    private final Map<Hash160, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a registry that caches the total supply for {@value DEFAULT_TOTAL_SUPPLY_TTL} milliseconds.
+     */
+    public TokenMetadataRegistry() {
+        this(DEFAULT_TOTAL_SUPPLY_TTL);
+    }
+
+    /**
+     * Constructs a registry.
+     *
+     * @param totalSupplyTtl the time in milliseconds for which the total supply is cached.
+     */
+    public TokenMetadataRegistry(long totalSupplyTtl) {
+        if (totalSupplyTtl < 0) {
+            throw new IllegalArgumentException("The time to live of the total supply must not be negative.");
+        }
+        this.totalSupplyTtl = totalSupplyTtl;
+    }
+
+    /**
+     * @return the registry that is shared by the whole process.
+     */
+    public static TokenMetadataRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    private Entry entry(Hash160 token) {
+        return entries.computeIfAbsent(token, t -> new Entry());
+    }
+
+    /**
+     * Gets the symbol of the given token. It is fetched from the Neo node only once.
+     *
+     * @param token  the script hash of the token contract.
+     * @param neow3j the {@link Neow3j} instance to use if the symbol is not cached yet.
+     * @return the symbol.
+     * @throws IOException                   if there was a problem fetching information from the Neo node.
+     * @throws UnexpectedReturnTypeException if the contract invocation did not return something interpretable as a
+     *                                       string.
+     */
+    public String getSymbol(Hash160 token, Neow3j neow3j) throws IOException {
+        Entry entry = entry(token);
+        if (entry.symbol == null) {
+            entry.symbol = new SmartContract(token, neow3j).callFunctionReturningString(SYMBOL);
+        }
+        return entry.symbol;
+    }
+
+    /**
+     * Gets the decimals of the given token. They are fetched from the Neo node only once.
+     *
+     * @param token  the script hash of the token contract.
+     * @param neow3j the {@link Neow3j} instance to use if the decimals are not cached yet.
+     * @return the decimals.
+     * @throws IOException                   if there was a problem fetching information from the Neo node.
+     * @throws UnexpectedReturnTypeException if the contract invocation did not return something interpretable as a
+     *                                       number.
+     */
+    public int getDecimals(Hash160 token, Neow3j neow3j) throws IOException {
+        Entry entry = entry(token);
+        if (entry.decimals == null) {
+            entry.decimals = new SmartContract(token, neow3j).callFunctionReturningInt(DECIMALS).intValue();
+        }
+        return entry.decimals;
+    }
+
+    /**
+     * Gets the total supply of the given token in fractions. It is fetched from the Neo node again once the cached
+     * value expired.
+     *
+     * @param token  the script hash of the token contract.
+     * @param neow3j the {@link Neow3j} instance to use if the total supply is not cached or expired.
+     * @return the total supply.
+     * @throws IOException                   if there was a problem fetching information from the Neo node.
+     * @throws UnexpectedReturnTypeException if the contract invocation did not return something interpretable as a
+     *                                       number.
+     */
+    public BigInteger getTotalSupply(Hash160 token, Neow3j neow3j) throws IOException {
+        Entry entry = entry(token);
+        TotalSupply totalSupply = entry.totalSupply;
+        if (totalSupply == null || totalSupply.isExpired()) {
+            totalSupply = newTotalSupply(new SmartContract(token, neow3j).callFunctionReturningInt(TOTAL_SUPPLY));
+            entry.totalSupply = totalSupply;
+        }
+        return totalSupply.value;
+    }
+
+    /**
+     * Gets the manifest of the given contract. It is fetched from the Neo node only once.
+     *
+     * @param contract the script hash of the contract.
+     * @param neow3j   the {@link Neow3j} instance to use if the manifest is not cached yet.
+     * @return the manifest.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public ContractManifest getManifest(Hash160 contract, Neow3j neow3j) throws IOException {
+        Entry entry = entry(contract);
+        if (entry.manifest == null) {
+            NeoGetContractState response = neow3j.getContractState(contract).send();
+            response.throwOnError();
+            entry.manifest = response.getContractState().getManifest();
+        }
+        return entry.manifest;
+    }
+
+    private TotalSupply newTotalSupply(BigInteger value) {
+        long now = System.currentTimeMillis();
+        return new TotalSupply(value, totalSupplyTtl > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + totalSupplyTtl);
+    }
+
+    /**
+     * Fetches the symbol, decimals and total supply of all given tokens that are not cached yet with a single
+     * {@link MultiCall}.
+     * <p>
+     * Values that cannot be fetched, e.g., because the contract does not implement the method, are skipped. They are
+     * fetched again when they are requested.
+     *
+     * @param neow3j the {@link Neow3j} instance to use.
+     * @param tokens the script hashes of the token contracts.
+     * @return this.
+     * @throws IOException if there was a problem fetching information from the Neo node.
+     */
+    public TokenMetadataRegistry warmUp(Neow3j neow3j, List<Hash160> tokens) throws IOException {
+        MultiCall multiCall = new MultiCall(neow3j);
+        List<Runnable> updates = new ArrayList<>();
+        for (Hash160 token : tokens) {
+            Entry entry = entry(token);
+            if (entry.symbol == null) {
+                MultiCall.Call<StackItem> call = multiCall.add(token, SYMBOL);
+                updates.add(() -> entry.symbol = call.get().getString());
+            }
+            if (entry.decimals == null) {
+                MultiCall.Call<StackItem> call = multiCall.add(token, DECIMALS);
+                updates.add(() -> entry.decimals = call.get().getInteger().intValue());
+            }
+            if (entry.totalSupply == null || entry.totalSupply.isExpired()) {
+                MultiCall.Call<StackItem> call = multiCall.add(token, TOTAL_SUPPLY);
+                updates.add(() -> entry.totalSupply = newTotalSupply(call.get().getInteger()));
+            }
+        }
+        if (updates.isEmpty()) {
+            return this;
+        }
+        multiCall.execute();
+        for (Runnable update : updates) {
+            try {
+                update.run();
+            } catch (RuntimeException ignored) {
+                // The call faulted or returned an unexpected type.
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Removes all cached values of the given contract.
+     *
+     * @param contract the script hash of the contract.
+     */
+    public void invalidate(Hash160 contract) {
+        entries.remove(contract);
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Saves the symbols, decimals and manifests in this registry to the given file. The total supplies are not saved.
+     *
+     * @param file the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(File file) throws IOException {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        ArrayNode tokens = root.putArray("tokens");
+        entries.forEach((hash, entry) -> {
+            if (entry.symbol == null && entry.decimals == null && entry.manifest == null) {
+                return;
+            }
+            ObjectNode token = tokens.addObject();
+            token.put("hash", hash.toString());
+            token.put(SYMBOL, entry.symbol);
+            token.put(DECIMALS, entry.decimals);
+            token.set("manifest", OBJECT_MAPPER.valueToTree(entry.manifest));
+        });
+        OBJECT_MAPPER.writeValue(file, root);
+    }
+
+    /**
+     * Loads the values saved with {@link #save(File)} into this registry. Values that are already cached are kept.
+     *
+     * @param file the file.
+     * @return this.
+     * @throws IOException if the file cannot be read or parsed.
+     */
+    public TokenMetadataRegistry load(File file) throws IOException {
+        JsonNode tokens = OBJECT_MAPPER.readTree(file).path("tokens");
+        for (JsonNode token : tokens) {
+            Entry entry = entry(new Hash160(token.get("hash").asText()));
+            if (entry.symbol == null && token.hasNonNull(SYMBOL)) {
+                entry.symbol = token.get(SYMBOL).asText();
+            }
+            if (entry.decimals == null && token.hasNonNull(DECIMALS)) {
+                entry.decimals = token.get(DECIMALS).asInt();
+            }
+            if (entry.manifest == null && token.hasNonNull("manifest")) {
+                entry.manifest = OBJECT_MAPPER.treeToValue(token.get("manifest"), ContractManifest.class);
+            }
+        }
+        return this;
+    }
+
+    // Fields are written without locking. Concurrent requests for a missing value may fetch it more than once, which
+    // is harmless since all of them get the same value.
+    private static class Entry {
+
+        private volatile String symbol;
+        private volatile Integer decimals;
+        private volatile ContractManifest manifest;
+        private volatile TotalSupply totalSupply;
+
+    }
+
+    private static class TotalSupply {
+
+        private final BigInteger value;
+        private final long expiry;
+
+        private TotalSupply(BigInteger value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiry;
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.neow3j.contract.types;
+
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.Hash160;
+
+import java.math.BigInteger;
+
+/**
+ * Represents a single token transfer to a recipient, e.g., as part of a batch transfer.
+ */
+public class TokenTransfer {
+
+    private final Hash160 to;
+    private final BigInteger amount;
+    private final ContractParameter data;
+
+    /**
+     * Creates a transfer without data.
+     *
+     * @param to     the script hash of the recipient.
+     * @param amount the amount to transfer in token fractions.
+     */
+    public TokenTransfer(Hash160 to, BigInteger amount) {
+        this(to, amount, null);
+    }
+
+    /**
+     * Creates a transfer.
+     *
+     * @param to     the script hash of the recipient.
+     * @param amount the amount to transfer in token fractions.
+     * @param data   the data that is passed to the {@code onPayment} method if the recipient is a contract.
+     */
+    public TokenTransfer(Hash160 to, BigInteger amount, ContractParameter data) {
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("The amount must be greater than or equal to 0.");
+        }
+        this.to = to;
+        this.amount = amount;
+        this.data = data;
+    }
+
+    /**
+     * @return the script hash of the recipient.
+     */
+    public Hash160 getTo() {
+        return to;
+    }
+
+    /**
+     * @return the amount in token fractions.
+     */
+    public BigInteger getAmount() {
+        return amount;
+    }
+
+    /**
+     * @return the data that is passed to the {@code onPayment} method if the recipient is a contract.
+     */
+    public ContractParameter getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenTransfer{to=" + to + ", amount=" + amount + '}';
+    }
+
+}
@@ -3,13 +3,16 @@ package io.neow3j.contract;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import io.neow3j.contract.types.NNSName;
+import io.neow3j.contract.types.TokenTransfer;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.http.HttpService;
+import io.neow3j.script.OpCode;
 import io.neow3j.script.ScriptBuilder;
 import io.neow3j.transaction.AccountSigner;
 import io.neow3j.transaction.Transaction;
 import io.neow3j.transaction.TransactionBuilder;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
 import io.neow3j.types.Hash160;
 import io.neow3j.wallet.Account;
 import io.neow3j.wallet.Wallet;
@@ -18,10 +21,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.constants.NeoConstants.MAX_TRANSACTION_SIZE;
 import static io.neow3j.test.TestProperties.gasTokenHash;
 import static io.neow3j.test.TestProperties.neoTokenHash;
 import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBalanceOf;
@@ -31,6 +40,7 @@ import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
 import static io.neow3j.types.ContractParameter.any;
 import static io.neow3j.types.ContractParameter.hash160;
 import static io.neow3j.types.ContractParameter.integer;
+import static io.neow3j.types.ContractParameter.string;
 import static io.neow3j.utils.Numeric.hexStringToByteArray;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
@@ -103,6 +113,60 @@ public class FungibleTokenTest {
         assertThat(builder.getSigners().size(), is(0));
     }
 
+    @Test
+    public void testTransferManyIsSplitBySize() {
+        List<TokenTransfer> transfers = IntStream.range(0, 2000)
+                .mapToObj(i -> new TokenTransfer(RECIPIENT_SCRIPT_HASH, BigInteger.valueOf(100000 + i)))
+                .collect(Collectors.toList());
+
+        List<TransactionBuilder> builders = gasToken.transferMany(account1, transfers);
+
+        assertThat(builders.size(), is(2));
+        ByteArrayOutputStream scripts = new ByteArrayOutputStream();
+        for (TransactionBuilder builder : builders) {
+            assertThat(builder.getScript().length < MAX_TRANSACTION_SIZE - 200, is(true));
+            assertThat(builder.getScript()[builder.getScript().length - 1], is((byte) OpCode.ASSERT.getCode()));
+            assertThat(((AccountSigner) builder.getSigners().get(0)).getAccount(), is(account1));
+            scripts.write(builder.getScript(), 0, builder.getScript().length);
+        }
+        assertThat(scripts.toByteArray(), is(gasToken.buildTransferManyScript(account1.getScriptHash(), transfers)));
+        assertThat(builders.get(0).getScript().length + builders.get(1).getScript().length > MAX_TRANSACTION_SIZE,
+                is(true));
+    }
+
+    @Test
+    public void testBuildTransferManyScript() {
+        byte[] expectedScript = new ScriptBuilder()
+                .contractCall(new Hash160(gasTokenHash()), NEP17_TRANSFER, asList(hash160(account1.getScriptHash()),
+                        hash160(RECIPIENT_SCRIPT_HASH), integer(1), any(null)))
+                .opCode(OpCode.ASSERT)
+                .contractCall(new Hash160(gasTokenHash()), NEP17_TRANSFER, asList(hash160(account1.getScriptHash()),
+                        hash160(account2.getScriptHash()), integer(2), string("data")))
+                .opCode(OpCode.ASSERT)
+                .toArray();
+
+        byte[] script = gasToken.buildTransferManyScript(account1.getScriptHash(), asList(
+                new TokenTransfer(RECIPIENT_SCRIPT_HASH, BigInteger.ONE),
+                new TokenTransfer(account2.getScriptHash(), BigInteger.valueOf(2), string("data"))));
+
+        assertThat(script, is(expectedScript));
+    }
+
+    @Test
+    public void testTransferManyWithMaxSystemFee() throws IOException {
+        setUpWireMockForCall("invokescript", "invokescript_transfer.json");
+        List<TokenTransfer> transfers = asList(
+                new TokenTransfer(RECIPIENT_SCRIPT_HASH, BigInteger.ONE),
+                new TokenTransfer(account2.getScriptHash(), BigInteger.TEN));
+
+        // The invocation consumes 9999510 GAS fractions.
+        List<TransactionBuilder> builders = gasToken.transferMany(account1, transfers, 9999510L);
+        assertThat(builders.size(), is(1));
+
+        assertThrows(TransactionConfigurationException.class,
+                () -> gasToken.transferMany(account1, transfers.subList(0, 1), 9999509L));
+    }
+
     @Test
     public void testGetBalanceOfAccount() throws Exception {
         setUpWireMockForBalanceOf(account1.getScriptHash().toString(),
@@ -0,0 +1,151 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.contract.HistoricalBalanceReader.BalanceLayout;
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.test.JsonRpcBatchTransformer;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBatches;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HistoricalBalanceReaderTest {
+
+    private static final Hash160 TOKEN = new Hash160("0x2cab903ff032ac693f8514581665be534beac39f");
+    private static final Hash160 ACCOUNT_1 = new Hash160("69ecca587293047be4c59159bf8bc399985c160d");
+    private static final Hash160 ACCOUNT_2 = new Hash160("969a77db482f74ce27105f760efa139223431394");
+    private static final Hash160 ACCOUNT_3 = new Hash160("d6c712eb53b1a130f59fd4e5864bdac27458a509");
+    // The state roots in the files getstateroot_100.json and getstateroot_200.json.
+    private static final Hash256 ROOT_100 =
+            new Hash256("28870d1ed61ef167e99354249c622504b0d81d814eaa87dbf8612c91b9b303b7");
+    private static final Hash256 ROOT_200 =
+            new Hash256("7b1b6f6e3ad24bd0e2c8a4f3c1d0e9f8a7b6c5d4e3f2a1b0c9d8e7f6a5b4c3d2");
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().extensions(new JsonRpcBatchTransformer()))
+            .build();
+
+    private HistoricalBalanceReader reader;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        reader = new HistoricalBalanceReader(Neow3j.build(new HttpService("http://127.0.0.1:" + port)));
+        setUpWireMockForBatches();
+        setUpWireMockForCall("getstateroot", "getstateroot_100.json", "\\[100\\]");
+        setUpWireMockForCall("getstateroot", "getstateroot_200.json", "\\[200\\]");
+        // Keys without a specific stub are not in the storage.
+        setUpWireMockForCall("findstates", "findstates_empty.json");
+    }
+
+    @Test
+    public void testNativeTokenBalancesAreReadFromAccountStates() throws IOException {
+        // A GAS account state is a struct with the balance as its only field.
+        setUpFindStates(ROOT_100, GasToken.SCRIPT_HASH, accountKey(ACCOUNT_1), "findstates_gasAccountState.json");
+        // A NEO account state also contains the balance height, the vote and the last GAS per vote.
+        setUpFindStates(ROOT_100, NeoToken.SCRIPT_HASH, accountKey(ACCOUNT_1), "findstates_neoAccountState.json");
+
+        assertThat(reader.getBalance(100, GasToken.SCRIPT_HASH, ACCOUNT_1), is(BigInteger.valueOf(256)));
+        assertThat(reader.getBalance(100, NeoToken.SCRIPT_HASH, ACCOUNT_1), is(BigInteger.TEN));
+        assertThat(reader.getBalance(100, NeoToken.SCRIPT_HASH, ACCOUNT_2), is(BigInteger.ZERO));
+    }
+
+    @Test
+    public void testBalancesAreReadInBatchesAndCached() throws IOException {
+        BalanceLayout layout = BalanceLayout.integer(new byte[]{0x01});
+        reader.balanceLayout(TOKEN, layout).batchSize(2).maxConcurrency(2);
+        setUpFindStates(ROOT_100, TOKEN, layout.key(ACCOUNT_1), "findstates_tokenBalance.json");
+        // The storage contains a longer key that starts with the key of the account, which does not belong to it.
+        setUpFindStates(ROOT_100, TOKEN, layout.key(ACCOUNT_2), "findstates_tokenBalance_longerKey.json");
+        setUpFindStates(ROOT_100, TOKEN, layout.key(ACCOUNT_3), "findstates_tokenBalance_twoBytes.json");
+        setUpFindStates(ROOT_200, TOKEN, layout.key(ACCOUNT_1), "findstates_tokenBalance_root200.json");
+
+        Map<Hash160, BigInteger> balances = reader.getBalances(100, TOKEN, asList(ACCOUNT_1, ACCOUNT_2, ACCOUNT_3));
+        assertThat(new ArrayList<>(balances.keySet()), is(asList(ACCOUNT_1, ACCOUNT_2, ACCOUNT_3)));
+        assertThat(balances.get(ACCOUNT_1), is(BigInteger.valueOf(5)));
+        assertThat(balances.get(ACCOUNT_2), is(BigInteger.ZERO));
+        assertThat(balances.get(ACCOUNT_3), is(BigInteger.valueOf(512)));
+        // One request for the state root and two batches for the three balances.
+        verifyRequests(1, "getstateroot");
+        verifyRequests(3, "findstates");
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matching("(?s)\\s*\\[.*\"method\":\"findstates\".*")));
+
+        WireMock.resetAllRequests();
+        reader.getBalances(100, TOKEN, asList(ACCOUNT_3, ACCOUNT_1));
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/")));
+
+        assertThat(reader.getBalance(200, TOKEN, ACCOUNT_1), is(BigInteger.valueOf(7)));
+        verifyRequests(1, "getstateroot");
+        verifyRequests(1, "findstates");
+    }
+
+    @Test
+    public void testFailOnHeightWithoutStateRoot() throws IOException {
+        setUpWireMockForCall("getstateroot", "getstateroot_unknown.json", "\\[300\\]");
+
+        RpcResponseErrorException thrown = assertThrows(RpcResponseErrorException.class,
+                () -> reader.getBalance(300, GasToken.SCRIPT_HASH, ACCOUNT_1));
+        assertThat(thrown.getMessage(), containsString("Unknown state root"));
+    }
+
+    @Test
+    public void testFailIfNodeDoesNotKeepOldStates() throws IOException {
+        setUpWireMockForCall("findstates", "findstates_oldstatenotsupported.json");
+
+        RpcResponseErrorException thrown = assertThrows(RpcResponseErrorException.class,
+                () -> reader.getBalances(100, GasToken.SCRIPT_HASH, asList(ACCOUNT_1, ACCOUNT_2)));
+        assertThat(thrown.getMessage(), containsString("Old state not supported"));
+    }
+
+    @Test
+    public void testFailOnTokenWithoutLayout() {
+        IllegalArgumentException thrown =
+                assertThrows(IllegalArgumentException.class, () -> reader.getBalance(100, TOKEN, ACCOUNT_1));
+        assertThat(thrown.getMessage(), is("No balance layout is registered for the token " + TOKEN + "."));
+    }
+
+    private static byte[] accountKey(Hash160 account) {
+        return BalanceLayout.accountState(new byte[]{20}).key(account);
+    }
+
+    private static void setUpFindStates(Hash256 root, Hash160 contract, byte[] key, String responseFile)
+            throws IOException {
+        setUpWireMockForCall("findstates", responseFile, root.toString(), contract.toString(),
+                Pattern.quote("\"" + Base64.encode(key) + "\""));
+    }
+
+    // Counts the single requests and the requests in batches, but not the batches themselves.
+    private static void verifyRequests(int count, String method) {
+        WireMock.verify(count, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo(method))));
+    }
+
+}
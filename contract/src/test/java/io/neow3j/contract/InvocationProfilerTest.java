@@ -0,0 +1,152 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.types.Hash160;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class InvocationProfilerTest {
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private static final Hash160 CONTRACT = new Hash160("f61eebf573ea36593fd43aa150c055ad7906ab83");
+    private static final Hash160 GAS = new Hash160("d2a4cff31913016155e38e474a2c06d08be276cf");
+    private static final String ROOT_FRAME = "0xc6507de30c2a0cf14e35165fe99a6a32389dc1e8";
+
+    private InvocationProfiler profiler;
+
+    @BeforeEach
+    public void setUp() {
+        // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        profiler = new InvocationProfiler(Neow3j.build(new HttpService("http://127.0.0.1:" + port)))
+                .feeFactors(BigInteger.valueOf(30), BigInteger.valueOf(100000));
+    }
+
+    @Test
+    public void testProfile() throws IOException {
+        setUpWireMockForCall("invokefunction", "invokefunction_diagnostics_profile.json");
+        setUpWireMockForCall("getcontractstate", "contractstate.json");
+
+        List<InvocationProfile.ContractUsage> contracts = new ArrayList<>(
+                profiler.profile(CONTRACT, "transfer", new ArrayList<>()).getContracts());
+
+        assertThat(contracts.size(), is(2));
+        InvocationProfile.ContractUsage usage = contracts.get(0);
+        assertThat(usage.getContract(), is(CONTRACT));
+        assertThat(usage.getCalls(), is(1));
+        assertThat(usage.getNotifications(), is(1));
+        assertThat(usage.getAdded(), is(1));
+        assertThat(usage.getChanged(), is(1));
+        assertThat(usage.getDeleted(), is(1));
+        assertThat(usage.getBytesWritten(), is(12L));
+        // 7 bytes for the added entry and at least 2 bytes for the changed entry.
+        assertThat(usage.getStorageGas(), is(BigInteger.valueOf(900000)));
+        // 3 storage and 1 notification system calls.
+        assertThat(usage.getSyscallGas(), is(BigInteger.valueOf(4 * 32768 * 30)));
+        assertThat(contracts.get(1).getContract(), is(GAS));
+        assertThat(contracts.get(1).getAttributedGas(), is(BigInteger.ZERO));
+    }
+
+    @Test
+    public void testStoragePrefixesAndOutput() throws IOException {
+        setUpWireMockForCall("invokefunction", "invokefunction_diagnostics_profile.json");
+        setUpWireMockForCall("getcontractstate", "contractstate.json");
+
+        InvocationProfile profile = profiler.profile(CONTRACT, "transfer", new ArrayList<>());
+
+        List<InvocationProfile.PrefixUsage> prefixes = profile.getStoragePrefixes();
+        assertThat(prefixes.size(), is(2));
+        assertThat(prefixes.get(0).getPrefix(), is("01"));
+        assertThat(prefixes.get(0).getAdded(), is(1));
+        assertThat(prefixes.get(0).getChanged(), is(1));
+        assertThat(prefixes.get(0).getStorageGas(), is(BigInteger.valueOf(900000)));
+        assertThat(prefixes.get(1).getPrefix(), is("02"));
+        assertThat(prefixes.get(1).getDeleted(), is(1));
+
+        assertThat(profile.getGasConsumed(), is(BigInteger.valueOf(10000000)));
+        assertThat(profile.getUnattributedGas(), is(BigInteger.valueOf(5167840)));
+        assertThat(profile.toFoldedStacks(), is(ROOT_FRAME + " 5167840\n" +
+                ROOT_FRAME + ";0x" + CONTRACT + " 4832160"));
+        assertThat(profile.toSummaryTable(), containsString("0x" + CONTRACT));
+        assertThat(profile.getContract(new Hash160("0000000000000000000000000000000000000001")), is(nullValue()));
+    }
+
+    @Test
+    public void testNoGasIsAttributedToNativeContracts() throws IOException {
+        setUpWireMockForCall("invokefunction", "invokefunction_diagnostics_profile_gasTransfer.json");
+        setUpWireMockForCall("getcontractstate", "contractstate.json", "\\[12\\]");
+        setUpWireMockForCall("getcontractstate", "contractstate_gas.json", "\\[-6\\]");
+
+        InvocationProfile profile = profiler.profile(CONTRACT, "transfer", new ArrayList<>());
+
+        // The GAS token changes the balances without system calls and storage fees.
+        InvocationProfile.ContractUsage gas = profile.getContract(GAS);
+        assertThat(gas.getCalls(), is(1));
+        assertThat(gas.getNotifications(), is(1));
+        assertThat(gas.getAdded(), is(1));
+        assertThat(gas.getChanged(), is(1));
+        assertThat(gas.getBytesWritten(), is(37L));
+        assertThat(gas.getAttributedGas(), is(BigInteger.ZERO));
+
+        // 7 bytes for the added entry, 1 storage and 1 notification system call.
+        InvocationProfile.ContractUsage usage = profile.getContract(CONTRACT);
+        assertThat(usage.getStorageGas(), is(BigInteger.valueOf(700000)));
+        assertThat(usage.getSyscallGas(), is(BigInteger.valueOf(2 * 32768 * 30)));
+
+        BigInteger attributed = profile.getContracts().stream()
+                .map(InvocationProfile.ContractUsage::getAttributedGas)
+                .reduce(BigInteger.ZERO, BigInteger::add);
+        assertThat(attributed, lessThanOrEqualTo(profile.getGasConsumed()));
+        assertThat(profile.getUnattributedGas(), is(BigInteger.valueOf(331700)));
+        assertThat(profile.toFoldedStacks(), is(ROOT_FRAME + " 331700\n" +
+                ROOT_FRAME + ";0x" + CONTRACT + " 2666080"));
+    }
+
+    @Test
+    public void testChangedEntryWithEmptyValueIsChargedOneByte() throws IOException {
+        setUpWireMockForCall("invokefunction", "invokefunction_diagnostics_profile_emptyValue.json");
+        setUpWireMockForCall("getcontractstate", "contractstate.json");
+
+        InvocationProfile profile = profiler.profile(CONTRACT, "transfer", new ArrayList<>());
+
+        assertThat(profile.getContract(CONTRACT).getBytesWritten(), is(0L));
+        assertThat(profile.getContract(CONTRACT).getStorageGas(), is(BigInteger.valueOf(100000)));
+    }
+
+    @Test
+    public void testFailOnUnknownContractId() throws IOException {
+        setUpWireMockForCall("invokefunction", "invokefunction_diagnostics_profile.json");
+        setUpWireMockForCall("getcontractstate", "getcontractstate_unknown.json");
+
+        RpcResponseErrorException thrown = assertThrows(RpcResponseErrorException.class,
+                () -> profiler.profile(CONTRACT, "transfer", new ArrayList<>()));
+        assertThat(thrown.getMessage(), containsString("Unknown contract"));
+    }
+
+}
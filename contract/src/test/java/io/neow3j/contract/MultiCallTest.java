@@ -0,0 +1,160 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.protocol.exceptions.InvocationFaultStateException;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.script.OpCode;
+import io.neow3j.test.JsonRpcBatchTransformer;
+import io.neow3j.types.Hash160;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBatches;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.types.ContractParameter.integer;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiCallTest {
+
+    private static final Hash160 CONTRACT = new Hash160("ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().extensions(new JsonRpcBatchTransformer()))
+            .build();
+
+    private MultiCall multiCall;
+
+    @BeforeEach
+    public void setUp() {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        multiCall = new MultiCall(Neow3j.build(new HttpService("http://127.0.0.1:" + port)));
+        setUpWireMockForBatches();
+    }
+
+    @Test
+    public void testFaultOfOneCallDoesNotFailTheBatch() throws IOException {
+        MultiCall.Call<String> first = multiCall.add(CONTRACT, "first", new ArrayList<>(), StackItem::getString);
+        MultiCall.Call<StackItem> failing = multiCall.add(CONTRACT, "fail", integer(1));
+        MultiCall.Call<String> last = multiCall.add(CONTRACT, "last", asList(integer(2)), StackItem::getString);
+        setUpWireMockForScript(asList(first, failing, last), "invokescript_multicall_oneFault.json");
+
+        multiCall.execute();
+
+        verifyScriptsInvoked(1);
+        assertThat(first.get(), is("first"));
+        assertThat(last.get(), is("last"));
+        assertThat(first.hasFault(), is(false));
+        assertThat(failing.hasFault(), is(true));
+        assertThat(failing.getException(), is("boom"));
+        InvocationFaultStateException thrown = assertThrows(InvocationFaultStateException.class, failing::get);
+        assertThat(thrown.getMessage(), is("The invocation resulted in a FAULT VM state. The VM exited due to the " +
+                "following exception: boom"));
+    }
+
+    @Test
+    public void testBatchesAreSplitWhenExceedingLimits() throws IOException {
+        List<MultiCall.Call<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            calls.add(multiCall.add(CONTRACT, "call" + i, new ArrayList<>(), StackItem::getString));
+        }
+        // Scripts with more than two calls run out of GAS.
+        setUpWireMockForScript(calls.subList(0, 4), "invokescript_multicall_insufficientGas.json");
+        setUpWireMockForScript(calls.subList(4, 7), "invokescript_multicall_insufficientGas.json");
+        setUpWireMockForScript(calls.subList(0, 2), "invokescript_multicall_calls_0_1.json");
+        setUpWireMockForScript(calls.subList(2, 4), "invokescript_multicall_calls_2_3.json");
+        setUpWireMockForScript(calls.subList(4, 5), "invokescript_multicall_call_4.json");
+        setUpWireMockForScript(calls.subList(5, 7), "invokescript_multicall_calls_5_6.json");
+
+        multiCall.maxCallsPerBatch(4).execute();
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(calls.get(i).get(), is("call" + i));
+        }
+        // Two batches of 4 and 3 calls exceed the limit. Then, 4 batches of 2, 2, 1 and 2 calls are executed.
+        verifyScriptsInvoked(6);
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(matching("(?s)\\s*\\[.*")));
+    }
+
+    @Test
+    public void testSingleCallExceedingLimitsFails() throws IOException {
+        MultiCall.Call<StackItem> call = multiCall.add(CONTRACT, "call");
+        setUpWireMockForScript(singletonList(call), "invokescript_multicall_insufficientGas.json");
+
+        multiCall.execute();
+
+        assertThat(call.hasFault(), is(true));
+        assertThat(call.getException(), is("Insufficient GAS."));
+    }
+
+    @Test
+    public void testGetBeforeExecute() {
+        MultiCall.Call<StackItem> call = multiCall.add(CONTRACT, "call");
+        assertThat(call.isExecuted(), is(false));
+        assertThrows(IllegalStateException.class, call::get);
+    }
+
+    @Test
+    public void testTryCatchOffsets() {
+        MultiCall.Call<StackItem> call = multiCall.add(CONTRACT, "call", integer(1));
+        byte[] script = MultiCall.buildScript(singletonList(call));
+
+        assertThat(script[0], is((byte) OpCode.NEWARRAY0.getCode()));
+        assertThat(script[1], is((byte) OpCode.DUP.getCode()));
+        int tryOffset = 2;
+        assertThat(script[tryOffset], is((byte) OpCode.TRY_L.getCode()));
+        int catchOffset = tryOffset + int32(script, tryOffset + 1);
+        assertThat(int32(script, tryOffset + 5), is(0));
+        assertThat(script[catchOffset], is((byte) OpCode.PUSHF.getCode()));
+
+        int endTryOffset = catchOffset - 5;
+        assertThat(script[endTryOffset - 1], is((byte) OpCode.PUSHT.getCode()));
+        assertThat(script[endTryOffset], is((byte) OpCode.ENDTRY_L.getCode()));
+        int endOffset = endTryOffset + int32(script, endTryOffset + 1);
+        assertThat(script[catchOffset + 1], is((byte) OpCode.ENDTRY_L.getCode()));
+        assertThat(catchOffset + 1 + int32(script, catchOffset + 2), is(endOffset));
+        assertThat(script[endOffset], is((byte) OpCode.PUSH2.getCode()));
+        assertThat(script[endOffset + 1], is((byte) OpCode.PACK.getCode()));
+        assertThat(script[endOffset + 2], is((byte) OpCode.APPEND.getCode()));
+        assertThat(script.length, is(endOffset + 3));
+    }
+
+    private static int int32(byte[] script, int offset) {
+        return ByteBuffer.wrap(script, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    }
+
+    private static void setUpWireMockForScript(List<MultiCall.Call<?>> calls, String responseFile)
+            throws IOException {
+        String script = Base64.getEncoder().encodeToString(MultiCall.buildScript(calls));
+        setUpWireMockForCall("invokescript", responseFile, Pattern.quote("\"" + script + "\""));
+    }
+
+    private static void verifyScriptsInvoked(int count) {
+        WireMock.verify(count, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo("invokescript"))));
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.contract.exceptions.UnresolvableDomainNameException;
+import io.neow3j.contract.types.NNSName;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.RecordType;
+import io.neow3j.protocol.http.HttpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class NNSResolutionCacheTest {
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private static final NNSName NAME = new NNSName("unwrapallrecords.neo");
+
+    private Neow3j neow3j;
+
+    @BeforeEach
+    public void setUp() {
+        // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+    }
+
+    @Test
+    public void testRecordsAreFetchedOnce() throws IOException, UnresolvableDomainNameException {
+        setUpWireMockForCall("invokescript", "nns_unwrapAllRecords.json");
+        NNSResolutionCache cache = new NNSResolutionCache(neow3j);
+
+        assertThat(cache.resolve(NAME, RecordType.TXT), is("unwrapAllRecordsTXT"));
+        assertThat(cache.resolve(NAME, RecordType.TXT), is("unwrapAllRecordsTXT"));
+        assertThat(cache.resolve(NAME, RecordType.CNAME), is("neow3j.neo"));
+        assertThat(cache.getRecords(NAME), hasSize(2));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+    @Test
+    public void testRecordsExpire() throws IOException, UnresolvableDomainNameException {
+        setUpWireMockForCall("invokescript", "nns_unwrapAllRecords.json");
+        NNSResolutionCache cache = new NNSResolutionCache(neow3j, 0);
+
+        cache.resolve(NAME, RecordType.TXT);
+        cache.resolve(NAME, RecordType.TXT);
+        verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+    @Test
+    public void testCNAMEChainIsFollowedLocally() throws IOException {
+        // Every name has a CNAME record to neow3j.neo but no A record.
+        setUpWireMockForCall("invokescript", "nns_unwrapAllRecords.json");
+        NNSResolutionCache cache = new NNSResolutionCache(neow3j);
+
+        assertThrows(UnresolvableDomainNameException.class, () -> cache.resolve(NAME, RecordType.A));
+        // The records of unwrapallrecords.neo and neow3j.neo are fetched once each. The second redirect to
+        // neow3j.neo uses the cached records.
+        verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+    @Test
+    public void testResolveAll() throws IOException, UnresolvableDomainNameException {
+        setUpWireMockForCall("invokescript", "nns_multicall_resolve.json");
+        NNSResolutionCache cache = new NNSResolutionCache(neow3j);
+        NNSName registered = new NNSName("client1.neo");
+        NNSName unregistered = new NNSName("unknown.neo");
+
+        Map<NNSName, String> results = cache.resolveAll(asList(registered, unregistered), RecordType.TXT);
+        assertThat(results.size(), is(1));
+        assertThat(results.get(registered), is("NSdNMyrz7Bp8MXab41nTuz1mRCnsFr5Rsv"));
+
+        // The bulk result is cached.
+        assertThat(cache.resolve(registered, RecordType.TXT), is("NSdNMyrz7Bp8MXab41nTuz1mRCnsFr5Rsv"));
+        assertThat(cache.resolveAll(asList(registered), RecordType.TXT).get(registered),
+                is("NSdNMyrz7Bp8MXab41nTuz1mRCnsFr5Rsv"));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+}
@@ -27,6 +27,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
 import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
@@ -212,6 +216,42 @@ public class NonFungibleTokenTest {
         assertThat(thrown.getMessage(), containsString(format("but expected %s.", StackItemType.MAP.jsonValue())));
     }
 
+    @Test
+    public void testOwnerOfBulk() throws IOException {
+        setUpWireMockForInvokeFunction("decimals", "nft_decimals_0.json");
+        setUpWireMockForCall("invokescript", "nft_multicall_ownerof.json");
+
+        List<MultiCall.Call<Hash160>> owners = nfTestToken.ownerOf(asList(TOKEN_ID, new byte[]{4}));
+
+        assertThat(owners, hasSize(2));
+        assertThat(owners.get(0).get(), is(account1.getScriptHash()));
+        assertThat(owners.get(1).hasFault(), is(true));
+        assertThat(owners.get(1).getException(), is("token not found"));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+    @Test
+    public void testBalanceOfBulk_NonDivisible() throws IOException {
+        setUpWireMockForInvokeFunction("decimals", "nft_decimals_0.json");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> nfTestToken.balanceOf(account1.getScriptHash(), asList(TOKEN_ID)));
+        assertThat(thrown.getMessage(), is("This method is only intended for divisible NFTs."));
+    }
+
+    @Test
+    public void testGetPropertiesBulk() throws IOException {
+        setUpWireMockForCall("invokescript", "nft_multicall_properties.json");
+
+        List<MultiCall.Call<Map<String, String>>> properties =
+                nfTestToken.properties(asList(new byte[]{1}, new byte[]{2}));
+
+        assertThat(properties.get(0).get().get("name"), is("A name"));
+        UnexpectedReturnTypeException thrown =
+                assertThrows(UnexpectedReturnTypeException.class, () -> properties.get(1).get());
+        assertThat(thrown.getMessage(), containsString(format("but expected %s.", StackItemType.MAP.jsonValue())));
+    }
+
     @Test
     public void testGetCustomProperties() throws IOException {
         setUpWireMockForInvokeFunction("properties", "nft_customProperties.json");
@@ -25,7 +25,13 @@ import java.math.BigInteger;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
 import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
@@ -399,6 +405,86 @@ public class SmartContractTest {
         assertThat(iteratorArray.get(1).getAddress(), Matchers.is("NhxK1PEmijLVD6D4WSuPoUYJVk855L21ru"));
     }
 
+    @Test
+    public void testCallFunctionAndStreamIterator() throws IOException {
+        setUpWireMockForCall("getversion", "getversion_sessionEnabled.json");
+        setUpWireMockForInvokeFunction("tokens", "invokefunction_iterator_session.json");
+        setUpWireMockForCall("traverseiterator", "traverseiterator.json");
+        setUpWireMockForCall("terminatesession", "terminatesession.json");
+
+        List<String> names;
+        try (Stream<String> stream = someContractOnNewNeow3j().callFunctionAndStreamIterator(
+                i -> i.getList().get(1).getString(), "tokens", 3)) {
+            names = stream.collect(Collectors.toList());
+        }
+        assertThat(names, is(asList("besttoken", "almostbesttoken")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"traverseiterator\"")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"terminatesession\"")));
+    }
+
+    @Test
+    public void testCallFunctionAndStreamIterator_closeTerminatesSession() throws IOException {
+        setUpWireMockForCall("getversion", "getversion_sessionEnabled.json");
+        setUpWireMockForInvokeFunction("tokens", "invokefunction_iterator_session.json");
+        setUpWireMockForCall("traverseiterator", "traverseiterator.json");
+        setUpWireMockForCall("terminatesession", "terminatesession.json");
+
+        try (Stream<StackItem> stream = someContractOnNewNeow3j().callFunctionAndStreamIterator(i -> i, "tokens", 2)) {
+            assertThat(stream.findFirst().isPresent(), is(true));
+        }
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"terminatesession\"")));
+    }
+
+    @Test
+    public void testCallFunctionAndStreamIterator_sessionsDisabled() throws IOException {
+        setUpWireMockForCall("getversion", "getversion_sessionDisabled.json");
+        setUpWireMockForCall("invokescript", "invokescript_ownerOf_array.json");
+
+        SmartContract contract = someContractOnNewNeow3j();
+        for (int i = 0; i < 2; i++) {
+            List<String> owners = contract.callFunctionAndStreamIterator(StackItem::getAddress, "ownerOf", 5)
+                    .collect(Collectors.toList());
+            assertThat(owners, is(asList("NSdNMyrz7Bp8MXab41nTuz1mRCnsFr5Rsv", "NhxK1PEmijLVD6D4WSuPoUYJVk855L21ru")));
+        }
+        // The session support is fetched once and the function is not invoked for a session.
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"getversion\"")));
+        verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokefunction\"")));
+        verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+        verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"terminatesession\"")));
+    }
+
+    @Test
+    public void testCallFunctionAndStreamIterator_sessionsDisabledWithoutRpcSettings() throws IOException {
+        setUpWireMockForCall("getversion", "getversion_noRpc.json");
+        setUpWireMockForInvokeFunction("ownerOf", "invokefunction_iterator_sessionDisabled.json");
+        setUpWireMockForCall("invokescript", "invokescript_ownerOf_array.json");
+
+        List<String> owners = someContractOnNewNeow3j().callFunctionAndStreamIterator(StackItem::getAddress,
+                "ownerOf", 5).collect(Collectors.toList());
+        assertThat(owners, is(asList("NSdNMyrz7Bp8MXab41nTuz1mRCnsFr5Rsv", "NhxK1PEmijLVD6D4WSuPoUYJVk855L21ru")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokefunction\"")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+    @Test
+    public void testCallFunctionAndFlowIterator() throws IOException {
+        setUpWireMockForCall("getversion", "getversion_sessionEnabled.json");
+        setUpWireMockForInvokeFunction("tokens", "invokefunction_iterator_session.json");
+        setUpWireMockForCall("traverseiterator", "traverseiterator.json");
+        setUpWireMockForCall("terminatesession", "terminatesession.json");
+
+        List<String> names = someContractOnNewNeow3j().callFunctionAndFlowIterator(
+                i -> i.getList().get(1).getString(), "tokens", 3).toList().blockingGet();
+        assertThat(names, is(asList("besttoken", "almostbesttoken")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"terminatesession\"")));
+    }
+
+    // The RPC settings of the Neo node are cached per Neow3j instance.
+    private SmartContract someContractOnNewNeow3j() {
+        Neow3j neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + wireMockExtension.getPort()));
+        return new SmartContract(SOME_SCRIPT_HASH, neow3j);
+    }
+
     @Test
     public void callInvokeFunction_missingFunction() {
         IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
@@ -0,0 +1,204 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import io.neow3j.crypto.Base64;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.loadFile;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StorageSnapshotBuilderTest {
+
+    private static final Hash160 CONTRACT = new Hash160("ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+    private static final Hash256 ROOT_1 =
+            new Hash256("1111111111111111111111111111111111111111111111111111111111111111");
+    private static final Hash256 ROOT_2 =
+            new Hash256("2222222222222222222222222222222222222222222222222222222222222222");
+
+    // The sub-ranges 0x070109 to 0x07010c, which are answered with a delay.
+    private static final String SLOW_SUB_RANGES = ".*\"method\":\"findstates\".*\"BwE[JKLM]\",\"\",.*";
+    private static final int SLOW_RESPONSE_DELAY = 1000;
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @TempDir
+    File tempDir;
+
+    private StorageSnapshotBuilder builder;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        builder = new StorageSnapshotBuilder(Neow3j.build(new HttpService("http://127.0.0.1:" + port)));
+        // Key ranges without a specific stub are empty.
+        setUpWireMockForCall("findstates", "findstates_empty.json");
+    }
+
+    @Test
+    public void testSmallStorageIsReadWithOneRequest() throws IOException {
+        setUpFindStates(ROOT_1, new byte[0], "findstates_root1.json");
+
+        try (StorageSnapshot snapshot = builder.create(CONTRACT, ROOT_1, new byte[0], new File(tempDir, "s"))) {
+            assertThat(snapshot.size(), is(4));
+            assertThat(snapshot.get(new byte[]{1, 1}), is(new byte[]{1}));
+            assertThat(snapshot.get(new byte[]{3}), is(new byte[]{4}));
+            assertThat(snapshot.get(new byte[]{2}), is(nullValue()));
+            assertThat(snapshot.getStateRoot(), is(ROOT_1));
+            assertThat(snapshot.getContract(), is(CONTRACT));
+        }
+        verifyFindStatesRequests(1);
+    }
+
+    @Test
+    public void testTruncatedRangesAreContinuedAndSplitRecursively() throws IOException {
+        // The range of the prefix 0x07 does not fit into two pages. Thus, it is continued once and then split. The
+        // same applies to its sub-range 0x0701.
+        setUpFindStates(ROOT_1, new byte[]{7}, "findstates_prefix07.json");
+        setUpFindStates(ROOT_1, new byte[]{7}, new byte[]{7, 0, 2}, "findstates_prefix07_from070002.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1}, new byte[]{7, 1, 2}, "findstates_prefix0701_from070102.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1}, new byte[]{7, 1, 5}, "findstates_prefix0701_from070105.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1, 9}, "findstates_prefix070109.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1, 10}, "findstates_prefix07010a.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1, 11}, "findstates_prefix07010b.json");
+        setUpFindStates(ROOT_1, new byte[]{7, (byte) 0xff}, "findstates_prefix07ff.json");
+
+        File file = new File(tempDir, "s");
+        try (StorageSnapshot snapshot = builder.pageSize(3).create(CONTRACT, ROOT_1, new byte[]{7}, file)) {
+            assertThat(snapshot.size(), is(16));
+            assertThat(snapshot.getKey(0), is(new byte[]{7}));
+            for (int i = 1; i < snapshot.size(); i++) {
+                assertThat(StorageSnapshot.compareKeys(snapshot.getKey(i - 1), snapshot.getKey(i)) < 0, is(true));
+            }
+            assertThat(snapshot.get(new byte[]{7, 1}), is(new byte[]{3}));
+            assertThat(snapshot.get(new byte[]{7, 1, 5}), is(new byte[]{8}));
+            assertThat(snapshot.get(new byte[]{7, 1, 11}), is(new byte[]{14}));
+            assertThat(snapshot.get(new byte[]{7, (byte) 0xff, 1}), is(new byte[]{15}));
+        }
+        try (StorageSnapshot reopened = StorageSnapshot.open(file)) {
+            assertThat(reopened.getPrefix(), is(new byte[]{7}));
+            assertThat(reopened.get(new byte[]{7, 0, 2}), is(new byte[]{2}));
+        }
+        // Two pages each for the prefixes 0x07 and 0x0701, the continued sub-range 0x070108, the 247 following
+        // sub-ranges of 0x0701 and the 254 following sub-ranges of 0x07.
+        verifyFindStatesRequests(506);
+    }
+
+    @Test
+    public void testSubRangesOfNestedSplitAreReadConcurrently() throws IOException {
+        setUpFindStates(ROOT_1, new byte[]{7}, "findstates_prefix07.json");
+        setUpFindStates(ROOT_1, new byte[]{7}, new byte[]{7, 0, 2}, "findstates_prefix07_from070002.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1}, new byte[]{7, 1, 2}, "findstates_prefix0701_from070102.json");
+        setUpFindStates(ROOT_1, new byte[]{7, 1}, new byte[]{7, 1, 5}, "findstates_prefix0701_from070105.json");
+        // The first sub-ranges of the nested split are answered slowly. The sub-ranges 0x0702 to 0x0704 that were
+        // read ahead before that split must not keep them from being read concurrently.
+        setUpSlowFindStates(new byte[]{7, 1, 9}, "findstates_prefix070109.json");
+        setUpSlowFindStates(new byte[]{7, 1, 10}, "findstates_prefix07010a.json");
+        setUpSlowFindStates(new byte[]{7, 1, 11}, "findstates_prefix07010b.json");
+        setUpSlowFindStates(new byte[]{7, 1, 12}, "findstates_empty.json");
+
+        try (StorageSnapshot snapshot = builder.pageSize(3).maxConcurrency(4)
+                .create(CONTRACT, ROOT_1, new byte[]{7}, new File(tempDir, "s"))) {
+            assertThat(snapshot.size(), is(15));
+        }
+        List<Long> received = new ArrayList<>();
+        for (LoggedRequest request : WireMock.findAll(postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matching(SLOW_SUB_RANGES)))) {
+            received.add(request.getLoggedDate().getTime());
+        }
+        assertThat(received.size(), is(4));
+        assertThat(Collections.max(received) - Collections.min(received), lessThan((long) SLOW_RESPONSE_DELAY));
+    }
+
+    @Test
+    public void testUpdateReadsOnlyChangedPrefixes() throws IOException {
+        setUpFindStates(ROOT_1, new byte[0], "findstates_root1.json");
+        // At the second state root, the entry 0x0201 is changed, 0x0202 is removed and 0x0203 is added.
+        setUpFindStates(ROOT_2, new byte[]{2}, "findstates_root2_prefix02.json");
+
+        try (StorageSnapshot base = builder.create(CONTRACT, ROOT_1, new byte[0], new File(tempDir, "s1"));
+             StorageSnapshot updated = builder.update(base, ROOT_2, asList(new byte[]{2}, new byte[]{2, 1}),
+                     new File(tempDir, "s2"))) {
+
+            assertThat(updated.getStateRoot(), is(ROOT_2));
+            assertThat(updated.size(), is(4));
+            assertThat(updated.get(new byte[]{1, 1}), is(new byte[]{1}));
+            assertThat(updated.get(new byte[]{2, 1}), is(new byte[]{9}));
+            assertThat(updated.get(new byte[]{2, 2}), is(nullValue()));
+            assertThat(updated.get(new byte[]{2, 3}), is(new byte[]{8}));
+            assertThat(updated.get(new byte[]{3}), is(new byte[]{4}));
+            // One request for the base snapshot and one for the changed prefix.
+            verifyFindStatesRequests(2);
+        }
+    }
+
+    @Test
+    public void testUpdateRejectsPrefixOutsideOfSnapshot() throws IOException {
+        try (StorageSnapshot base = builder.create(CONTRACT, ROOT_1, new byte[]{1}, new File(tempDir, "s1"))) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> builder.update(base, ROOT_2, singletonList(new byte[]{2}), new File(tempDir, "s2")));
+            assertThrows(IllegalArgumentException.class,
+                    () -> builder.update(base, ROOT_2, singletonList(new byte[]{1}), base.getFile()));
+        }
+    }
+
+    // Matches the requests for a range that is read from the start, i.e., without or with an empty start key.
+    private static void setUpFindStates(Hash256 root, byte[] prefix, String responseFile) throws IOException {
+        setUpWireMockForCall("findstates", responseFile, root.toString(),
+                Pattern.quote("\"" + Base64.encode(prefix) + "\"") + "(,\"\",\\d+)?\\]");
+    }
+
+    private static void setUpFindStates(Hash256 root, byte[] prefix, byte[] from, String responseFile)
+            throws IOException {
+        setUpWireMockForCall("findstates", responseFile, root.toString(),
+                Pattern.quote("\"" + Base64.encode(prefix) + "\",\"" + Base64.encode(from) + "\","));
+    }
+
+    private static void setUpSlowFindStates(byte[] prefix, String responseFile) throws IOException {
+        WireMock.stubFor(WireMock.post(urlEqualTo("/"))
+                .withRequestBody(matching(".*\"method\":\"findstates\".*"
+                        + Pattern.quote("\"" + Base64.encode(prefix) + "\",\"\",") + ".*"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withBody(loadFile("/responses/" + responseFile))
+                        .withFixedDelay(SLOW_RESPONSE_DELAY)));
+    }
+
+    private static void verifyFindStatesRequests(int count) {
+        WireMock.verify(count, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo("findstates"))));
+    }
+
+}
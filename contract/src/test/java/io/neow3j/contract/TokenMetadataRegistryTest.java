@@ -0,0 +1,135 @@
+package io.neow3j.contract;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.ContractManifest;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.types.Hash160;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TokenMetadataRegistryTest {
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private static final Hash160 SOME_TOKEN_SCRIPT_HASH = new Hash160("f7014e6d52fe8f94f7c57acd8cfb875b4ac2a1c6");
+
+    private Neow3j neow3j;
+
+    @BeforeEach
+    public void setUp() {
+        // Configuring WireMock to use default host and the dynamic port set in WireMockRule.
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+    }
+
+    @Test
+    public void testTokensShareImmutableMetadata() throws IOException {
+        setUpWireMockForInvokeFunction("symbol", "invokefunction_symbol.json");
+        setUpWireMockForInvokeFunction("decimals", "invokefunction_decimals_nep17.json");
+        TokenMetadataRegistry registry = new TokenMetadataRegistry();
+
+        FungibleToken token1 = new FungibleToken(SOME_TOKEN_SCRIPT_HASH, neow3j, registry);
+        FungibleToken token2 = new FungibleToken(SOME_TOKEN_SCRIPT_HASH, neow3j, registry);
+        assertThat(token1.getSymbol(), is("ant"));
+        assertThat(token2.getSymbol(), is("ant"));
+        assertThat(token1.getDecimals(), is(2));
+        assertThat(token2.getDecimals(), is(2));
+
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"symbol\"")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"decimals\"")));
+    }
+
+    @Test
+    public void testTotalSupplyExpires() throws IOException {
+        setUpWireMockForInvokeFunction("totalSupply", "invokefunction_totalSupply.json");
+
+        Token cached = new Token(SOME_TOKEN_SCRIPT_HASH, neow3j, new TokenMetadataRegistry());
+        assertThat(cached.getTotalSupply(), is(new BigInteger("3000000000000000")));
+        assertThat(cached.getTotalSupply(), is(new BigInteger("3000000000000000")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"totalSupply\"")));
+
+        Token expiring = new Token(SOME_TOKEN_SCRIPT_HASH, neow3j, new TokenMetadataRegistry(0));
+        assertThat(expiring.getTotalSupply(), is(new BigInteger("3000000000000000")));
+        assertThat(expiring.getTotalSupply(), is(new BigInteger("3000000000000000")));
+        verify(3, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"totalSupply\"")));
+    }
+
+    @Test
+    public void testWarmUp() throws IOException {
+        setUpWireMockForCall("invokescript", "invokescript_multicall_token_metadata.json");
+        TokenMetadataRegistry registry = new TokenMetadataRegistry()
+                .warmUp(neow3j, singletonList(SOME_TOKEN_SCRIPT_HASH));
+
+        Token token = new Token(SOME_TOKEN_SCRIPT_HASH, neow3j, registry);
+        assertThat(token.getSymbol(), is("ant"));
+        assertThat(token.getDecimals(), is(2));
+        assertThat(token.getTotalSupply(), is(new BigInteger("3000000000000000")));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+        verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokefunction\"")));
+
+        // All values are cached, so warming up again does not send a request.
+        registry.warmUp(neow3j, singletonList(SOME_TOKEN_SCRIPT_HASH));
+        verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("\"invokescript\"")));
+    }
+
+    @Test
+    public void testSaveAndLoad(@TempDir File tempDir) throws IOException {
+        setUpWireMockForInvokeFunction("symbol", "invokefunction_symbol.json");
+        setUpWireMockForInvokeFunction("decimals", "invokefunction_decimals_nep17.json");
+        setUpWireMockForCall("getcontractstate", "contractstate.json");
+        TokenMetadataRegistry registry = new TokenMetadataRegistry();
+        registry.getSymbol(SOME_TOKEN_SCRIPT_HASH, neow3j);
+        registry.getDecimals(SOME_TOKEN_SCRIPT_HASH, neow3j);
+        ContractManifest manifest = registry.getManifest(SOME_TOKEN_SCRIPT_HASH, neow3j);
+
+        File file = new File(tempDir, "tokens.json");
+        registry.save(file);
+        WireMock.reset();
+
+        Token token = new Token(SOME_TOKEN_SCRIPT_HASH, neow3j, new TokenMetadataRegistry().load(file));
+        assertThat(token.getSymbol(), is("ant"));
+        assertThat(token.getDecimals(), is(2));
+        assertThat(token.getManifest(), is(manifest));
+        assertThat(token.getManifest().getName(), is("neow3j"));
+        verify(0, postRequestedFor(urlEqualTo("/")));
+    }
+
+    @Test
+    public void testGetManifestOfUnknownContract() throws IOException {
+        setUpWireMockForCall("getcontractstate", "getcontractstate_unknown.json");
+        TokenMetadataRegistry registry = new TokenMetadataRegistry();
+
+        RpcResponseErrorException thrown = assertThrows(RpcResponseErrorException.class,
+                () -> registry.getManifest(SOME_TOKEN_SCRIPT_HASH, neow3j));
+        assertThat(thrown.getMessage(), containsString("Unknown contract"));
+    }
+
+}
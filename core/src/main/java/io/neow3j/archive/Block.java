@@ -0,0 +1,210 @@
+package io.neow3j.archive;
+
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoWitness;
+import io.neow3j.serialization.BinaryReader;
+import io.neow3j.serialization.BinaryWriter;
+import io.neow3j.serialization.IOUtils;
+import io.neow3j.serialization.NeoSerializable;
+import io.neow3j.serialization.exceptions.DeserializationException;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.Witness;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.neow3j.crypto.Hash.sha256;
+import static io.neow3j.utils.ArrayUtils.reverseArray;
+import static java.lang.String.format;
+
+/**
+ * A block in its binary form as it is stored by a Neo node, e.g., in a chain archive exported by neo-cli.
+ * <p>
+ * Use {@link #toNeoBlock()} to obtain the same representation of the block that is returned by the {@code getblock}
+ * RPC method.
+ */
+public class Block extends NeoSerializable {
+
+    public static final int HEADER_SIZE = 4 + // Version uint32
+            32 + // Previous block hash
+            32 + // Merkle root
+            8 + // Timestamp uint64
+            8 + // Nonce uint64
+            4 + // Index uint32
+            1 + // Primary index byte
+            20; // Next consensus
+
+    private long version;
+    private Hash256 prevBlockHash;
+    private Hash256 merkleRoot;
+    private long timestamp;
+    private long nonce;
+    private long index;
+    private int primaryIndex;
+    private Hash160 nextConsensus;
+    private Witness witness;
+    private List<Transaction> transactions;
+
+    public Block() {
+        transactions = new ArrayList<>();
+    }
+
+    /**
+     * @return the version of this block.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the hash of the previous block.
+     */
+    public Hash256 getPrevBlockHash() {
+        return prevBlockHash;
+    }
+
+    /**
+     * @return the merkle root of the transactions in this block.
+     */
+    public Hash256 getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    /**
+     * @return the timestamp of this block in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the nonce of this block.
+     */
+    public long getNonce() {
+        return nonce;
+    }
+
+    /**
+     * @return the index (height) of this block.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the index of the consensus node that proposed this block.
+     */
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    /**
+     * @return the script hash of the consensus nodes of the next block.
+     */
+    public Hash160 getNextConsensus() {
+        return nextConsensus;
+    }
+
+    /**
+     * @return the witness of this block.
+     */
+    public Witness getWitness() {
+        return witness;
+    }
+
+    /**
+     * @return the transactions of this block.
+     */
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * @return this block's hash, i.e., the SHA-256 hash of its unsigned header.
+     */
+    public Hash256 getHash() {
+        try (ByteArrayOutputStream ms = new ByteArrayOutputStream(HEADER_SIZE)) {
+            try (BinaryWriter writer = new BinaryWriter(ms)) {
+                serializeUnsigned(writer);
+                writer.flush();
+                return new Hash256(reverseArray(sha256(ms.toByteArray())));
+            }
+        } catch (IOException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    /**
+     * Converts this block to the representation used by the {@code getblock} RPC method.
+     * <p>
+     * Properties that depend on the state of the chain, i.e., the number of confirmations and the hash of the next
+     * block, are not available and not set on the returned object.
+     *
+     * @return the block.
+     */
+    public NeoBlock toNeoBlock() {
+        List<NeoWitness> witnesses = new ArrayList<>();
+        witnesses.add(new NeoWitness(witness));
+        List<io.neow3j.protocol.core.response.Transaction> txs = transactions.stream()
+                .map(io.neow3j.protocol.core.response.Transaction::new)
+                .collect(Collectors.toList());
+        return new NeoBlock(getHash(), getSize(), (int) version, prevBlockHash, merkleRoot, timestamp,
+                format("%016X", nonce), index, primaryIndex, nextConsensus.toAddress(), witnesses, txs, 0, null);
+    }
+
+    @Override
+    public void deserialize(BinaryReader reader) throws DeserializationException {
+        try {
+            version = reader.readUInt32();
+            prevBlockHash = reader.readSerializable(Hash256.class);
+            merkleRoot = reader.readSerializable(Hash256.class);
+            timestamp = reader.readInt64();
+            nonce = reader.readInt64();
+            index = reader.readUInt32();
+            primaryIndex = reader.readUnsignedByte();
+            nextConsensus = reader.readSerializable(Hash160.class);
+            long nrOfWitnesses = reader.readVarInt();
+            if (nrOfWitnesses != 1) {
+                throw new DeserializationException(
+                        format("A block must have exactly one witness. Input data had %s witnesses.",
+                                nrOfWitnesses));
+            }
+            witness = reader.readSerializable(Witness.class);
+            transactions = reader.readSerializableList(Transaction.class);
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    private void serializeUnsigned(BinaryWriter writer) throws IOException {
+        writer.writeUInt32(version);
+        writer.writeSerializableFixed(prevBlockHash);
+        writer.writeSerializableFixed(merkleRoot);
+        writer.writeInt64(timestamp);
+        writer.writeInt64(nonce);
+        writer.writeUInt32(index);
+        writer.writeByte((byte) primaryIndex);
+        writer.writeSerializableFixed(nextConsensus);
+    }
+
+    @Override
+    public void serialize(BinaryWriter writer) throws IOException {
+        serializeUnsigned(writer);
+        writer.writeVarInt(1);
+        writer.writeSerializableFixed(witness);
+        writer.writeSerializableVariable(transactions);
+    }
+
+    @Override
+    public int getSize() {
+        return HEADER_SIZE +
+                IOUtils.getVarSize(1) + witness.getSize() +
+                IOUtils.getVarSize(transactions);
+    }
+
+}
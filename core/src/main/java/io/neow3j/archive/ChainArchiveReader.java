@@ -0,0 +1,328 @@
+package io.neow3j.archive;
+
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.serialization.BinaryReader;
+import io.neow3j.serialization.exceptions.DeserializationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Reads blocks from a chain archive file as exported by neo-cli's {@code export blocks} command.
+ * <p>
+ * An archive consists of an optional start index (uint32, only present in files named {@code chain.<start>.acc}),
+ * the number of blocks (uint32) and the blocks themselves, each prefixed with its byte size (int32).
+ * <p>
+ * The archive is memory-mapped and indexed once when it is opened. Blocks are only deserialized when they are
+ * accessed, which allows the returned streams to be processed in parallel chunks without loading the archive into
+ * the heap.
+ */
+public class ChainArchiveReader implements Closeable {
+
+    private static final Pattern ARCHIVE_WITH_START_PATTERN = Pattern.compile("^chain\\.(\\d+)\\.acc$");
+
+    // A block must never span two mapped segments. The segment size is well below the maximum that can be mapped at
+    // once and above the maximum block size of a Neo node.
+    private static final long MAX_SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long startIndex;
+    private final int blockCount;
+    private final List<MappedByteBuffer> segments;
+    private final int[] segmentOfBlock;
+    private final int[] offsetInSegment;
+    private final int[] blockSize;
+
+    private ChainArchiveReader(FileChannel channel, boolean hasStartIndex) throws IOException {
+        this.channel = channel;
+        this.segments = new ArrayList<>();
+        long fileSize = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        int headerSize = hasStartIndex ? 8 : 4;
+        header.limit(headerSize);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("The chain archive is too short to contain a header.");
+            }
+        }
+        this.startIndex = hasStartIndex ? Integer.toUnsignedLong(header.getInt(0)) : 0;
+        long count = Integer.toUnsignedLong(header.getInt(headerSize - 4));
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException(format("The chain archive holds %s blocks, which is more than supported.", count));
+        }
+        this.blockCount = (int) count;
+        this.segmentOfBlock = new int[blockCount];
+        this.offsetInSegment = new int[blockCount];
+        this.blockSize = new int[blockCount];
+        indexBlocks(headerSize, fileSize);
+    }
+
+    /**
+     * Opens the chain archive at the given path.
+     * <p>
+     * Whether the archive starts with a start index is derived from the file name. neo-cli writes the start index
+     * only to files named {@code chain.<start>.acc}.
+     *
+     * @param path the path to the archive file.
+     * @return the reader.
+     * @throws IOException if the file cannot be read or is not a valid chain archive.
+     */
+    public static ChainArchiveReader open(Path path) throws IOException {
+        Matcher matcher = ARCHIVE_WITH_START_PATTERN.matcher(path.getFileName().toString());
+        return open(path, matcher.matches());
+    }
+
+    /**
+     * Opens the chain archive at the given path.
+     *
+     * @param path          the path to the archive file.
+     * @param hasStartIndex whether the archive starts with the index of its first block.
+     * @return the reader.
+     * @throws IOException if the file cannot be read or is not a valid chain archive.
+     */
+    public static ChainArchiveReader open(Path path, boolean hasStartIndex) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new ChainArchiveReader(channel, hasStartIndex);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void indexBlocks(long position, long fileSize) throws IOException {
+        long segmentStart = position;
+        MappedByteBuffer segment = mapSegment(segmentStart, fileSize);
+        for (int i = 0; i < blockCount; i++) {
+            long relative = position - segmentStart;
+            if (relative + 4 > segment.capacity()) {
+                segmentStart = position;
+                segment = mapSegment(segmentStart, fileSize);
+                relative = 0;
+            }
+            if (relative + 4 > segment.capacity()) {
+                throw new IOException(format("The chain archive ends before block %s.", startIndex + i));
+            }
+            int size = segment.getInt((int) relative);
+            if (size < 0) {
+                throw new IOException(format("Invalid size %s of block %s.", size, startIndex + i));
+            }
+            if (relative + 4 + size > segment.capacity()) {
+                if (relative == 0) {
+                    throw new IOException(format("The chain archive ends before block %s.", startIndex + i));
+                }
+                segmentStart = position;
+                segment = mapSegment(segmentStart, fileSize);
+                relative = 0;
+                if (4L + size > segment.capacity()) {
+                    throw new IOException(format("The chain archive ends before block %s.", startIndex + i));
+                }
+            }
+            segmentOfBlock[i] = segments.size() - 1;
+            offsetInSegment[i] = (int) relative + 4;
+            blockSize[i] = size;
+            position += 4L + size;
+        }
+    }
+
+    private MappedByteBuffer mapSegment(long start, long fileSize) throws IOException {
+        long size = Math.min(MAX_SEGMENT_SIZE, fileSize - start);
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(size, 0));
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * @return the index of the first block in this archive.
+     */
+    public long getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * @return the number of blocks in this archive.
+     */
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Reads the block with the given index (height) from the archive.
+     *
+     * @param index the index of the block.
+     * @return the block.
+     * @throws DeserializationException if the block cannot be deserialized.
+     */
+    public Block readBlock(long index) throws DeserializationException {
+        if (index < startIndex || index >= startIndex + blockCount) {
+            throw new IndexOutOfBoundsException(format("The archive contains the blocks %s to %s.", startIndex,
+                    startIndex + blockCount - 1));
+        }
+        return readBlockAt((int) (index - startIndex));
+    }
+
+    private Block readBlockAt(int i) throws DeserializationException {
+        ByteBuffer slice = segments.get(segmentOfBlock[i]).duplicate();
+        slice.position(offsetInSegment[i]);
+        slice.limit(offsetInSegment[i] + blockSize[i]);
+        try (BinaryReader reader = new BinaryReader(new ByteBufferInputStream(slice))) {
+            return reader.readSerializable(Block.class);
+        } catch (IOException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    /**
+     * Gets a stream of all blocks in this archive in ascending order.
+     * <p>
+     * A parallel stream splits the archive into chunks of consecutive blocks that are deserialized concurrently.
+     * Failing to deserialize a block terminates the stream with an {@link IllegalStateException}.
+     *
+     * @param parallel whether the returned stream is parallel.
+     * @return the stream of blocks.
+     */
+    public Stream<Block> blocks(boolean parallel) {
+        return StreamSupport.stream(new BlockSpliterator(0, blockCount), parallel);
+    }
+
+    /**
+     * Gets a stream of all blocks in this archive in the representation used by the {@code getblock} RPC method.
+     *
+     * @param parallel whether the returned stream is parallel.
+     * @return the stream of blocks.
+     * @see #blocks(boolean)
+     */
+    public Stream<NeoBlock> neoBlocks(boolean parallel) {
+        return blocks(parallel).map(Block::toNeoBlock);
+    }
+
+    /**
+     * Gets a stream of all transactions in this archive in the representation used by the RPC methods.
+     *
+     * @param parallel whether the returned stream is parallel.
+     * @return the stream of transactions.
+     * @see #blocks(boolean)
+     */
+    public Stream<Transaction> transactions(boolean parallel) {
+        return blocks(parallel).flatMap(b -> b.getTransactions().stream()).map(Transaction::new);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private class BlockSpliterator implements Spliterator<Block> {
+
+        // Chunks smaller than this are not split any further.
+        private static final int MIN_CHUNK_SIZE = 64;
+
+        private int current;
+        private final int end;
+
+        BlockSpliterator(int start, int end) {
+            this.current = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Block> action) {
+            if (current >= end) {
+                return false;
+            }
+            action.accept(read(current++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Block> action) {
+            while (current < end) {
+                action.accept(read(current++));
+            }
+        }
+
+        private Block read(int i) {
+            try {
+                return readBlockAt(i);
+            } catch (DeserializationException e) {
+                throw new IllegalStateException(format("Failed to deserialize block %s.", startIndex + i), e);
+            }
+        }
+
+        @Override
+        public Spliterator<Block> trySplit() {
+            int remaining = end - current;
+            if (remaining < 2 * MIN_CHUNK_SIZE) {
+                return null;
+            }
+            int mid = current + remaining / 2;
+            BlockSpliterator prefix = new BlockSpliterator(current, mid);
+            current = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - current;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+}
@@ -30,6 +30,7 @@ public class Bip32ECKeyPair extends ECKeyPair {
     private int parentFingerprint;
 
     private ECPoint publicKeyPoint;
+    private Integer fingerprint;
 
     public Bip32ECKeyPair(ECPrivateKey privateKey, ECPublicKey publicKey, int childNumber, byte[] chainCode,
             Bip32ECKeyPair parent) {
@@ -137,8 +138,11 @@ public class Bip32ECKeyPair extends ECKeyPair {
     }
 
     private int getFingerprint() {
-        byte[] id = getIdentifier();
-        return id[3] & 0xFF | (id[2] & 0xFF) << 8 | (id[1] & 0xFF) << 16 | (id[0] & 0xFF) << 24;
+        if (fingerprint == null) {
+            byte[] id = getIdentifier();
+            fingerprint = id[3] & 0xFF | (id[2] & 0xFF) << 8 | (id[1] & 0xFF) << 16 | (id[0] & 0xFF) << 24;
+        }
+        return fingerprint;
     }
 
     public int getDepth() {
@@ -163,11 +167,27 @@ public class Bip32ECKeyPair extends ECKeyPair {
 
     public ECPoint getPublicKeyPoint() {
         if (publicKeyPoint == null) {
-            publicKeyPoint = Sign.publicPointFromPrivateKey(getPrivateKey());
+            // The public key was already computed from the private key on construction.
+            publicKeyPoint = getPublicKey() != null
+                    ? getPublicKey().getECPoint()
+                    : Sign.publicPointFromPrivateKey(getPrivateKey());
         }
         return publicKeyPoint;
     }
 
+    /**
+     * Gets the extended public key of this key pair, i.e., its public key together with its chain code.
+     * <p>
+     * The extended public key can derive the public keys of all non-hardened child keys without any knowledge of
+     * the private key.
+     *
+     * @return the extended public key.
+     */
+    public Bip32ExtendedPublicKey toExtendedPublicKey() {
+        return new Bip32ExtendedPublicKey(new ECPublicKey(getPublicKeyPoint()), chainCode, depth, childNumber,
+                parentFingerprint);
+    }
+
     public byte[] getPrivateKeyBytes33() {
         final int numBytes = 33;
 
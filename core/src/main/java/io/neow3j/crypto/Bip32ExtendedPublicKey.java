@@ -0,0 +1,133 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.ECKeyPair.ECPrivateKey;
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.types.Hash160;
+import org.bouncycastle.math.ec.ECPoint;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static io.neow3j.crypto.Bip32ECKeyPair.HARDENED_BIT;
+import static io.neow3j.crypto.Hash.hmacSha512;
+
+/**
+ * A BIP-32 extended public key, i.e., a public key together with its chain code.
+ * <p>
+ * Child keys are derived with the public parent to public child derivation of BIP-32, which does not involve any
+ * private key arithmetic. Therefore, only non-hardened child keys can be derived.
+ */
+public class Bip32ExtendedPublicKey {
+
+    private final ECPublicKey publicKey;
+    private final byte[] chainCode;
+    private final int depth;
+    private final int childNumber;
+    private final int parentFingerprint;
+
+    private byte[] encodedPublicKey;
+    private Integer fingerprint;
+
+    public Bip32ExtendedPublicKey(ECPublicKey publicKey, byte[] chainCode, int depth, int childNumber,
+            int parentFingerprint) {
+        this.publicKey = publicKey;
+        this.chainCode = Arrays.copyOf(chainCode, chainCode.length);
+        this.depth = depth;
+        this.childNumber = childNumber;
+        this.parentFingerprint = parentFingerprint;
+    }
+
+    /**
+     * Derives the extended public key at the given path relative to the given key.
+     *
+     * @param parent the key to start from.
+     * @param path   the child numbers. Must not contain hardened child numbers.
+     * @return the derived key.
+     * @throws IllegalArgumentException if the path contains a hardened child number.
+     */
+    public static Bip32ExtendedPublicKey deriveKey(Bip32ExtendedPublicKey parent, int[] path) {
+        Bip32ExtendedPublicKey curr = parent;
+        if (path != null) {
+            for (int childNumber : path) {
+                curr = curr.deriveChildKey(childNumber);
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Derives the child key with the given child number.
+     *
+     * @param childNumber the child number. Must not be hardened.
+     * @return the child key.
+     * @throws IllegalArgumentException if the child number is hardened.
+     */
+    public Bip32ExtendedPublicKey deriveChildKey(int childNumber) {
+        if ((childNumber & HARDENED_BIT) != 0) {
+            throw new IllegalArgumentException("Hardened child keys cannot be derived from a public key.");
+        }
+        ByteBuffer data = ByteBuffer.allocate(37);
+        data.put(getEncodedPublicKey());
+        data.putInt(childNumber);
+        byte[] i = hmacSha512(chainCode, data.array());
+        byte[] il = Arrays.copyOfRange(i, 0, 32);
+        byte[] childChainCode = Arrays.copyOfRange(i, 32, 64);
+        Arrays.fill(i, (byte) 0);
+        BigInteger ilInt = new BigInteger(1, il);
+        ECPoint point = Sign.publicPointFromPrivateKey(new ECPrivateKey(ilInt))
+                .add(publicKey.getECPoint())
+                .normalize();
+        return new Bip32ExtendedPublicKey(new ECPublicKey(point), childChainCode, depth + 1, childNumber,
+                getFingerprint());
+    }
+
+    /**
+     * @return the public key.
+     */
+    public ECPublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * @return the public key encoded in compressed format.
+     */
+    public byte[] getEncodedPublicKey() {
+        if (encodedPublicKey == null) {
+            encodedPublicKey = publicKey.getEncoded(true);
+        }
+        return encodedPublicKey;
+    }
+
+    /**
+     * @return the script hash of the single-signature account of the public key.
+     */
+    public Hash160 getScriptHash() {
+        return Hash160.fromPublicKey(getEncodedPublicKey());
+    }
+
+    public byte[] getChainCode() {
+        return chainCode;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getChildNumber() {
+        return childNumber;
+    }
+
+    public int getParentFingerprint() {
+        return parentFingerprint;
+    }
+
+    private int getFingerprint() {
+        if (fingerprint == null) {
+            byte[] id = Hash.sha256AndThenRipemd160(getEncodedPublicKey());
+            fingerprint = id[3] & 0xFF | (id[2] & 0xFF) << 8 | (id[1] & 0xFF) << 16 | (id[0] & 0xFF) << 24;
+        }
+        return fingerprint;
+    }
+
+}
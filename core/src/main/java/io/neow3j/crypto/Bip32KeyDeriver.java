@@ -0,0 +1,249 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.types.Hash160;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.neow3j.crypto.Bip32ECKeyPair.HARDENED_BIT;
+import static java.lang.String.format;
+
+/**
+ * Derives many BIP-32 key pairs from the same master key pair.
+ * <p>
+ * The key pairs at the intermediate levels of the derived paths, e.g., {@code m/44'/888'/0'/0} when deriving
+ * {@code m/44'/888'/0'/0/i}, are kept in a bounded least-recently-used cache. Thus, the common prefix of many paths is
+ * only derived once. Ranges of child keys are derived in parallel.
+ * <p>
+ * If only public keys or script hashes are needed, e.g., for generating deposit addresses, use
+ * {@link #derivePublicKeys(int[], int, int)} or {@link #deriveScriptHashes(int[], int, int)}. They derive the child
+ * keys from the extended public key of the parent and don't involve the private keys of the children.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class Bip32KeyDeriver {
+
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final Bip32ECKeyPair master;
+    private final Map<List<Integer>, Bip32ECKeyPair> cache;
+
+    /**
+     * Constructs a deriver with a cache for {@value DEFAULT_CACHE_SIZE} intermediate key pairs.
+     *
+     * @param master the master key pair.
+     */
+    public Bip32KeyDeriver(Bip32ECKeyPair master) {
+        this(master, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a deriver.
+     *
+     * @param master    the master key pair.
+     * @param cacheSize the maximum number of cached intermediate key pairs.
+     */
+    public Bip32KeyDeriver(Bip32ECKeyPair master, int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("The cache size must be at least 1.");
+        }
+        this.master = master;
+        this.cache = new LinkedHashMap<List<Integer>, Bip32ECKeyPair>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Integer>, Bip32ECKeyPair> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @return the master key pair.
+     */
+    public Bip32ECKeyPair getMaster() {
+        return master;
+    }
+
+    /**
+     * Derives the key pair at the given path. The result is the same as the one of
+     * {@link Bip32ECKeyPair#deriveKeyPair(Bip32ECKeyPair, int[])}.
+     *
+     * @param path the child numbers from the master key pair to the derived key pair.
+     * @return the derived key pair.
+     */
+    public Bip32ECKeyPair deriveKeyPair(int[] path) {
+        if (path == null || path.length == 0) {
+            return master;
+        }
+        Bip32ECKeyPair parent = getNode(path, path.length - 1);
+        return Bip32ECKeyPair.deriveKeyPair(parent, new int[]{path[path.length - 1]});
+    }
+
+    /**
+     * Derives the child key pairs with the child numbers {@code fromIndex} to {@code fromIndex + count - 1} of the
+     * key pair at the given path in parallel on the common fork-join pool.
+     *
+     * @param parentPath the path of the parent key pair.
+     * @param fromIndex  the first child number.
+     * @param count      the number of child key pairs.
+     * @return the child key pairs in the order of their child numbers.
+     */
+    public List<Bip32ECKeyPair> deriveKeyPairs(int[] parentPath, int fromIndex, int count) {
+        return deriveKeyPairs(parentPath, fromIndex, count, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Derives the child key pairs with the child numbers {@code fromIndex} to {@code fromIndex + count - 1} of the
+     * key pair at the given path in parallel on the given fork-join pool.
+     *
+     * @param parentPath the path of the parent key pair.
+     * @param fromIndex  the first child number.
+     * @param count      the number of child key pairs.
+     * @param pool       the pool to run the derivations on.
+     * @return the child key pairs in the order of their child numbers.
+     */
+    public List<Bip32ECKeyPair> deriveKeyPairs(int[] parentPath, int fromIndex, int count, ForkJoinPool pool) {
+        checkRange(fromIndex, count);
+        Bip32ECKeyPair parent = getParent(parentPath);
+        return deriveInParallel(count, i -> Bip32ECKeyPair.deriveKeyPair(parent, new int[]{fromIndex + i}), pool);
+    }
+
+    /**
+     * Derives the public keys of the children with the child numbers {@code fromIndex} to
+     * {@code fromIndex + count - 1} of the key pair at the given path in parallel on the common fork-join pool.
+     * <p>
+     * The child numbers must not be hardened.
+     *
+     * @param parentPath the path of the parent key pair.
+     * @param fromIndex  the first child number.
+     * @param count      the number of child keys.
+     * @return the public keys in the order of their child numbers.
+     * @throws IllegalArgumentException if the child numbers are hardened.
+     */
+    public List<ECPublicKey> derivePublicKeys(int[] parentPath, int fromIndex, int count) {
+        return deriveExtendedPublicKeys(parentPath, fromIndex, count).stream()
+                .map(Bip32ExtendedPublicKey::getPublicKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Derives the script hashes of the single-signature accounts of the children with the child numbers
+     * {@code fromIndex} to {@code fromIndex + count - 1} of the key pair at the given path in parallel on the common
+     * fork-join pool.
+     * <p>
+     * The child numbers must not be hardened.
+     *
+     * @param parentPath the path of the parent key pair.
+     * @param fromIndex  the first child number.
+     * @param count      the number of child keys.
+     * @return the script hashes in the order of their child numbers.
+     * @throws IllegalArgumentException if the child numbers are hardened.
+     */
+    public List<Hash160> deriveScriptHashes(int[] parentPath, int fromIndex, int count) {
+        checkPublicRange(fromIndex, count);
+        Bip32ExtendedPublicKey parent = getParent(parentPath).toExtendedPublicKey();
+        return deriveInParallel(count, i -> parent.deriveChildKey(fromIndex + i).getScriptHash(),
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Derives the extended public keys of the children with the child numbers {@code fromIndex} to
+     * {@code fromIndex + count - 1} of the key pair at the given path in parallel on the common fork-join pool.
+     * <p>
+     * The child numbers must not be hardened.
+     *
+     * @param parentPath the path of the parent key pair.
+     * @param fromIndex  the first child number.
+     * @param count      the number of child keys.
+     * @return the extended public keys in the order of their child numbers.
+     * @throws IllegalArgumentException if the child numbers are hardened.
+     */
+    public List<Bip32ExtendedPublicKey> deriveExtendedPublicKeys(int[] parentPath, int fromIndex, int count) {
+        checkPublicRange(fromIndex, count);
+        Bip32ExtendedPublicKey parent = getParent(parentPath).toExtendedPublicKey();
+        return deriveInParallel(count, i -> parent.deriveChildKey(fromIndex + i), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Removes all intermediate key pairs from the cache.
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private Bip32ECKeyPair getParent(int[] parentPath) {
+        if (parentPath == null || parentPath.length == 0) {
+            return master;
+        }
+        return getNode(parentPath, parentPath.length);
+    }
+
+    // Gets the key pair at the prefix of the given length of the path, starting from the longest cached prefix.
+    private Bip32ECKeyPair getNode(int[] path, int length) {
+        int cachedLength = length;
+        Bip32ECKeyPair node = null;
+        synchronized (cache) {
+            while (cachedLength > 0 && (node = cache.get(toKey(path, cachedLength))) == null) {
+                cachedLength--;
+            }
+        }
+        if (node == null) {
+            node = master;
+        }
+        for (int i = cachedLength; i < length; i++) {
+            node = Bip32ECKeyPair.deriveKeyPair(node, new int[]{path[i]});
+            synchronized (cache) {
+                cache.put(toKey(path, i + 1), node);
+            }
+        }
+        return node;
+    }
+
+    private static List<Integer> toKey(int[] path, int length) {
+        return Arrays.stream(path, 0, length).boxed().collect(Collectors.toList());
+    }
+
+    private static void checkRange(int fromIndex, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of keys must not be negative.");
+        }
+        if (count > 0 && (fromIndex & HARDENED_BIT) != ((fromIndex + count - 1) & HARDENED_BIT)) {
+            throw new IllegalArgumentException(format("The child numbers %s to %s mix non-hardened and hardened " +
+                    "child numbers.", fromIndex, fromIndex + count - 1));
+        }
+    }
+
+    private static void checkPublicRange(int fromIndex, int count) {
+        checkRange(fromIndex, count);
+        if (count > 0 && (fromIndex & HARDENED_BIT) != 0) {
+            throw new IllegalArgumentException("Hardened child keys cannot be derived from a public key.");
+        }
+    }
+
+    private static <T> List<T> deriveInParallel(int count, IntFunction<T> derivation, ForkJoinPool pool) {
+        try {
+            return pool.submit(() -> IntStream.range(0, count).parallel()
+                    .mapToObj(derivation)
+                    .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while deriving keys.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to derive keys.", e.getCause());
+        }
+    }
+
+}
@@ -132,6 +132,16 @@ public class ECKeyPair {
         return signature;
     }
 
+    /**
+     * Creates a context for signing many messages with this key pair. The context reuses the signer and key
+     * parameters that are created on every call of {@link #sign(byte[])}.
+     *
+     * @return the signing context.
+     */
+    public SigningContext createSigningContext() {
+        return new SigningContext(this);
+    }
+
     /**
      * Creates an EC key pair from the given key pair.
      *
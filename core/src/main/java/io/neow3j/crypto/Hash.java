@@ -2,10 +2,13 @@ package io.neow3j.crypto;
 
 import io.neow3j.utils.Numeric;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.macs.HMac;
 import org.bouncycastle.crypto.params.KeyParameter;
@@ -15,16 +18,55 @@ import static io.neow3j.utils.Numeric.toHexString;
 
 /**
  * Cryptographic hash functions.
+ * <p>
+ * The SHA-256 and RIPEMD-160 digests are reused per thread. Therefore, the methods of this class don't look up a
+ * security provider or allocate a new digest on every invocation.
  */
 public class Hash {
 
+    public static final int SHA256_LENGTH = 32;
+    public static final int RIPEMD160_LENGTH = 20;
+
     static {
         SecurityProviderChecker.addBouncyCastle();
     }
 
+    private static final ThreadLocal<MessageDigest> SHA256_DIGEST = ThreadLocal.withInitial(Hash::newSha256Digest);
+    private static final ThreadLocal<RIPEMD160Digest> RIPEMD160_DIGEST = ThreadLocal.withInitial(RIPEMD160Digest::new);
+    // Holds intermediate results of the fused hash functions.
+    private static final ThreadLocal<byte[]> INTERMEDIATE = ThreadLocal.withInitial(() -> new byte[SHA256_LENGTH]);
+
     private Hash() {
     }
 
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Couldn't find a SHA-256 provider", e);
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        MessageDigest digest = SHA256_DIGEST.get();
+        digest.reset();
+        return digest;
+    }
+
+    private static RIPEMD160Digest ripemd160Digest() {
+        RIPEMD160Digest digest = RIPEMD160_DIGEST.get();
+        digest.reset();
+        return digest;
+    }
+
+    private static void finishSha256(MessageDigest digest, byte[] output, int outputOffset) {
+        try {
+            digest.digest(output, outputOffset, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalArgumentException("The output buffer is too small for a SHA-256 hash.", e);
+        }
+    }
+
     /**
      * Performs a SHA256 followed by a RIPEMD160.
      *
@@ -32,8 +74,54 @@ public class Hash {
      * @return the hash value as byte array.
      */
     public static byte[] sha256AndThenRipemd160(byte[] input) {
-        byte[] sha256 = sha256(input);
-        return ripemd160(sha256);
+        return hash160(input);
+    }
+
+    /**
+     * Applies SHA-256 followed by RIPEMD-160 to the input without creating an intermediate array.
+     * <p>
+     * Neo uses the name {@code hash160} for hashes created in this way, e.g., script hashes.
+     *
+     * @param input the input to hash.
+     * @return the hash value.
+     */
+    public static byte[] hash160(byte[] input) {
+        return hash160(input, 0, input.length);
+    }
+
+    /**
+     * Applies SHA-256 followed by RIPEMD-160 to the slice of the given length of the input, starting at the given
+     * offset.
+     *
+     * @param input  the input to hash.
+     * @param offset the offset at which the slice starts.
+     * @param length the length of the slice to hash.
+     * @return the hash value.
+     */
+    public static byte[] hash160(byte[] input, int offset, int length) {
+        byte[] output = new byte[RIPEMD160_LENGTH];
+        hash160(input, offset, length, output, 0);
+        return output;
+    }
+
+    /**
+     * Applies SHA-256 followed by RIPEMD-160 to the slice of the given length of the input and writes the 20-byte
+     * result into {@code output}, starting at {@code outputOffset}.
+     *
+     * @param input        the input to hash.
+     * @param offset       the offset at which the slice starts.
+     * @param length       the length of the slice to hash.
+     * @param output       the buffer to write the hash value to.
+     * @param outputOffset the offset in the output buffer.
+     */
+    public static void hash160(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        MessageDigest sha256 = sha256Digest();
+        sha256.update(input, offset, length);
+        byte[] intermediate = INTERMEDIATE.get();
+        finishSha256(sha256, intermediate, 0);
+        RIPEMD160Digest ripemd160 = ripemd160Digest();
+        ripemd160.update(intermediate, 0, SHA256_LENGTH);
+        ripemd160.doFinal(output, outputOffset);
     }
 
     /**
@@ -56,12 +144,23 @@ public class Hash {
      * @throws RuntimeException if no RipeMD160 provider was found.
      */
     public static byte[] ripemd160(byte[] input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("RipeMD160");
-            return md.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a RipeMD160 provider", e);
-        }
+        return ripemd160(input, 0, input.length);
+    }
+
+    /**
+     * Generates RipeMD-160 digest for the slice of the given length of the input, starting at the given offset.
+     *
+     * @param input  the binary encoded input data.
+     * @param offset the offset of the data's start.
+     * @param length the length of the data.
+     * @return the hash value for the given input.
+     */
+    public static byte[] ripemd160(byte[] input, int offset, int length) {
+        RIPEMD160Digest digest = ripemd160Digest();
+        digest.update(input, offset, length);
+        byte[] output = new byte[RIPEMD160_LENGTH];
+        digest.doFinal(output, 0);
+        return output;
     }
 
     /**
@@ -134,12 +233,7 @@ public class Hash {
      * @throws RuntimeException if no SHA-256 provider was found.
      */
     public static byte[] sha256(byte[] input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Couldn't find a SHA-256 provider", e);
-        }
+        return sha256Digest().digest(input);
     }
 
     /**
@@ -152,12 +246,40 @@ public class Hash {
      * @throws RuntimeException if no SHA-256 provider was found.
      */
     public static byte[] sha256(byte[] input, int offset, int length) {
-        if (offset != 0 || length != input.length) {
-            byte[] array = new byte[length];
-            System.arraycopy(input, offset, array, 0, length);
-            input = array;
-        }
-        return sha256(input);
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        return digest.digest();
+    }
+
+    /**
+     * Generates the SHA-256 digest for the remaining bytes of the given buffer. The buffer's position is advanced to
+     * its limit.
+     *
+     * @param input the input to digest.
+     * @return the hash value for the given input.
+     * @throws RuntimeException if no SHA-256 provider was found.
+     */
+    public static byte[] sha256(ByteBuffer input) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input);
+        return digest.digest();
+    }
+
+    /**
+     * Generates the SHA-256 digest for the slice of the given length of the input and writes the 32-byte result into
+     * {@code output}, starting at {@code outputOffset}.
+     *
+     * @param input        the binary encoded input data.
+     * @param offset       the offset of the data's start.
+     * @param length       the length of the data.
+     * @param output       the buffer to write the hash value to.
+     * @param outputOffset the offset in the output buffer.
+     * @throws IllegalArgumentException if the output buffer has less than 32 bytes left after the offset.
+     */
+    public static void sha256(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        finishSha256(digest, output, outputOffset);
     }
 
     /**
@@ -169,7 +291,7 @@ public class Hash {
      * @return the hash value for the given input.
      */
     public static byte[] hash256(byte[] input) {
-        return sha256(sha256(input));
+        return hash256(input, 0, input.length);
     }
 
     /**
@@ -183,7 +305,45 @@ public class Hash {
      * @return the hash value.
      */
     public static byte[] hash256(byte[] input, int offset, int length) {
-        return sha256(sha256(input, offset, length));
+        byte[] output = new byte[SHA256_LENGTH];
+        hash256(input, offset, length, output, 0);
+        return output;
+    }
+
+    /**
+     * Applies SHA-256 twice to the remaining bytes of the given buffer. The buffer's position is advanced to its
+     * limit.
+     *
+     * @param input the input to hash.
+     * @return the hash value.
+     */
+    public static byte[] hash256(ByteBuffer input) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input);
+        byte[] intermediate = INTERMEDIATE.get();
+        finishSha256(digest, intermediate, 0);
+        digest.update(intermediate, 0, SHA256_LENGTH);
+        return digest.digest();
+    }
+
+    /**
+     * Applies SHA-256 twice to the slice of the given length of the input and writes the 32-byte result into
+     * {@code output}, starting at {@code outputOffset}.
+     *
+     * @param input        the input to hash.
+     * @param offset       the offset at which the slice starts.
+     * @param length       the length of the slice to hash.
+     * @param output       the buffer to write the hash value to.
+     * @param outputOffset the offset in the output buffer.
+     * @throws IllegalArgumentException if the output buffer has less than 32 bytes left after the offset.
+     */
+    public static void hash256(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        byte[] intermediate = INTERMEDIATE.get();
+        finishSha256(digest, intermediate, 0);
+        digest.update(intermediate, 0, SHA256_LENGTH);
+        finishSha256(digest, output, outputOffset);
     }
 
 }
@@ -1,6 +1,7 @@
 package io.neow3j.crypto;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -46,6 +47,17 @@ public class ScryptParams {
         return p;
     }
 
+    /**
+     * Gets the approximate number of bytes that one Scrypt key derivation with these parameters allocates, i.e.,
+     * {@code 128 * r * (n + p)}.
+     *
+     * @return the memory requirement in bytes.
+     */
+    @JsonIgnore
+    public long getMemoryRequirement() {
+        return 128L * r * ((long) n + p);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
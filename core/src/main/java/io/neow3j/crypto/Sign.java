@@ -16,6 +16,7 @@ import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.SignatureException;
 import java.util.Arrays;
+import java.util.List;
 
 import static io.neow3j.constants.NeoConstants.secp256r1DomainParams;
 import static io.neow3j.utils.Assertions.verifyPrecondition;
@@ -36,6 +37,8 @@ public class Sign {
 
     private static final int LOWER_REAL_V = 27;
 
+    private static final SignatureVerifier DEFAULT_VERIFIER = new SignatureVerifier();
+
     /**
      * Signs the hash ({@code SHA256}) of the hexadecimal message with the private key of the provided
      * {@link ECKeyPair}.
@@ -376,6 +379,19 @@ public class Sign {
         return verifySignature(message, sig, pubKey, true);
     }
 
+    /**
+     * Verifies all given signatures in parallel on the common fork-join pool.
+     * <p>
+     * Public keys that appear repeatedly, e.g., committee or validator keys, are cached with precomputed tables
+     * across invocations of this method (see {@link SignatureVerifier}).
+     *
+     * @param entries the messages, signatures and public keys to verify.
+     * @return the verification results in the order of the given entries.
+     */
+    public static boolean[] verifySignatures(List<SignatureVerifier.Entry> entries) {
+        return DEFAULT_VERIFIER.verify(entries);
+    }
+
     public static class SignatureData {
         private final byte v;
         private final byte[] r;
@@ -0,0 +1,239 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.crypto.Sign.SignatureData;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static io.neow3j.constants.NeoConstants.secp256r1DomainParams;
+
+/**
+ * Verifies ECDSA signatures on the secp256r1 curve, optionally many at once and in parallel.
+ * <p>
+ * Public keys that are used repeatedly, e.g., the keys of the committee or the validators, are kept in a bounded
+ * least-recently-used cache. The cached key points carry BouncyCastle's table of precomputed multiples, which is
+ * otherwise recomputed for every new public key object, e.g., for every deserialized witness.
+ * <p>
+ * Instances of this class are thread-safe. The verification results are the same as the ones of
+ * {@link Sign#verifySignature(byte[], SignatureData, ECPublicKey, boolean)}.
+ */
+public class SignatureVerifier {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final ECDomainParameters DOMAIN = secp256r1DomainParams();
+
+    private final Map<ECPublicKey, ECPoint> cache;
+
+    /**
+     * Constructs a verifier with a cache for {@value DEFAULT_CACHE_SIZE} public keys.
+     */
+    public SignatureVerifier() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a verifier.
+     *
+     * @param cacheSize the maximum number of public keys for which precomputations are cached.
+     */
+    public SignatureVerifier(int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("The cache size must be at least 1.");
+        }
+        this.cache = new LinkedHashMap<ECPublicKey, ECPoint>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ECPublicKey, ECPoint> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Verifies the that the signature is appropriate for the given message and public key.
+     *
+     * @param message     the message.
+     * @param sig         the signature to verify.
+     * @param pubKey      the public key.
+     * @param hashMessage if the message should be hashed before verification.
+     * @return true if the verification was successful. False otherwise.
+     */
+    public boolean verify(byte[] message, SignatureData sig, ECPublicKey pubKey, boolean hashMessage) {
+        byte[] messageHash = hashMessage ? Hash.sha256(message) : message;
+        BigInteger n = DOMAIN.getN();
+        BigInteger r = new BigInteger(1, sig.getR());
+        BigInteger s = new BigInteger(1, sig.getS());
+        if (r.signum() <= 0 || r.compareTo(n) >= 0 || s.signum() <= 0 || s.compareTo(n) >= 0) {
+            return false;
+        }
+        BigInteger e = calculateE(n, messageHash);
+        BigInteger c = s.modInverse(n);
+        BigInteger u1 = e.multiply(c).mod(n);
+        BigInteger u2 = r.multiply(c).mod(n);
+
+        ECPoint point = ECAlgorithms.sumOfTwoMultiplies(DOMAIN.getG(), u1, lookUp(pubKey), u2).normalize();
+        if (point.isInfinity()) {
+            return false;
+        }
+        return point.getAffineXCoord().toBigInteger().mod(n).equals(r);
+    }
+
+    /**
+     * Verifies the that the signature is appropriate for the given message and public key.
+     * <p>
+     * Beware that the message is hashed before verification.
+     *
+     * @param message the message.
+     * @param sig     the signature to verify.
+     * @param pubKey  the public key.
+     * @return true if the verification was successful. False otherwise.
+     */
+    public boolean verify(byte[] message, SignatureData sig, ECPublicKey pubKey) {
+        return verify(message, sig, pubKey, true);
+    }
+
+    /**
+     * Verifies all given signatures in parallel on the common fork-join pool.
+     *
+     * @param entries the messages, signatures and public keys to verify.
+     * @return the verification results in the order of the given entries.
+     */
+    public boolean[] verify(List<Entry> entries) {
+        return verify(entries, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Verifies all given signatures in parallel on the given fork-join pool.
+     *
+     * @param entries the messages, signatures and public keys to verify.
+     * @param pool    the pool to run the verifications on.
+     * @return the verification results in the order of the given entries.
+     */
+    public boolean[] verify(List<Entry> entries, ForkJoinPool pool) {
+        boolean[] results = new boolean[entries.size()];
+        Runnable task = () -> IntStream.range(0, entries.size()).parallel().forEach(i -> {
+            Entry entry = entries.get(i);
+            results[i] = verify(entry.message, entry.signature, entry.publicKey, entry.hashMessage);
+        });
+        try {
+            pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying signatures.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to verify signatures.", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Verifies all given signatures in parallel on the common fork-join pool.
+     *
+     * @param entries the messages, signatures and public keys to verify.
+     * @return true if all signatures are valid. False otherwise.
+     */
+    public boolean verifyAll(List<Entry> entries) {
+        for (boolean result : verify(entries)) {
+            if (!result) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all public keys and their precomputations from the cache.
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    // Returns the canonical point instance of the key. BouncyCastle attaches its precomputations to that instance.
+    private ECPoint lookUp(ECPublicKey pubKey) {
+        synchronized (cache) {
+            ECPoint point = cache.get(pubKey);
+            if (point == null) {
+                point = DOMAIN.getCurve().importPoint(pubKey.getECPoint()).normalize();
+                cache.put(pubKey, point);
+            }
+            return point;
+        }
+    }
+
+    // See BouncyCastle's ECDSASigner.calculateE().
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        int log2n = n.bitLength();
+        int messageBitLength = message.length * 8;
+        BigInteger e = new BigInteger(1, message);
+        if (log2n < messageBitLength) {
+            e = e.shiftRight(messageBitLength - log2n);
+        }
+        return e;
+    }
+
+    /**
+     * A message together with its signature and the public key it is verified against.
+     */
+    public static class Entry {
+
+        private final byte[] message;
+        private final SignatureData signature;
+        private final ECPublicKey publicKey;
+        private final boolean hashMessage;
+
+        /**
+         * Creates an entry whose message is hashed with SHA-256 before verification.
+         *
+         * @param message   the message.
+         * @param signature the signature.
+         * @param publicKey the public key.
+         */
+        public Entry(byte[] message, SignatureData signature, ECPublicKey publicKey) {
+            this(message, signature, publicKey, true);
+        }
+
+        /**
+         * Creates an entry.
+         *
+         * @param message     the message.
+         * @param signature   the signature.
+         * @param publicKey   the public key.
+         * @param hashMessage if the message should be hashed before verification.
+         */
+        public Entry(byte[] message, SignatureData signature, ECPublicKey publicKey, boolean hashMessage) {
+            this.message = message;
+            this.signature = signature;
+            this.publicKey = publicKey;
+            this.hashMessage = hashMessage;
+        }
+
+        public byte[] getMessage() {
+            return message;
+        }
+
+        public SignatureData getSignature() {
+            return signature;
+        }
+
+        public ECPublicKey getPublicKey() {
+            return publicKey;
+        }
+
+        public boolean isHashMessage() {
+            return hashMessage;
+        }
+
+    }
+
+}
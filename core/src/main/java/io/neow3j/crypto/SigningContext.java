@@ -0,0 +1,172 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.Sign.SignatureData;
+import io.neow3j.utils.Numeric;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static io.neow3j.constants.NeoConstants.secp256r1DomainParams;
+
+/**
+ * A reusable context for signing many messages with the same key pair.
+ * <p>
+ * In contrast to {@link ECKeyPair#sign(byte[])}, the key parameters are created only once, and the signers with
+ * their deterministic k-calculators (RFC 6979) are kept in a pool and reused. The pool holds at most one signer per
+ * thread that signed concurrently. The produced signatures are identical to the ones produced by
+ * {@link ECKeyPair#sign(byte[])} and {@link Sign#signMessage(byte[], ECKeyPair)}.
+ * <p>
+ * A context can be used from multiple threads concurrently. It holds the private key until it is closed. Closing
+ * the context releases the key parameters and all pooled signers, regardless of the threads that used them. It does
+ * not erase the private key of the key pair it was created from.
+ */
+public class SigningContext implements AutoCloseable {
+
+    private final ECKeyPair keyPair;
+    private volatile ECPrivateKeyParameters keyParameters;
+    private final Queue<ECDSASigner> signers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a signing context for the given key pair.
+     *
+     * @param keyPair the key pair to sign with.
+     */
+    public SigningContext(ECKeyPair keyPair) {
+        this.keyPair = keyPair;
+        this.keyParameters = new ECPrivateKeyParameters(keyPair.getPrivateKey().getInt(),
+                secp256r1DomainParams());
+    }
+
+    private ECDSASigner createSigner(ECPrivateKeyParameters parameters) {
+        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, parameters);
+        return signer;
+    }
+
+    private ECPrivateKeyParameters getKeyParameters() {
+        ECPrivateKeyParameters parameters = keyParameters;
+        if (parameters == null) {
+            throw new IllegalStateException("The signing context has been closed.");
+        }
+        return parameters;
+    }
+
+    /**
+     * @return the key pair of this context.
+     */
+    public ECKeyPair getKeyPair() {
+        return keyPair;
+    }
+
+    /**
+     * Sign a hash with the private key of this context's key pair.
+     *
+     * @param messageHash the hash to sign.
+     * @return a raw {@link BigInteger} array with the signature.
+     * @see ECKeyPair#sign(byte[])
+     */
+    public BigInteger[] sign(byte[] messageHash) {
+        ECPrivateKeyParameters parameters = getKeyParameters();
+        ECDSASigner signer = signers.poll();
+        if (signer == null) {
+            signer = createSigner(parameters);
+        }
+        BigInteger[] signature = signer.generateSignature(messageHash);
+        signers.offer(signer);
+        // The context may have been closed while signing. Then, the signer must not stay in the pool.
+        if (keyParameters == null) {
+            signers.clear();
+        }
+        return signature;
+    }
+
+    int pooledSignerCount() {
+        return signers.size();
+    }
+
+    /**
+     * Sign a hash with the private key of this context's key pair.
+     *
+     * @param messageHash the hash to sign.
+     * @return an {@link ECDSASignature} of the hash.
+     * @see ECKeyPair#signAndGetECDSASignature(byte[])
+     */
+    public ECDSASignature signAndGetECDSASignature(byte[] messageHash) {
+        BigInteger[] components = sign(messageHash);
+        return new ECDSASignature(components[0], components[1]);
+    }
+
+    /**
+     * Signs the hash ({@code SHA256}) of the message with the private key of this context's key pair.
+     *
+     * @param message the message to sign.
+     * @return the signature data.
+     * @see Sign#signMessage(byte[], ECKeyPair)
+     */
+    public SignatureData signMessage(byte[] message) {
+        byte[] messageHash = Hash.sha256(message);
+        ECDSASignature sig = signAndGetECDSASignature(messageHash);
+        byte v = Sign.recoverV(sig, messageHash, keyPair.getPublicKey());
+        return new SignatureData(v, Numeric.toBytesPadded(sig.r, 32), Numeric.toBytesPadded(sig.s, 32));
+    }
+
+    /**
+     * Signs the hashes ({@code SHA256}) of the messages with the private key of this context's key pair.
+     *
+     * @param messages the messages to sign.
+     * @return the signatures in the order of the given messages.
+     */
+    public List<SignatureData> signMessages(List<byte[]> messages) {
+        return messages.stream().map(this::signMessage).collect(Collectors.toList());
+    }
+
+    /**
+     * Signs the hashes ({@code SHA256}) of the messages in parallel on the common fork-join pool.
+     *
+     * @param messages the messages to sign.
+     * @return the signatures in the order of the given messages.
+     */
+    public List<SignatureData> signMessagesInParallel(List<byte[]> messages) {
+        return signMessagesInParallel(messages, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the hashes ({@code SHA256}) of the messages in parallel on the given fork-join pool.
+     *
+     * @param messages the messages to sign.
+     * @param pool     the pool to sign on.
+     * @return the signatures in the order of the given messages.
+     */
+    public List<SignatureData> signMessagesInParallel(List<byte[]> messages, ForkJoinPool pool) {
+        try {
+            return pool.submit(() -> messages.parallelStream()
+                    .map(this::signMessage)
+                    .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while signing messages.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to sign messages.", e.getCause());
+        }
+    }
+
+    /**
+     * Releases the key parameters and the pooled signers of this context. Any further attempt to sign with it fails.
+     */
+    @Override
+    public void close() {
+        keyParameters = null;
+        signers.clear();
+    }
+
+}
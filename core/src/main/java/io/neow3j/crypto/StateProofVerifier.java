@@ -0,0 +1,373 @@
+package io.neow3j.crypto;
+
+import io.neow3j.types.Hash256;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Verifies the state proofs returned by the {@code getproof} RPC method against a trusted state root, without asking
+ * a Neo node to verify them.
+ * <p>
+ * A proof contains the storage key and the nodes of the Merkle Patricia Trie on the path from the state root to the
+ * key. Each node is referenced by its hash, so the proof is valid if the path can be followed from the root using
+ * only nodes whose hashes match. This allows reading storage values from an untrusted source, e.g., a cache or a
+ * replica, and checking them against a state root obtained from {@code getstateroot} of a trusted node.
+ * <p>
+ * The proof is verified in place. Apart from the node hashes, no intermediate objects are created.
+ * <p>
+ * Instances of this class are stateless and thread-safe.
+ */
+public class StateProofVerifier {
+
+    private static final byte BRANCH_NODE = 0x00;
+    private static final byte EXTENSION_NODE = 0x01;
+    private static final byte LEAF_NODE = 0x02;
+    private static final byte HASH_NODE = 0x03;
+    private static final byte EMPTY_NODE = 0x04;
+
+    private static final int BRANCH_CHILD_COUNT = 17;
+
+    /**
+     * Builds the storage key used in the state trie.
+     *
+     * @param contractId the id of the contract.
+     * @param key        the key in the storage of the contract.
+     * @return the storage key.
+     */
+    public static byte[] storageKey(int contractId, byte[] key) {
+        byte[] storageKey = new byte[4 + key.length];
+        storageKey[0] = (byte) contractId;
+        storageKey[1] = (byte) (contractId >>> 8);
+        storageKey[2] = (byte) (contractId >>> 16);
+        storageKey[3] = (byte) (contractId >>> 24);
+        System.arraycopy(key, 0, storageKey, 4, key.length);
+        return storageKey;
+    }
+
+    /**
+     * Verifies a state proof.
+     * <p>
+     * Beware that the proof itself determines the key that it proves. Use
+     * {@link #verify(Hash256, int, byte[], String)} to make sure that the proof is for the expected key.
+     *
+     * @param stateRoot the trusted state root.
+     * @param proof     the proof as returned by the {@code getproof} RPC method, i.e., base64-encoded.
+     * @return the result.
+     */
+    public Result verify(Hash256 stateRoot, String proof) {
+        return verify(stateRoot, null, proof);
+    }
+
+    /**
+     * Verifies a state proof of the given key.
+     *
+     * @param stateRoot  the trusted state root.
+     * @param contractId the id of the contract.
+     * @param key        the key in the storage of the contract.
+     * @param proof      the proof as returned by the {@code getproof} RPC method, i.e., base64-encoded.
+     * @return the result.
+     */
+    public Result verify(Hash256 stateRoot, int contractId, byte[] key, String proof) {
+        return verify(stateRoot, storageKey(contractId, key), proof);
+    }
+
+    /**
+     * Verifies all given state proofs in parallel on the common fork-join pool.
+     *
+     * @param entries the proofs to verify.
+     * @return the results in the order of the given entries.
+     */
+    public Result[] verify(List<Entry> entries) {
+        return verify(entries, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Verifies all given state proofs in parallel on the given fork-join pool.
+     *
+     * @param entries the proofs to verify.
+     * @param pool    the pool to run the verifications on.
+     * @return the results in the order of the given entries.
+     */
+    public Result[] verify(List<Entry> entries, ForkJoinPool pool) {
+        Result[] results = new Result[entries.size()];
+        Runnable task = () -> IntStream.range(0, entries.size()).parallel().forEach(i -> {
+            Entry entry = entries.get(i);
+            results[i] = verify(entry.stateRoot, entry.contractId, entry.key, entry.proof);
+        });
+        try {
+            pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying state proofs.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to verify state proofs.", e.getCause());
+        }
+        return results;
+    }
+
+    private Result verify(Hash256 stateRoot, byte[] expectedKey, String proof) {
+        try {
+            return verifyProof(stateRoot, expectedKey, Base64.decode(proof));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return Result.failure("The proof is malformed.");
+        }
+    }
+
+    // The proof consists of the storage key and the serialized nodes, each prefixed with its length.
+    private Result verifyProof(Hash256 stateRoot, byte[] expectedKey, byte[] proof) {
+        Cursor c = new Cursor(proof);
+        int keyLength = c.readVarInt();
+        int keyOffset = c.pos;
+        c.pos += keyLength;
+        if (expectedKey != null && !regionEquals(proof, keyOffset, keyLength, expectedKey)) {
+            return Result.failure("The proof is for a different key.");
+        }
+        int nodeCount = c.readVarInt();
+        int[] nodeOffsets = new int[nodeCount];
+        byte[] nodeHashes = new byte[nodeCount * Hash.SHA256_LENGTH];
+        for (int i = 0; i < nodeCount; i++) {
+            int nodeLength = c.readVarInt();
+            if (nodeLength < 1 || c.pos + nodeLength > proof.length) {
+                return Result.failure("The proof is malformed.");
+            }
+            nodeOffsets[i] = c.pos;
+            Hash.hash256(proof, c.pos, nodeLength, nodeHashes, i * Hash.SHA256_LENGTH);
+            c.pos += nodeLength;
+        }
+        if (c.pos != proof.length) {
+            return Result.failure("The proof is malformed.");
+        }
+
+        // Nodes reference their children by the hash in serialized (little-endian) order.
+        byte[] root = stateRoot.toLittleEndianArray();
+        int node = findNode(nodeHashes, root, 0);
+        int nibble = 0;
+        int nibbleCount = keyLength * 2;
+        while (true) {
+            if (node < 0) {
+                return Result.failure("The proof does not contain a referenced node.");
+            }
+            c.pos = nodeOffsets[node];
+            byte type = c.read();
+            if (type == BRANCH_NODE) {
+                int childIndex = nibble == nibbleCount ? BRANCH_CHILD_COUNT - 1 : nibble(proof, keyOffset, nibble++);
+                for (int i = 0; i < childIndex; i++) {
+                    skipChild(c);
+                }
+            } else if (type == EXTENSION_NODE) {
+                int length = c.readVarInt();
+                if (length > nibbleCount - nibble) {
+                    return Result.absent(copy(proof, keyOffset, keyLength));
+                }
+                for (int i = 0; i < length; i++) {
+                    if (c.read() != nibble(proof, keyOffset, nibble++)) {
+                        return Result.absent(copy(proof, keyOffset, keyLength));
+                    }
+                }
+            } else if (type == LEAF_NODE) {
+                if (nibble != nibbleCount) {
+                    return Result.absent(copy(proof, keyOffset, keyLength));
+                }
+                int length = c.readVarInt();
+                return Result.value(copy(proof, keyOffset, keyLength), copy(proof, c.pos, length));
+            } else if (type == EMPTY_NODE) {
+                return Result.absent(copy(proof, keyOffset, keyLength));
+            } else {
+                return Result.failure("The proof contains an unexpected node type.");
+            }
+            // Children of branch and extension nodes are always serialized as hash or empty nodes.
+            byte childType = c.read();
+            if (childType == EMPTY_NODE) {
+                return Result.absent(copy(proof, keyOffset, keyLength));
+            } else if (childType != HASH_NODE) {
+                return Result.failure("The proof contains an unexpected node type.");
+            }
+            node = findNode(nodeHashes, proof, c.pos);
+        }
+    }
+
+    private static void skipChild(Cursor c) {
+        if (c.read() == HASH_NODE) {
+            c.pos += Hash.SHA256_LENGTH;
+        }
+    }
+
+    private static int nibble(byte[] proof, int keyOffset, int index) {
+        int b = proof[keyOffset + index / 2] & 0xff;
+        return index % 2 == 0 ? b >>> 4 : b & 0x0f;
+    }
+
+    private static int findNode(byte[] nodeHashes, byte[] hash, int hashOffset) {
+        for (int i = 0; i < nodeHashes.length / Hash.SHA256_LENGTH; i++) {
+            if (regionEquals(nodeHashes, i * Hash.SHA256_LENGTH, Hash.SHA256_LENGTH, hash, hashOffset)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(byte[] a, int offset, int length, byte[] b) {
+        return length == b.length && regionEquals(a, offset, length, b, 0);
+    }
+
+    private static boolean regionEquals(byte[] a, int aOffset, int length, byte[] b, int bOffset) {
+        if (bOffset + length > b.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] copy(byte[] bytes, int offset, int length) {
+        if (offset + length > bytes.length) {
+            throw new ArrayIndexOutOfBoundsException(offset + length);
+        }
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, offset, copy, 0, length);
+        return copy;
+    }
+
+    private static class Cursor {
+
+        private final byte[] bytes;
+        private int pos;
+
+        private Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private byte read() {
+            return bytes[pos++];
+        }
+
+        // Proofs are far smaller than 2 GB, so larger values can only occur in malformed proofs.
+        private int readVarInt() {
+            int first = read() & 0xff;
+            long value;
+            if (first < 0xfd) {
+                return first;
+            } else if (first == 0xfd) {
+                value = (read() & 0xff) | (read() & 0xff) << 8;
+            } else if (first == 0xfe) {
+                value = (read() & 0xffL) | (read() & 0xffL) << 8 | (read() & 0xffL) << 16 | (read() & 0xffL) << 24;
+            } else {
+                throw new ArrayIndexOutOfBoundsException("Variable integer is too large.");
+            }
+            if (value > bytes.length) {
+                throw new ArrayIndexOutOfBoundsException("Variable integer exceeds the proof.");
+            }
+            return (int) value;
+        }
+
+    }
+
+    /**
+     * The result of a state proof verification.
+     */
+    public static class Result {
+
+        private final boolean valid;
+        private final byte[] key;
+        private final byte[] value;
+        private final String failure;
+
+        private Result(boolean valid, byte[] key, byte[] value, String failure) {
+            this.valid = valid;
+            this.key = key;
+            this.value = value;
+            this.failure = failure;
+        }
+
+        private static Result value(byte[] key, byte[] value) {
+            return new Result(true, key, value, null);
+        }
+
+        private static Result absent(byte[] key) {
+            return new Result(true, key, null, null);
+        }
+
+        private static Result failure(String failure) {
+            return new Result(false, null, null, failure);
+        }
+
+        /**
+         * @return true if the proof is valid for the state root. False, otherwise.
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * @return the proven storage key, i.e., the contract id followed by the key. Null if the proof is invalid.
+         */
+        public byte[] getKey() {
+            return key;
+        }
+
+        /**
+         * @return the proven value. Null if the proof is invalid or proves that the key does not exist.
+         */
+        public byte[] getValue() {
+            return value;
+        }
+
+        /**
+         * @return the reason why the proof is invalid. Null if it is valid.
+         */
+        public String getFailure() {
+            return failure;
+        }
+
+    }
+
+    /**
+     * A state proof together with the state root and the key it is verified against.
+     */
+    public static class Entry {
+
+        private final Hash256 stateRoot;
+        private final int contractId;
+        private final byte[] key;
+        private final String proof;
+
+        /**
+         * Creates an entry.
+         *
+         * @param stateRoot  the trusted state root.
+         * @param contractId the id of the contract.
+         * @param key        the key in the storage of the contract.
+         * @param proof      the proof as returned by the {@code getproof} RPC method, i.e., base64-encoded.
+         */
+        public Entry(Hash256 stateRoot, int contractId, byte[] key, String proof) {
+            this.stateRoot = stateRoot;
+            this.contractId = contractId;
+            this.key = key;
+            this.proof = proof;
+        }
+
+        public Hash256 getStateRoot() {
+            return stateRoot;
+        }
+
+        public int getContractId() {
+            return contractId;
+        }
+
+        public byte[] getKey() {
+            return key;
+        }
+
+        public String getProof() {
+            return proof;
+        }
+
+    }
+
+}
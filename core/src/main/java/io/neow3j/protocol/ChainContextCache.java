@@ -0,0 +1,181 @@
+package io.neow3j.protocol;
+
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.transaction.NetworkFeeCalculator;
+import io.neow3j.types.Hash160;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.neow3j.types.ContractParameter.hash160;
+import static java.util.Collections.singletonList;
+
+/**
+ * Caches chain parameters that transaction builders need for every transaction, so that they can be shared between
+ * the builders of a {@link Neow3j} instance.
+ * <p>
+ * The block count is cached for a configurable time. All other values can only change with a new block. They are
+ * invalidated as soon as a new block count is observed and fetched again on their next use. These are the committee,
+ * the Policy values used by the {@link NetworkFeeCalculator}, and the GAS balances of transaction senders. The network
+ * magic number never changes and is cached by the {@link Neow3j} instance itself.
+ * <p>
+ * The GAS balance of a sender is reduced by the fees of the transactions it sent since the balance was fetched. Those
+ * fees are recorded with {@link #addPendingSpend(Hash160, BigInteger)}, which {@link
+ * io.neow3j.transaction.Transaction#send()} does automatically if the cache is enabled. Since most transactions are
+ * included in the next block, the pending spends are cleared together with the balances on a new block.
+ * <p>
+ * Transaction builders only use the cache if it is enabled with {@link Neow3jConfig#enableChainContextCache()}.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class ChainContextCache {
+
+    /**
+     * The default time in milliseconds for which the block count is cached.
+     */
+    public static final long DEFAULT_BLOCK_COUNT_TTL = 1000;
+
+    private static final Hash160 GAS_TOKEN_HASH = new Hash160("d2a4cff31913016155e38e474a2c06d08be276cf");
+    private static final String BALANCE_OF_FUNCTION = "balanceOf";
+
+    private final Neow3j neow3j;
+    private final long blockCountTtl;
+    // The Policy values are invalidated on a new block instead of after a fixed time.
+    private final NetworkFeeCalculator networkFeeCalculator;
+
+    private long blockCount = -1;
+    private long blockCountExpiry;
+    private List<Hash160> committee;
+    private final Map<Hash160, BigInteger> gasBalances = new HashMap<>();
+    private final Map<Hash160, BigInteger> pendingSpends = new HashMap<>();
+
+    /**
+     * Constructs a cache that keeps the block count for {@value DEFAULT_BLOCK_COUNT_TTL} milliseconds.
+     *
+     * @param neow3j the {@link Neow3j} instance used to fetch the values.
+     */
+    public ChainContextCache(Neow3j neow3j) {
+        this(neow3j, DEFAULT_BLOCK_COUNT_TTL);
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param neow3j        the {@link Neow3j} instance used to fetch the values.
+     * @param blockCountTtl the time in milliseconds for which the block count is cached.
+     */
+    public ChainContextCache(Neow3j neow3j, long blockCountTtl) {
+        if (blockCountTtl < 0) {
+            throw new IllegalArgumentException("The time to live of the block count must not be negative.");
+        }
+        this.neow3j = neow3j;
+        this.blockCountTtl = blockCountTtl;
+        this.networkFeeCalculator = new NetworkFeeCalculator(neow3j, Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets the block count. Fetches it from the Neo node if the cached value expired and invalidates all other values
+     * if the block count changed.
+     *
+     * @return the block count.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public synchronized long getBlockCount() throws IOException {
+        long now = System.currentTimeMillis();
+        if (blockCount < 0 || now >= blockCountExpiry) {
+            long newBlockCount = neow3j.getBlockCount().send().getBlockCount().longValue();
+            if (newBlockCount != blockCount) {
+                invalidateBlockDependentValues();
+            }
+            blockCount = newBlockCount;
+            blockCountExpiry = blockCountTtl > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + blockCountTtl;
+        }
+        return blockCount;
+    }
+
+    /**
+     * Gets the script hashes of the single-sig accounts of the committee members.
+     *
+     * @return the committee members' script hashes.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public synchronized List<Hash160> getCommittee() throws IOException {
+        getBlockCount();
+        if (committee == null) {
+            committee = Collections.unmodifiableList(neow3j.getCommittee().send().getCommittee().stream()
+                    .map(ECPublicKey::new)
+                    .map(key -> Hash160.fromPublicKey(key.getEncoded(true)))
+                    .collect(Collectors.toList()));
+        }
+        return committee;
+    }
+
+    /**
+     * Gets the network fee calculator whose Policy values are invalidated on every new block.
+     *
+     * @return the network fee calculator.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public synchronized NetworkFeeCalculator getNetworkFeeCalculator() throws IOException {
+        getBlockCount();
+        return networkFeeCalculator;
+    }
+
+    /**
+     * @return the network magic number.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     * @see Neow3j#getNetworkMagicNumber()
+     */
+    public long getNetworkMagicNumber() throws IOException {
+        return neow3j.getNetworkMagicNumber();
+    }
+
+    /**
+     * Gets the GAS balance of the given account reduced by the pending spends of the account.
+     *
+     * @param account the account.
+     * @return the GAS balance in GAS fractions.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public synchronized BigInteger getGasBalance(Hash160 account) throws IOException {
+        getBlockCount();
+        BigInteger balance = gasBalances.get(account);
+        if (balance == null) {
+            balance = neow3j.invokeFunction(GAS_TOKEN_HASH, BALANCE_OF_FUNCTION, singletonList(hash160(account)))
+                    .send().getInvocationResult().getFirstStackItem().getInteger();
+            gasBalances.put(account, balance);
+        }
+        return balance.subtract(pendingSpends.getOrDefault(account, BigInteger.ZERO));
+    }
+
+    /**
+     * Records GAS that the given account spent with a transaction that is not yet included in a block.
+     *
+     * @param account the account.
+     * @param amount  the spent amount in GAS fractions.
+     */
+    public synchronized void addPendingSpend(Hash160 account, BigInteger amount) {
+        pendingSpends.merge(account, amount, BigInteger::add);
+    }
+
+    /**
+     * Invalidates all cached values.
+     */
+    public synchronized void invalidate() {
+        blockCount = -1;
+        invalidateBlockDependentValues();
+    }
+
+    private void invalidateBlockDependentValues() {
+        committee = null;
+        gasBalances.clear();
+        pendingSpends.clear();
+        networkFeeCalculator.invalidatePolicyValues();
+    }
+
+}
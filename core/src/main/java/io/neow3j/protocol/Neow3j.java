@@ -2,6 +2,7 @@ package io.neow3j.protocol;
 
 import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
 import io.neow3j.protocol.core.Neo;
+import io.neow3j.protocol.core.response.NeoGetVersion;
 import io.neow3j.protocol.rx.Neow3jRx;
 import io.neow3j.types.Hash160;
 
@@ -17,6 +18,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 public abstract class Neow3j implements Neo, Neow3jRx {
 
     private final Neow3jConfig config;
+    private volatile ChainContextCache chainContextCache;
 
     protected Neow3j(Neow3jConfig config) {
         this.config = config;
@@ -112,6 +114,48 @@ public abstract class Neow3j implements Neo, Neow3jRx {
         return config.getNetworkMagic();
     }
 
+    /**
+     * Gets whether the connected Neo node has iterator sessions enabled.
+     * <p>
+     * Without sessions, the node cannot return iterators for traversal with {@code traverseiterator}. The iterators
+     * then have to be unwrapped in the invocation script instead.
+     * <p>
+     * The default value is null. Only once this method or {@link #getMaxIteratorResultItems()} is called for the
+     * first time the value is fetched from the connected Neo node. If the node does not provide its RPC settings,
+     * sessions are assumed to be enabled.
+     *
+     * @return true if iterator sessions are enabled. False, otherwise.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public boolean isSessionEnabled() throws IOException {
+        fetchRpcSettingsIfMissing();
+        return config.getSessionEnabled();
+    }
+
+    /**
+     * Gets the maximum number of items the connected Neo node returns when traversing an iterator.
+     * <p>
+     * The value is fetched from the connected Neo node together with {@link #isSessionEnabled()}. If the node does
+     * not provide its RPC settings, {@link Neow3jConfig#DEFAULT_MAX_ITERATOR_RESULT_ITEMS} is used.
+     *
+     * @return the maximum number of iterator items per request.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public int getMaxIteratorResultItems() throws IOException {
+        fetchRpcSettingsIfMissing();
+        return config.getMaxIteratorResultItems();
+    }
+
+    private void fetchRpcSettingsIfMissing() throws IOException {
+        if (config.getSessionEnabled() == null) {
+            NeoGetVersion.NeoVersion.Rpc rpc = getVersion().send().getVersion().getRpc();
+            if (rpc != null && rpc.getMaxIteratorResultItems() != null) {
+                config.setMaxIteratorResultItems(rpc.getMaxIteratorResultItems());
+            }
+            config.setSessionEnabled(rpc == null || rpc.getSessionEnabled() == null || rpc.getSessionEnabled());
+        }
+    }
+
     /**
      * @return the NeoNameService resolver script hash that is configured in the {@link Neow3jConfig}.
      */
@@ -175,4 +219,32 @@ public abstract class Neow3j implements Neo, Neow3jRx {
         config.setNNSResolver(nnsResolver);
     }
 
+    /**
+     * @return true if transaction builders use the chain context cache of this instance. False, otherwise.
+     * @see Neow3jConfig#enableChainContextCache()
+     */
+    public boolean chainContextCacheIsEnabled() {
+        return config.chainContextCacheIsEnabled();
+    }
+
+    /**
+     * Gets the cache of chain parameters that is shared by all transaction builders of this instance. It is created
+     * on the first call.
+     *
+     * @return the chain context cache.
+     */
+    public ChainContextCache getChainContextCache() {
+        ChainContextCache cache = chainContextCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = chainContextCache;
+                if (cache == null) {
+                    cache = new ChainContextCache(this, config.getChainContextBlockCountTtl());
+                    chainContextCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
 }
@@ -14,6 +14,7 @@ public class Neow3jConfig {
     public static final int DEFAULT_BLOCK_TIME = 15 * 1000;
     public static final byte DEFAULT_ADDRESS_VERSION = 0x35;
     public static final int MAX_VALID_UNTIL_BLOCK_INCREMENT_BASE = 86400000;
+    public static final int DEFAULT_MAX_ITERATOR_RESULT_ITEMS = 100;
 
     private static byte addressVersion = DEFAULT_ADDRESS_VERSION;
     private Long networkMagic = null;
@@ -22,6 +23,10 @@ public class Neow3jConfig {
     private int pollingInterval = DEFAULT_BLOCK_TIME;
     private ScheduledExecutorService scheduledExecutorService = Async.defaultExecutorService();
     private boolean allowTransmissionOnFault = false;
+    private boolean chainContextCacheEnabled = false;
+    private long chainContextBlockCountTtl = ChainContextCache.DEFAULT_BLOCK_COUNT_TTL;
+    private Boolean sessionEnabled = null;
+    private int maxIteratorResultItems = DEFAULT_MAX_ITERATOR_RESULT_ITEMS;
 
     private static final Hash160 MAINNET_NNS_CONTRACT_HASH = new Hash160("0x50ac1c37690cc2cfc594472833cf57505d5f46de");
     private Hash160 nnsResolver = MAINNET_NNS_CONTRACT_HASH;
@@ -246,4 +251,110 @@ public class Neow3jConfig {
         return this;
     }
 
+    /**
+     * @return true if transaction builders use the chain context cache of the {@link Neow3j} instance. False,
+     * otherwise.
+     */
+    public boolean chainContextCacheIsEnabled() {
+        return chainContextCacheEnabled;
+    }
+
+    /**
+     * Makes transaction builders use the {@link ChainContextCache} of the {@link Neow3j} instance with a block count
+     * that is cached for {@value ChainContextCache#DEFAULT_BLOCK_COUNT_TTL} milliseconds.
+     *
+     * @return this.
+     */
+    public Neow3jConfig enableChainContextCache() {
+        return enableChainContextCache(ChainContextCache.DEFAULT_BLOCK_COUNT_TTL);
+    }
+
+    /**
+     * Makes transaction builders use the {@link ChainContextCache} of the {@link Neow3j} instance.
+     *
+     * @param blockCountTtl the time in milliseconds for which the block count is cached.
+     * @return this.
+     */
+    public Neow3jConfig enableChainContextCache(long blockCountTtl) {
+        if (blockCountTtl < 0) {
+            throw new IllegalArgumentException("The time to live of the block count must not be negative.");
+        }
+        this.chainContextCacheEnabled = true;
+        this.chainContextBlockCountTtl = blockCountTtl;
+        return this;
+    }
+
+    /**
+     * Makes transaction builders fetch all chain parameters from the Neo node.
+     * <p>
+     * This is set by default.
+     *
+     * @return this.
+     */
+    public Neow3jConfig disableChainContextCache() {
+        this.chainContextCacheEnabled = false;
+        return this;
+    }
+
+    /**
+     * @return the time in milliseconds for which the chain context cache keeps the block count.
+     */
+    public long getChainContextBlockCountTtl() {
+        return chainContextBlockCountTtl;
+    }
+
+    /**
+     * Gets whether the Neo node has iterator sessions enabled.
+     * <p>
+     * The default value is null. Only once {@link Neow3j#isSessionEnabled()} or
+     * {@link Neow3j#getMaxIteratorResultItems()} is called for the first time the value is set. This is because the
+     * RPC settings are fetched directly from the neo-node.
+     *
+     * @return true if iterator sessions are enabled, false if they are disabled, and null if not known yet.
+     * @see Neow3j#isSessionEnabled()
+     */
+    public Boolean getSessionEnabled() {
+        return sessionEnabled;
+    }
+
+    /**
+     * Sets whether the Neo node has iterator sessions enabled. This should match the configuration of the neo-node
+     * you connect to.
+     *
+     * @param sessionEnabled true if iterator sessions are enabled. False, otherwise.
+     * @return this.
+     */
+    public Neow3jConfig setSessionEnabled(boolean sessionEnabled) {
+        this.sessionEnabled = sessionEnabled;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of items the Neo node returns when traversing an iterator.
+     * <p>
+     * Defaults to {@value DEFAULT_MAX_ITERATOR_RESULT_ITEMS}, which is the default of the neo-node. It is updated
+     * together with the session setting if the neo-node provides its RPC settings.
+     *
+     * @return the maximum number of iterator items per request.
+     * @see Neow3j#getMaxIteratorResultItems()
+     */
+    public int getMaxIteratorResultItems() {
+        return maxIteratorResultItems;
+    }
+
+    /**
+     * Sets the maximum number of items the Neo node returns when traversing an iterator. This should match the
+     * configuration of the neo-node you connect to.
+     *
+     * @param maxIteratorResultItems the maximum number of iterator items per request.
+     * @return this.
+     */
+    public Neow3jConfig setMaxIteratorResultItems(int maxIteratorResultItems) {
+        if (maxIteratorResultItems < 1) {
+            throw new IllegalArgumentException("The maximum number of iterator items must be greater than 0.");
+        }
+        this.maxIteratorResultItems = maxIteratorResultItems;
+        return this;
+    }
+
 }
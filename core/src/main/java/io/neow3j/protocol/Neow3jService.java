@@ -6,6 +6,8 @@ import io.neow3j.protocol.notifications.Notification;
 import io.reactivex.Observable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -34,6 +36,26 @@ public interface Neow3jService {
      */
     <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType);
 
+    /**
+     * Performs the given JSON-RPC requests in one batch if the service supports it. Otherwise, the requests are
+     * performed one after the other.
+     *
+     * @param requests     the requests to perform.
+     * @param responseType the class of a data item returned by the requests.
+     * @param <T>          the type of a data item returned by the requests.
+     * @return the deserialized JSON-RPC responses in the order of the requests.
+     * @throws IOException if the requests could not be performed.
+     */
+    default <T extends Response> List<T> sendBatch(List<? extends Request> requests, Class<T> responseType)
+            throws IOException {
+
+        List<T> responses = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            responses.add(send(request, responseType));
+        }
+        return responses;
+    }
+
     /**
      * Subscribe to a stream of notifications. A stream of notifications is opened by by performing a specified
      * JSON-RPC request and is closed by calling the unsubscribe method. Different WebSocket implementations use
@@ -1,5 +1,6 @@
 package io.neow3j.protocol;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
@@ -9,6 +10,10 @@ import io.reactivex.Observable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
@@ -23,6 +28,9 @@ public abstract class Service implements Neow3jService {
 
     protected ExecutorService asyncExecutorService;
 
+    // Set when the node rejected a batch request. The requests are then performed one after the other.
+    private volatile boolean batchesUnsupported;
+
     /**
      * Creates a Service.
      *
@@ -58,6 +66,59 @@ public abstract class Service implements Neow3jService {
         }
     }
 
+    /**
+     * Performs the given JSON-RPC requests in one JSON-RPC batch, i.e., with one call to the node.
+     * <p>
+     * If the node does not support batches, the requests are performed one after the other. This service then
+     * remembers that and sends all further requests of batches on their own.
+     *
+     * @param requests     the requests to perform.
+     * @param responseType the class of a data item returned by the requests.
+     * @param <T>          the type of a data item returned by the requests.
+     * @return the deserialized JSON-RPC responses in the order of the requests.
+     * @throws IOException if the requests could not be performed or a response is missing.
+     */
+    @Override
+    public <T extends Response> List<T> sendBatch(List<? extends Request> requests, Class<T> responseType)
+            throws IOException {
+
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (batchesUnsupported) {
+            return Neow3jService.super.sendBatch(requests, responseType);
+        }
+        String payload = objectMapper.writeValueAsString(requests);
+        Map<Long, JsonNode> responsesById = new HashMap<>();
+        try (InputStream result = performIO(payload)) {
+            if (result == null) {
+                throw new IOException("Received no response to the batch request.");
+            }
+            JsonNode node = objectMapper.readTree(result);
+            if (node.isArray()) {
+                for (JsonNode response : node) {
+                    responsesById.put(response.path("id").asLong(), response);
+                }
+            }
+        }
+        if (responsesById.isEmpty()) {
+            // The node does not support batches and responded with a single error.
+            batchesUnsupported = true;
+            return Neow3jService.super.sendBatch(requests, responseType);
+        }
+        List<T> responses = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            JsonNode response = responsesById.get(request.getId());
+            if (response == null) {
+                throw new IOException(format("The batch response did not contain a response to the request with " +
+                        "id %s.", request.getId()));
+            }
+            // Deserialize from the text, so that raw responses are included if configured.
+            responses.add(objectMapper.readValue(objectMapper.writeValueAsString(response), responseType));
+        }
+        return responses;
+    }
+
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(Request jsonRpc20Request, Class<T> responseType) {
         return Async.run(() -> send(jsonRpc20Request, responseType), asyncExecutorService);
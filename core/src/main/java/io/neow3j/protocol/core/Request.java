@@ -1,11 +1,17 @@
 package io.neow3j.protocol.core;
 
 import io.neow3j.protocol.Neow3jService;
+import io.neow3j.utils.Async;
 import io.reactivex.Observable;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class Request<S, T extends Response> {
@@ -77,4 +83,98 @@ public class Request<S, T extends Response> {
         return new RemoteCall<>(this::send).observable();
     }
 
+    /**
+     * Sends the given requests in one JSON-RPC batch if the underlying service supports it.
+     * <p>
+     * All requests must be created by the same {@link io.neow3j.protocol.Neow3j} instance and must be of the same
+     * type.
+     *
+     * @param requests the requests.
+     * @param <T>      the response type.
+     * @return the responses in the order of the requests.
+     * @throws IOException if the requests could not be performed.
+     */
+    public static <T extends Response> List<T> sendBatch(List<? extends Request<?, T>> requests)
+            throws IOException {
+
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Request<?, T> first = requests.get(0);
+        return first.neow3jService.sendBatch(requests, first.responseType);
+    }
+
+    /**
+     * Sends the given requests in JSON-RPC batches of at most {@code batchSize} requests. Up to
+     * {@code maxConcurrency} batches are sent concurrently.
+     * <p>
+     * All requests must be created by the same {@link io.neow3j.protocol.Neow3j} instance and must be of the same
+     * type.
+     *
+     * @param requests       the requests.
+     * @param batchSize      the maximum number of requests per batch.
+     * @param maxConcurrency the maximum number of concurrently sent batches.
+     * @param <T>            the response type.
+     * @return the responses in the order of the requests.
+     * @throws IOException if the requests could not be performed.
+     */
+    public static <T extends Response> List<T> sendBatches(List<? extends Request<?, T>> requests, int batchSize,
+            int maxConcurrency) throws IOException {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1.");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        List<List<? extends Request<?, T>>> batches = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i += batchSize) {
+            batches.add(requests.subList(i, Math.min(i + batchSize, requests.size())));
+        }
+        List<T> responses = new ArrayList<>(requests.size());
+        if (batches.size() <= 1 || maxConcurrency == 1) {
+            for (List<? extends Request<?, T>> batch : batches) {
+                responses.addAll(sendBatch(batch));
+            }
+            return responses;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrency, batches.size()));
+        try {
+            List<Future<List<T>>> futures = new ArrayList<>(batches.size());
+            for (List<? extends Request<?, T>> batch : batches) {
+                futures.add(executor.submit(() -> sendBatch(batch)));
+            }
+            for (Future<List<T>> f : futures) {
+                responses.addAll(f.get());
+            }
+            return responses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending requests.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends the given requests asynchronously in one JSON-RPC batch if the underlying service supports it.
+     *
+     * @param requests the requests.
+     * @param <T>      the response type.
+     * @return a future of the responses in the order of the requests.
+     * @see #sendBatch(List)
+     */
+    public static <T extends Response> CompletableFuture<List<T>> sendBatchAsync(
+            List<? extends Request<?, T>> requests) {
+        return Async.run(() -> sendBatch(requests));
+    }
+
 }
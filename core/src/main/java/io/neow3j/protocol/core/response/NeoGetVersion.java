@@ -38,6 +38,9 @@ public class NeoGetVersion extends Response<NeoGetVersion.NeoVersion> {
         @JsonProperty("useragent")
         private String userAgent;
 
+        @JsonProperty("rpc")
+        private Rpc rpc;
+
         @JsonProperty("protocol")
         private Protocol protocol;
 
@@ -76,6 +79,13 @@ public class NeoGetVersion extends Response<NeoGetVersion.NeoVersion> {
             this.userAgent = userAgent;
         }
 
+        /**
+         * @return the RPC settings of the Neo node or null if the node does not provide them.
+         */
+        public Rpc getRpc() {
+            return rpc;
+        }
+
         public Protocol getProtocol() {
             return protocol;
         }
@@ -93,12 +103,13 @@ public class NeoGetVersion extends Response<NeoGetVersion.NeoVersion> {
                     Objects.equals(getWSPort(), that.getWSPort()) &&
                     Objects.equals(getNonce(), that.getNonce()) &&
                     Objects.equals(getUserAgent(), that.getUserAgent()) &&
+                    Objects.equals(getRpc(), that.getRpc()) &&
                     Objects.equals(getProtocol(), that.getProtocol());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(getTCPPort(), getWSPort(), getNonce(), getUserAgent(),
+            return Objects.hash(getTCPPort(), getWSPort(), getNonce(), getUserAgent(), getRpc(),
                     getProtocol());
         }
 
@@ -109,10 +120,57 @@ public class NeoGetVersion extends Response<NeoGetVersion.NeoVersion> {
                     ", wsport=" + wsPort +
                     ", nonce=" + nonce +
                     ", useragent='" + userAgent + '\'' +
+                    ", rpc=" + rpc +
                     ", protocol=" + protocol +
                     '}';
         }
 
+        public static class Rpc {
+
+            @JsonProperty("maxiteratorresultitems")
+            private Integer maxIteratorResultItems;
+
+            @JsonProperty("sessionenabled")
+            private Boolean sessionEnabled;
+
+            public Rpc() {
+            }
+
+            public Integer getMaxIteratorResultItems() {
+                return maxIteratorResultItems;
+            }
+
+            public Boolean getSessionEnabled() {
+                return sessionEnabled;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (!(o instanceof Rpc)) {
+                    return false;
+                }
+                Rpc that = (Rpc) o;
+                return Objects.equals(getMaxIteratorResultItems(), that.getMaxIteratorResultItems()) &&
+                        Objects.equals(getSessionEnabled(), that.getSessionEnabled());
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(getMaxIteratorResultItems(), getSessionEnabled());
+            }
+
+            @Override
+            public String toString() {
+                return "Rpc{" +
+                        "maxIteratorResultItems=" + maxIteratorResultItems +
+                        ", sessionEnabled=" + sessionEnabled +
+                        '}';
+            }
+        }
+
         public static class Protocol {
 
             @JsonProperty("network")
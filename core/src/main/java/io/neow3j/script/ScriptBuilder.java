@@ -465,9 +465,62 @@ public class ScriptBuilder {
     public static byte[] buildContractCallAndUnwrapIterator(Hash160 contractHash, String method,
             List<ContractParameter> params, CallFlags callFlags, int maxIteratorResultItems) {
 
+        return buildContractCallAndUnwrapIterator(contractHash, method, params, callFlags, 0,
+                maxIteratorResultItems);
+    }
+
+    /**
+     * Builds a script that calls a contract method with the provided parameters where the return value is expected
+     * to be an iterator. The first {@code iteratorOffset} items of the iterator are skipped. Then, the iterator is
+     * traversed and its values are added to an array.
+     * <p>
+     * Use this to page through iterator values in interaction with an RPC server that has sessions disabled. Note,
+     * that the contract method is invoked again for every page.
+     *
+     * @param contractHash           the script hash of the contract to call.
+     * @param method                 the method to call.
+     * @param params                 the parameters that will be used in the call. Need to be in correct order.
+     * @param callFlags              the call flags to use for the contract call.
+     * @param iteratorOffset         the number of iterator items to skip.
+     * @param maxIteratorResultItems the maximal number of iterator result items to include in the array. This value
+     *                               must not exceed NeoVM limits.
+     * @return the script.
+     */
+    public static byte[] buildContractCallAndUnwrapIterator(Hash160 contractHash, String method,
+            List<ContractParameter> params, CallFlags callFlags, int iteratorOffset, int maxIteratorResultItems) {
+
         ScriptBuilder b = new ScriptBuilder();                   // Stack state after opcode execution (top to bottom).
         b.pushInteger(maxIteratorResultItems);                   // Stack: maxIt
         b.contractCall(contractHash, method, params, callFlags); // Stack: iterator, maxIt
+
+        // Skip the first items of the iterator. Operands of the forward jumps are set once the offset at cycle end is
+        // known.
+        int jmpIfSkippedOffset = -1;
+        int jmpIfNoNextOffset = -1;
+        int skipCycleEndOffset = -1;
+        if (iteratorOffset > 0) {
+            // ### Start of skip cycle ###
+            b.pushInteger(iteratorOffset);                       // Stack: skip, iterator, maxIt
+            int skipCycleStartOffset = b.stream.size();
+            b.opCode(OpCode.DUP);                                // Stack: skip, skip, iterator, maxIt
+            // Jump to end of skip cycle if no more items need to be skipped.
+            jmpIfSkippedOffset = b.stream.size();
+            b.opCode(OpCode.JMPIFNOT, new byte[]{0x00});         // Stack: skip, iterator, maxIt
+            b.opCode(OpCode.OVER);                               // Stack: iterator, skip, iterator, maxIt
+            b.sysCall(InteropService.SYSTEM_ITERATOR_NEXT);      // Stack: boolean, skip, iterator, maxIt
+            // Jump to end of skip cycle if the iterator has no next value.
+            jmpIfNoNextOffset = b.stream.size();
+            b.opCode(OpCode.JMPIFNOT, new byte[]{0x00});         // Stack: skip, iterator, maxIt
+            b.opCode(OpCode.DEC);                                // Stack: skip - 1, iterator, maxIt
+            int jmpOffset = b.stream.size();
+            b.opCode(OpCode.JMP,                                 // Stack: skip - 1, iterator, maxIt
+                    new byte[]{(byte) (skipCycleStartOffset - jmpOffset)});
+
+            // ### End of skip cycle ###
+            skipCycleEndOffset = b.stream.size();
+            b.opCode(OpCode.DROP);                               // Stack: iterator, maxIt
+        }
+
         // Push an empty array to fill with the iterator result items.
         b.opCode(OpCode.NEWARRAY0);                              // Stack: empty array, iterator, maxIt
 
@@ -510,9 +563,13 @@ public class ScriptBuilder {
 
         // Fill in operands for the jump opcodes.
         byte[] bytes = b.toArray();
-        bytes[jmpIfNotOffset.add(BigInteger.ONE).byteValue()] = loadResultOffset.subtract(jmpIfNotOffset).byteValue();
-        bytes[jmpIfMaxReachedOffset.add(BigInteger.ONE).byteValue()] =
+        bytes[jmpIfNotOffset.add(BigInteger.ONE).intValue()] = loadResultOffset.subtract(jmpIfNotOffset).byteValue();
+        bytes[jmpIfMaxReachedOffset.add(BigInteger.ONE).intValue()] =
                 loadResultOffset.subtract(jmpIfMaxReachedOffset).byteValue();
+        if (iteratorOffset > 0) {
+            bytes[jmpIfSkippedOffset + 1] = (byte) (skipCycleEndOffset - jmpIfSkippedOffset);
+            bytes[jmpIfNoNextOffset + 1] = (byte) (skipCycleEndOffset - jmpIfNoNextOffset);
+        }
         return bytes;
     }
 
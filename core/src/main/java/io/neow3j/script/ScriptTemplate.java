@@ -0,0 +1,270 @@
+package io.neow3j.script;
+
+import io.neow3j.types.CallFlags;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.ContractParameterType;
+import io.neow3j.types.Hash160;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A contract call script that is compiled once and then filled in with different parameter values.
+ * <p>
+ * A template is created from a contract call in which some parameters are replaced by {@link #slot()}. All parts of
+ * the script that do not depend on the slots, e.g., the contract hash, the method name and the fixed parameters, are
+ * encoded once when the template is compiled. Building a script from the template only encodes the slot values and
+ * copies them together with the fixed parts into a buffer that is reused by the calling thread.
+ * <p>
+ * The scripts built from a template are identical to the ones built with {@link ScriptBuilder#contractCall(Hash160,
+ * String, List, CallFlags)} with the slots replaced by the given values.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ */
+public class ScriptTemplate {
+
+    private static final ContractParameter SLOT = new ContractParameter(ContractParameterType.ANY);
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final ThreadLocal<byte[][]> BUFFER = ThreadLocal.withInitial(
+            () -> new byte[][]{new byte[INITIAL_BUFFER_SIZE]});
+
+    // The fixed parts of the script. The slots are located between two consecutive segments. Since the parameters are
+    // pushed in reverse order, the last slot comes first.
+    private final byte[][] segments;
+    private final int slotCount;
+    private final int fixedLength;
+
+    private ScriptTemplate(byte[][] segments) {
+        this.segments = segments;
+        this.slotCount = segments.length - 1;
+        this.fixedLength = Arrays.stream(segments).mapToInt(s -> s.length).sum();
+    }
+
+    /**
+     * Gets the placeholder for a parameter that is filled in when a script is built from the template.
+     *
+     * @return the slot placeholder.
+     */
+    public static ContractParameter slot() {
+        return SLOT;
+    }
+
+    /**
+     * Compiles a template for a call to the contract denoted by the given script hash. Uses {@link CallFlags#ALL}
+     * for the call.
+     *
+     * @param scriptHash the script hash of the contract to call.
+     * @param method     the method to call.
+     * @param params     the parameters of the call. Parameters that change from script to script are replaced by
+     *                   {@link #slot()}.
+     * @return the template.
+     */
+    public static ScriptTemplate contractCall(Hash160 scriptHash, String method, List<ContractParameter> params) {
+        return contractCall(scriptHash, method, params, CallFlags.ALL);
+    }
+
+    /**
+     * Compiles a template for a call to the contract denoted by the given script hash.
+     *
+     * @param scriptHash the script hash of the contract to call.
+     * @param method     the method to call.
+     * @param params     the parameters of the call. Parameters that change from script to script are replaced by
+     *                   {@link #slot()}.
+     * @param callFlags  the call flags to use for the contract call.
+     * @return the template.
+     */
+    public static ScriptTemplate contractCall(Hash160 scriptHash, String method, List<ContractParameter> params,
+            CallFlags callFlags) {
+
+        List<byte[]> segments = new ArrayList<>();
+        ScriptBuilder segment = new ScriptBuilder();
+        if (params != null && params.size() > 0) {
+            // The parameters are pushed in reverse order, see ScriptBuilder#pushParams(List).
+            for (int i = params.size() - 1; i >= 0; i--) {
+                if (params.get(i) == SLOT) {
+                    segments.add(segment.toArray());
+                    segment = new ScriptBuilder();
+                } else {
+                    segment.pushParam(params.get(i));
+                }
+            }
+            segment.pushInteger(params.size()).opCode(OpCode.PACK);
+        } else {
+            segment.opCode(OpCode.NEWARRAY0);
+        }
+        segment.pushInteger(callFlags.getValue())
+                .pushData(method)
+                .pushData(scriptHash.toLittleEndianArray())
+                .sysCall(InteropService.SYSTEM_CONTRACT_CALL);
+        segments.add(segment.toArray());
+        return new ScriptTemplate(segments.toArray(new byte[0][]));
+    }
+
+    /**
+     * @return the number of slots of this template.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * @return the length of the fixed parts of the script, i.e., the script length without the slot values.
+     */
+    public int getFixedLength() {
+        return fixedLength;
+    }
+
+    /**
+     * Builds a script with the given values in the slots.
+     *
+     * @param values the slot values in the order of the slots in the contract call parameters.
+     * @return the script.
+     * @throws IllegalArgumentException if the number of values does not match the number of slots or a value cannot
+     *                                  be encoded.
+     */
+    public byte[] build(ContractParameter... values) {
+        if (values.length != slotCount) {
+            throw new IllegalArgumentException(format("The template has %s slots but %s values were given.",
+                    slotCount, values.length));
+        }
+        byte[][] holder = BUFFER.get();
+        Writer writer = new Writer(holder[0]);
+        writer.write(segments[0]);
+        for (int i = 0; i < slotCount; i++) {
+            writer.writeParam(values[slotCount - 1 - i]);
+            writer.write(segments[i + 1]);
+        }
+        holder[0] = writer.buffer;
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    /**
+     * Builds a script with the given values in the slots.
+     *
+     * @param values the slot values in the order of the slots in the contract call parameters.
+     * @return the script.
+     * @throws IllegalArgumentException if the number of values does not match the number of slots or a value cannot
+     *                                  be encoded.
+     */
+    public byte[] build(List<ContractParameter> values) {
+        return build(values.toArray(new ContractParameter[0]));
+    }
+
+    // Writes into a growable buffer. Encodes the common parameter types directly and falls back to a ScriptBuilder
+    // for all others.
+    private static class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        private void write(byte[] data) {
+            ensureCapacity(data.length);
+            System.arraycopy(data, 0, buffer, position, data.length);
+            position += data.length;
+        }
+
+        private void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) b;
+        }
+
+        private void writeLittleEndian(long v, int length) {
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) (v >>> (8 * i));
+            }
+        }
+
+        private void writeParam(ContractParameter param) {
+            if (param == null) {
+                writeByte(OpCode.PUSHNULL.getCode());
+                return;
+            }
+            Object value = param.getValue();
+            if (value == null) {
+                write(new ScriptBuilder().pushParam(param).toArray());
+                return;
+            }
+            switch (param.getType()) {
+                case HASH160:
+                    writeData(((Hash160) value).toLittleEndianArray());
+                    break;
+                case INTEGER:
+                    BigInteger integer = (BigInteger) value;
+                    if (integer.bitLength() < Long.SIZE) {
+                        writeInteger(integer.longValue());
+                    } else {
+                        write(new ScriptBuilder().pushInteger(integer).toArray());
+                    }
+                    break;
+                case BOOLEAN:
+                    writeByte((boolean) value ? OpCode.PUSHT.getCode() : OpCode.PUSHF.getCode());
+                    break;
+                case STRING:
+                    writeData(((String) value).getBytes(UTF_8));
+                    break;
+                case BYTE_ARRAY:
+                    writeData((byte[]) value);
+                    break;
+                default:
+                    write(new ScriptBuilder().pushParam(param).toArray());
+            }
+        }
+
+        // Same encoding as ScriptBuilder#pushInteger(BigInteger) for integers that fit into a long.
+        private void writeInteger(long v) {
+            if (v >= -1 && v <= 16) {
+                writeByte(OpCode.PUSH0.getCode() + (int) v);
+                return;
+            }
+            // The length of the minimal two's complement representation.
+            int length = (Long.SIZE - Long.numberOfLeadingZeros(v < 0 ? ~v : v)) / 8 + 1;
+            if (length == 1) {
+                writeByte(OpCode.PUSHINT8.getCode());
+                writeLittleEndian(v, 1);
+            } else if (length == 2) {
+                writeByte(OpCode.PUSHINT16.getCode());
+                writeLittleEndian(v, 2);
+            } else if (length <= 4) {
+                writeByte(OpCode.PUSHINT32.getCode());
+                writeLittleEndian(v, 4);
+            } else {
+                writeByte(OpCode.PUSHINT64.getCode());
+                writeLittleEndian(v, 8);
+            }
+        }
+
+        // Same encoding as ScriptBuilder#pushData(byte[]).
+        private void writeData(byte[] data) {
+            if (data.length < 256) {
+                writeByte(OpCode.PUSHDATA1.getCode());
+                writeByte(data.length);
+            } else if (data.length < 65536) {
+                writeByte(OpCode.PUSHDATA2.getCode());
+                writeLittleEndian(data.length, 2);
+            } else {
+                writeByte(OpCode.PUSHDATA4.getCode());
+                writeLittleEndian(data.length, 4);
+            }
+            write(data);
+        }
+
+    }
+
+}
@@ -0,0 +1,210 @@
+package io.neow3j.transaction;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.response.InvocationResult;
+import io.neow3j.protocol.exceptions.InvocationFaultStateException;
+import io.neow3j.script.InteropService;
+import io.neow3j.script.OpCode;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.serialization.IOUtils;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash160;
+import io.neow3j.wallet.Account;
+
+import java.io.IOException;
+
+/**
+ * Calculates the network fee of transactions locally, i.e., without the {@code calculatenetworkfee} RPC call.
+ * <p>
+ * The network fee of a transaction whose signers are all single-sig or multi-sig accounts only depends on the size of
+ * the transaction including its witnesses, the fee per byte, and the execution fee factor. The latter two are read from
+ * the Policy contract and are cached for a configurable time.
+ * <p>
+ * Transactions with contract signers or with attributes, which may be subject to attribute fees, are not supported.
+ * See {@link #supports(Transaction)}.
+ * <p>
+ * Instances of this class are thread-safe and are meant to be shared between transaction builders, e.g., with
+ * {@link TransactionBuilder#networkFeeCalculator(NetworkFeeCalculator)}.
+ */
+public class NetworkFeeCalculator {
+
+    /**
+     * The default time in milliseconds for which the Policy values are cached.
+     */
+    public static final long DEFAULT_POLICY_TTL = 60_000;
+
+    private static final Hash160 POLICY_CONTRACT_HASH = new Hash160("cc5e4edd9f5f8dba8bb65734541df7a1c081c67b");
+    private static final String GET_FEE_PER_BYTE = "getFeePerByte";
+    private static final String GET_EXEC_FEE_FACTOR = "getExecFeeFactor";
+
+    // The size of an invocation script with one signature, i.e., PUSHDATA1 64 <signature>.
+    private static final int SIGNATURE_INVOCATION_SIZE = 66;
+    // The size of a single-sig verification script, i.e., PUSHDATA1 33 <public key> SYSCALL <CheckSig>.
+    private static final int SINGLE_SIG_VERIFICATION_SIZE = 40;
+    // The size of one public key in a multi-sig verification script, i.e., PUSHDATA1 33 <public key>.
+    private static final int PUBLIC_KEY_PUSH_SIZE = 35;
+    // The size of the syscall at the end of a verification script.
+    private static final int SYSCALL_SIZE = 5;
+
+    private final Neow3j neow3j;
+    private final long policyTtl;
+
+    private long feePerByte;
+    private long execFeeFactor;
+    private long policyExpiry;
+
+    /**
+     * Constructs a calculator that caches the Policy values for {@value DEFAULT_POLICY_TTL} milliseconds.
+     *
+     * @param neow3j the {@link Neow3j} instance used to read the Policy values.
+     */
+    public NetworkFeeCalculator(Neow3j neow3j) {
+        this(neow3j, DEFAULT_POLICY_TTL);
+    }
+
+    /**
+     * Constructs a calculator.
+     *
+     * @param neow3j    the {@link Neow3j} instance used to read the Policy values.
+     * @param policyTtl the time in milliseconds for which the Policy values are cached.
+     */
+    public NetworkFeeCalculator(Neow3j neow3j, long policyTtl) {
+        if (policyTtl < 0) {
+            throw new IllegalArgumentException("The time to live of the Policy values must not be negative.");
+        }
+        this.neow3j = neow3j;
+        this.policyTtl = policyTtl;
+    }
+
+    /**
+     * Checks if the network fee of the given transaction can be calculated locally. This is the case if all signers
+     * are single-sig or multi-sig accounts and the transaction has no attributes.
+     *
+     * @param tx the transaction.
+     * @return true if the network fee can be calculated locally. False, otherwise.
+     */
+    public static boolean supports(Transaction tx) {
+        return tx.getAttributes().isEmpty() && tx.getSigners().stream().allMatch(s -> s instanceof AccountSigner);
+    }
+
+    /**
+     * Calculates the network fee of the given transaction. Existing witnesses of the transaction are ignored.
+     *
+     * @param tx the transaction.
+     * @return the network fee in GAS fractions.
+     * @throws IOException                       if the Policy values could not be read from the Neo node.
+     * @throws TransactionConfigurationException if the network fee of the transaction cannot be calculated locally.
+     */
+    public long calculateNetworkFee(Transaction tx) throws IOException {
+        if (!supports(tx)) {
+            throw new TransactionConfigurationException("The network fee of transactions with contract signers or " +
+                    "attributes cannot be calculated locally.");
+        }
+        long size = tx.toArrayWithoutWitnesses().length + IOUtils.getVarSize(tx.getSigners().size());
+        long executionCost = 0;
+        for (Signer signer : tx.getSigners()) {
+            Account a = ((AccountSigner) signer).getAccount();
+            size += calculateWitnessSize(a);
+            if (a.isMultiSig()) {
+                int m = a.getSigningThreshold();
+                int n = a.getNrOfParticipants();
+                executionCost += multiSigVerificationCost(m, n, pushInteger(m)[0], pushInteger(n)[0]);
+            } else {
+                executionCost += singleSigVerificationCost();
+            }
+        }
+        synchronized (this) {
+            refreshPolicyValuesIfExpired();
+            return size * feePerByte + executionCost * execFeeFactor;
+        }
+    }
+
+    /**
+     * Calculates the size of the witness of the given account once it is signed, i.e., of an invocation script with
+     * the required number of signatures and of the verification script of the account.
+     *
+     * @param account a single-sig or multi-sig account.
+     * @return the size of the serialized witness in bytes.
+     */
+    public static int calculateWitnessSize(Account account) {
+        int invocationSize;
+        int verificationSize;
+        if (account.isMultiSig()) {
+            int m = account.getSigningThreshold();
+            int n = account.getNrOfParticipants();
+            invocationSize = SIGNATURE_INVOCATION_SIZE * m;
+            verificationSize = pushInteger(m).length + PUBLIC_KEY_PUSH_SIZE * n + pushInteger(n).length
+                    + SYSCALL_SIZE;
+        } else {
+            invocationSize = SIGNATURE_INVOCATION_SIZE;
+            verificationSize = SINGLE_SIG_VERIFICATION_SIZE;
+        }
+        return IOUtils.getVarSize(invocationSize) + invocationSize
+                + IOUtils.getVarSize(verificationSize) + verificationSize;
+    }
+
+    private static byte[] pushInteger(int value) {
+        return new ScriptBuilder().pushInteger(value).toArray();
+    }
+
+    /**
+     * @return the cached fee per transaction byte. Reads it from the Policy contract if it is expired.
+     * @throws IOException if the Policy values could not be read from the Neo node.
+     */
+    public synchronized long getFeePerByte() throws IOException {
+        refreshPolicyValuesIfExpired();
+        return feePerByte;
+    }
+
+    /**
+     * @return the cached execution fee factor. Reads it from the Policy contract if it is expired.
+     * @throws IOException if the Policy values could not be read from the Neo node.
+     */
+    public synchronized long getExecFeeFactor() throws IOException {
+        refreshPolicyValuesIfExpired();
+        return execFeeFactor;
+    }
+
+    /**
+     * Invalidates the cached Policy values, so that they are read from the Neo node on the next calculation.
+     */
+    public synchronized void invalidatePolicyValues() {
+        policyExpiry = 0;
+    }
+
+    private void refreshPolicyValuesIfExpired() throws IOException {
+        long now = System.currentTimeMillis();
+        if (now < policyExpiry) {
+            return;
+        }
+        feePerByte = callPolicyFunction(GET_FEE_PER_BYTE);
+        execFeeFactor = callPolicyFunction(GET_EXEC_FEE_FACTOR);
+        policyExpiry = policyTtl > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + policyTtl;
+    }
+
+    private long callPolicyFunction(String function) throws IOException {
+        InvocationResult result = neow3j.invokeFunction(POLICY_CONTRACT_HASH, function).send()
+                .getInvocationResult();
+        if (result.hasStateFault()) {
+            throw new InvocationFaultStateException(result.getException());
+        }
+        return result.getStack().get(0).getInteger().longValue();
+    }
+
+    // The execution cost of a single-sig verification script with one signature, excluding the execution fee factor.
+    private static long singleSigVerificationCost() {
+        return OpCode.PUSHDATA1.getPrice() * 2 + OpCode.SYSCALL.getPrice()
+                + InteropService.SYSTEM_CRYPTO_CHECKSIG.getPrice();
+    }
+
+    // The execution cost of an m-out-of-n multi-sig verification script with m signatures, excluding the execution fee
+    // factor. As on the Neo node, every public key is assumed to be checked.
+    private static long multiSigVerificationCost(int m, int n, byte pushMOpCode, byte pushNOpCode) {
+        return OpCode.PUSHDATA1.getPrice() * (m + n)
+                + OpCode.get(pushMOpCode).getPrice()
+                + OpCode.get(pushNOpCode).getPrice()
+                + OpCode.SYSCALL.getPrice()
+                + InteropService.SYSTEM_CRYPTO_CHECKSIG.getPrice() * n;
+    }
+
+}
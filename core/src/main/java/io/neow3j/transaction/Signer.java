@@ -55,6 +55,9 @@ public class Signer extends NeoSerializable {
     private List<WitnessRule> rules;
 
     public Signer() {
+        allowedContracts = new ArrayList<>();
+        allowedGroups = new ArrayList<>();
+        rules = new ArrayList<>();
     }
 
     protected Signer(Hash160 signerHash, WitnessScope scope) {
@@ -5,6 +5,7 @@ import io.neow3j.constants.NeoConstants;
 import io.neow3j.crypto.Base64;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.Sign;
+import io.neow3j.protocol.ChainContextCache;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.ObjectMapperFactory;
 import io.neow3j.protocol.core.response.NeoApplicationLog;
@@ -322,8 +323,17 @@ public class Transaction extends NeoSerializable {
                     " The maximum size is %s bytes while the transaction has size %s.", MAX_TRANSACTION_SIZE, size));
         }
         String hex = toHexStringNoPrefix(toArray());
-        blockCountWhenSent = neow3j.getBlockCount().send().getBlockCount();
-        return neow3j.sendRawTransaction(hex).send();
+        if (!neow3j.chainContextCacheIsEnabled()) {
+            blockCountWhenSent = neow3j.getBlockCount().send().getBlockCount();
+            return neow3j.sendRawTransaction(hex).send();
+        }
+        ChainContextCache cache = neow3j.getChainContextCache();
+        blockCountWhenSent = BigInteger.valueOf(cache.getBlockCount());
+        NeoSendRawTransaction response = neow3j.sendRawTransaction(hex).send();
+        if (!response.hasError()) {
+            cache.addPendingSpend(getSender(), BigInteger.valueOf(systemFee + networkFee));
+        }
+        return response;
     }
 
     /**
@@ -60,6 +60,7 @@ public class TransactionBuilder {
 
     private BiConsumer<BigInteger, BigInteger> consumer;
     private Supplier<? extends Throwable> supplier;
+    private NetworkFeeCalculator networkFeeCalculator;
 
     public TransactionBuilder(Neow3j neow3j) {
         this.neow3j = neow3j;
@@ -202,6 +203,20 @@ public class TransactionBuilder {
         return this;
     }
 
+    /**
+     * Sets a calculator to compute the network fee locally instead of with the {@code calculatenetworkfee} RPC call.
+     * <p>
+     * The calculator is only used if it supports the transaction, i.e., if all signers are account signers and the
+     * transaction has no attributes. Otherwise, the network fee is still calculated by the Neo node.
+     *
+     * @param calculator the network fee calculator.
+     * @return this transaction builder.
+     */
+    public TransactionBuilder networkFeeCalculator(NetworkFeeCalculator calculator) {
+        this.networkFeeCalculator = calculator;
+        return this;
+    }
+
     /**
      * Configures the transaction with an additional system fee.
      * <p>
@@ -371,12 +386,17 @@ public class TransactionBuilder {
 
     // Checks if this transaction contains a signer that is a committee member.
     private boolean isAllowedForHighPriority() throws IOException {
-        List<Hash160> committee = neow3j.getCommittee().send()
-                .getCommittee()
-                .stream().map(ECPublicKey::new)
-                .map(key -> key.getEncoded(true))
-                .map(Hash160::fromPublicKey)
-                .collect(Collectors.toList());
+        List<Hash160> committee;
+        if (neow3j.chainContextCacheIsEnabled()) {
+            committee = neow3j.getChainContextCache().getCommittee();
+        } else {
+            committee = neow3j.getCommittee().send()
+                    .getCommittee()
+                    .stream().map(ECPublicKey::new)
+                    .map(key -> key.getEncoded(true))
+                    .map(Hash160::fromPublicKey)
+                    .collect(Collectors.toList());
+        }
 
         boolean signersContainCommitteeMember = signers.stream()
                 .map(Signer::getScriptHash).anyMatch(committee::contains);
@@ -411,6 +431,9 @@ public class TransactionBuilder {
     }
 
     private long fetchCurrentBlockCount() throws IOException {
+        if (neow3j.chainContextCacheIsEnabled()) {
+            return neow3j.getChainContextCache().getBlockCount();
+        }
         return neow3j.getBlockCount().send().getBlockCount().longValue();
     }
 
@@ -458,6 +481,13 @@ public class TransactionBuilder {
             throw new TransactionConfigurationException("A transaction requires at least one signing account (i.e. an" +
                     " AccountSigner). None was provided.");
         }
+        if (NetworkFeeCalculator.supports(tx)) {
+            if (networkFeeCalculator != null) {
+                return networkFeeCalculator.calculateNetworkFee(tx);
+            } else if (neow3j.chainContextCacheIsEnabled()) {
+                return neow3j.getChainContextCache().getNetworkFeeCalculator().calculateNetworkFee(tx);
+            }
+        }
         String txHex = toHexStringNoPrefix(tx.toArray());
         return neow3j.calculateNetworkFee(txHex).send().getNetworkFee().getNetworkFee().longValue();
     }
@@ -580,6 +610,9 @@ public class TransactionBuilder {
     }
 
     private BigInteger getSenderGasBalance() throws IOException {
+        if (neow3j.chainContextCacheIsEnabled()) {
+            return neow3j.getChainContextCache().getGasBalance(getSender());
+        }
         return neow3j.invokeFunction(GAS_TOKEN_HASH, BALANCE_OF_FUNCTION, asList(hash160(getSender())))
                 .send().getInvocationResult().getFirstStackItem().getInteger();
     }
@@ -0,0 +1,720 @@
+package io.neow3j.transaction;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.protocol.ChainContextCache;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoInvokeScript;
+import io.neow3j.protocol.core.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash256;
+import io.neow3j.wallet.Account;
+import io.reactivex.disposables.Disposable;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static java.lang.String.format;
+
+/**
+ * Builds, signs, sends and confirms large numbers of transactions.
+ * <p>
+ * The transactions pass through four stages:
+ * <ul>
+ *     <li>{@link Stage#BUILD}: The system fees are determined with one batched {@code invokescript} request per batch
+ *     of transactions. The network fees are calculated locally with a {@link NetworkFeeCalculator}.</li>
+ *     <li>{@link Stage#SIGN}: The transactions of a batch are signed in parallel.</li>
+ *     <li>{@link Stage#SEND}: The transactions are sent with a bounded number of concurrent {@code
+ *     sendrawtransaction} requests.</li>
+ *     <li>{@link Stage#CONFIRM}: All sent transactions are tracked with one shared block subscription. A transaction
+ *     that is not included in a block up to its valid-until-block is built, signed and sent again with a new nonce and
+ *     valid-until-block, until the maximum number of resubmissions is reached.</li>
+ * </ul>
+ * <p>
+ * If the {@link ChainContextCache} is enabled on the {@link Neow3j} instance, it provides the block
+ * count and the Policy values and records the fees of the sent transactions as pending spends of their senders.
+ * <p>
+ * Only transactions without attributes whose signers are single-sig accounts holding a private key are supported.
+ * <p>
+ * The pipeline uses its own threads and has to be closed when it is not needed anymore. Instances of this class are
+ * thread-safe.
+ */
+public class TransactionPipeline implements AutoCloseable {
+
+    /**
+     * The default number of transactions that are built and signed together.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * The default maximum number of concurrent {@code sendrawtransaction} requests.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_SUBMISSIONS = 8;
+
+    /**
+     * The default number of times an expired transaction is sent again.
+     */
+    public static final int DEFAULT_MAX_RESUBMISSIONS = 2;
+
+    /**
+     * The stages a transaction passes through in the pipeline.
+     */
+    public enum Stage {
+        BUILD, SIGN, SEND, CONFIRM
+    }
+
+    private final Neow3j neow3j;
+    private final NetworkFeeCalculator networkFeeCalculator;
+    private final Map<Stage, LongAdder> processed = new EnumMap<>(Stage.class);
+    private final Map<Stage, LongAdder> failed = new EnumMap<>(Stage.class);
+    private final Map<Stage, LongAdder> timeNanos = new EnumMap<>(Stage.class);
+    private final Map<Hash256, Item> pending = new ConcurrentHashMap<>();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxConcurrentSubmissions = DEFAULT_MAX_CONCURRENT_SUBMISSIONS;
+    private volatile int maxResubmissions = DEFAULT_MAX_RESUBMISSIONS;
+    private volatile long validUntilBlockIncrement;
+    private volatile ForkJoinPool signingPool = ForkJoinPool.commonPool();
+    // The random value used for the nonce does not need cryptographic security.
+    private volatile LongSupplier nonceSupplier = () -> ThreadLocalRandom.current().nextLong((long) Math.pow(2, 32));
+
+    private ExecutorService buildExecutor;
+    private ExecutorService submissionExecutor;
+    private Disposable blockSubscription;
+    private long nextBlockIndex = -1;
+    private long startNanos;
+    private boolean closed;
+
+    /**
+     * Constructs a pipeline that sends transactions with the given {@link Neow3j} instance.
+     *
+     * @param neow3j the {@link Neow3j} instance.
+     */
+    public TransactionPipeline(Neow3j neow3j) {
+        this.neow3j = neow3j;
+        this.networkFeeCalculator = new NetworkFeeCalculator(neow3j);
+        this.validUntilBlockIncrement = neow3j.getMaxValidUntilBlockIncrement();
+        for (Stage stage : Stage.values()) {
+            processed.put(stage, new LongAdder());
+            failed.put(stage, new LongAdder());
+            timeNanos.put(stage, new LongAdder());
+        }
+    }
+
+    /**
+     * Sets the number of transactions that are built and signed together. Defaults to {@value DEFAULT_BATCH_SIZE}.
+     *
+     * @param batchSize the batch size.
+     * @return this.
+     */
+    public synchronized TransactionPipeline batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0.");
+        }
+        checkNotStarted();
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of concurrent {@code sendrawtransaction} requests. Defaults to {@value
+     * DEFAULT_MAX_CONCURRENT_SUBMISSIONS}.
+     *
+     * @param maxConcurrentSubmissions the maximum number of concurrent submissions.
+     * @return this.
+     */
+    public synchronized TransactionPipeline maxConcurrentSubmissions(int maxConcurrentSubmissions) {
+        if (maxConcurrentSubmissions < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent submissions must be greater than 0.");
+        }
+        checkNotStarted();
+        this.maxConcurrentSubmissions = maxConcurrentSubmissions;
+        return this;
+    }
+
+    /**
+     * Sets how many times a transaction that expired without being included in a block is sent again. Defaults to
+     * {@value DEFAULT_MAX_RESUBMISSIONS}.
+     *
+     * @param maxResubmissions the maximum number of resubmissions.
+     * @return this.
+     */
+    public synchronized TransactionPipeline maxResubmissions(int maxResubmissions) {
+        if (maxResubmissions < 0) {
+            throw new IllegalArgumentException("The maximum number of resubmissions must not be negative.");
+        }
+        this.maxResubmissions = maxResubmissions;
+        return this;
+    }
+
+    /**
+     * Sets the number of blocks for which a transaction is valid, counted from the block count at the time it is
+     * built. A small value lets the pipeline detect and resubmit dropped transactions earlier. Defaults to {@link
+     * Neow3j#getMaxValidUntilBlockIncrement()}.
+     *
+     * @param validUntilBlockIncrement the valid-until-block increment.
+     * @return this.
+     */
+    public synchronized TransactionPipeline validUntilBlockIncrement(long validUntilBlockIncrement) {
+        if (validUntilBlockIncrement < 1 || validUntilBlockIncrement > neow3j.getMaxValidUntilBlockIncrement()) {
+            throw new IllegalArgumentException(format("The valid-until-block increment must be in the interval " +
+                    "[1, %s].", neow3j.getMaxValidUntilBlockIncrement()));
+        }
+        this.validUntilBlockIncrement = validUntilBlockIncrement;
+        return this;
+    }
+
+    /**
+     * Sets the pool used to sign the transactions of a batch in parallel. Defaults to the common pool.
+     *
+     * @param signingPool the pool.
+     * @return this.
+     */
+    public synchronized TransactionPipeline signingPool(ForkJoinPool signingPool) {
+        this.signingPool = signingPool;
+        return this;
+    }
+
+    // Allows tests to use fixed nonces, so that the transaction hashes are known in advance.
+    synchronized TransactionPipeline nonceSupplier(LongSupplier nonceSupplier) {
+        this.nonceSupplier = nonceSupplier;
+        return this;
+    }
+
+    /**
+     * Submits the transactions described by the given specifications to the pipeline.
+     * <p>
+     * The stream is consumed on the calling thread. All other work is done asynchronously.
+     *
+     * @param specs the transaction specifications.
+     * @return a future for each specification that completes when its transaction is included in a block or fails.
+     * @throws IllegalStateException if the pipeline is closed.
+     */
+    public List<CompletableFuture<Result>> submit(Stream<Spec> specs) {
+        start();
+        List<CompletableFuture<Result>> futures = new ArrayList<>();
+        List<Item> batch = new ArrayList<>();
+        Iterator<Spec> it = specs.iterator();
+        while (it.hasNext()) {
+            Item item = new Item(it.next());
+            futures.add(item.future);
+            batch.add(item);
+            if (batch.size() == batchSize) {
+                enqueue(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            enqueue(batch);
+        }
+        return futures;
+    }
+
+    /**
+     * Submits the transactions described by the given specifications to the pipeline.
+     *
+     * @param specs the transaction specifications.
+     * @return a future for each specification that completes when its transaction is included in a block or fails.
+     * @throws IllegalStateException if the pipeline is closed.
+     * @see #submit(Stream)
+     */
+    public List<CompletableFuture<Result>> submit(List<Spec> specs) {
+        return submit(specs.stream());
+    }
+
+    /**
+     * @return the number of transactions that are sent and not yet included in a block.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the number of transactions that successfully passed the given stage. Resubmitted transactions are counted
+     * again in the build, sign and send stages.
+     *
+     * @param stage the stage.
+     * @return the number of processed transactions.
+     */
+    public long getProcessedCount(Stage stage) {
+        return processed.get(stage).sum();
+    }
+
+    /**
+     * @param stage the stage.
+     * @return the number of transactions that failed in the given stage.
+     */
+    public long getFailedCount(Stage stage) {
+        return failed.get(stage).sum();
+    }
+
+    /**
+     * Gets the total time spent in the given stage. For the confirm stage, this is the sum of the times between
+     * sending and confirming the transactions.
+     *
+     * @param stage the stage.
+     * @return the time in nanoseconds.
+     */
+    public long getTimeNanos(Stage stage) {
+        return timeNanos.get(stage).sum();
+    }
+
+    /**
+     * Gets the number of transactions that passed the given stage per second since the first submission.
+     *
+     * @param stage the stage.
+     * @return the throughput in transactions per second.
+     */
+    public double getThroughput(Stage stage) {
+        long start;
+        synchronized (this) {
+            start = startNanos;
+        }
+        if (start == 0) {
+            return 0;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return seconds > 0 ? getProcessedCount(stage) / seconds : 0;
+    }
+
+    /**
+     * Stops the pipeline. The futures of transactions that are not yet confirmed are completed exceptionally.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (blockSubscription != null) {
+                blockSubscription.dispose();
+                blockSubscription = null;
+            }
+            if (buildExecutor != null) {
+                buildExecutor.shutdownNow();
+                submissionExecutor.shutdownNow();
+            }
+        }
+        failPending(new IllegalStateException("The transaction pipeline was closed."));
+    }
+
+    private synchronized void start() {
+        if (closed) {
+            throw new IllegalStateException("The transaction pipeline is closed.");
+        }
+        if (buildExecutor == null) {
+            buildExecutor = Executors.newSingleThreadExecutor();
+            submissionExecutor = Executors.newFixedThreadPool(maxConcurrentSubmissions);
+            startNanos = System.nanoTime();
+        }
+    }
+
+    private void checkNotStarted() {
+        if (buildExecutor != null) {
+            throw new IllegalStateException("The transaction pipeline has already been started.");
+        }
+    }
+
+    private synchronized void enqueue(List<Item> batch) {
+        if (closed) {
+            batch.forEach(i -> i.future.completeExceptionally(
+                    new IllegalStateException("The transaction pipeline was closed.")));
+            return;
+        }
+        buildExecutor.execute(() -> process(batch));
+    }
+
+    // Runs on the build thread. Builds and signs the batch and hands the transactions to the submission threads.
+    private void process(List<Item> batch) {
+        long blockCount;
+        try {
+            blockCount = fetchBlockCount();
+        } catch (Throwable t) {
+            fail(batch, Stage.BUILD, t);
+            return;
+        }
+        List<Item> built = build(batch, blockCount);
+        List<Item> signed = sign(built);
+        signed.forEach(item -> submissionExecutor.execute(() -> send(item, blockCount)));
+    }
+
+    private List<Item> build(List<Item> batch, long blockCount) {
+        long start = System.nanoTime();
+        List<Item> withoutSystemFee = batch.stream().filter(i -> i.systemFee < 0).collect(Collectors.toList());
+        if (!withoutSystemFee.isEmpty()) {
+            try {
+                fetchSystemFees(withoutSystemFee);
+            } catch (Throwable t) {
+                fail(withoutSystemFee, Stage.BUILD, t);
+            }
+        }
+        List<Item> built = new ArrayList<>();
+        for (Item item : batch) {
+            if (item.future.isDone()) {
+                continue;
+            }
+            try {
+                item.transaction = buildTransaction(item, blockCount);
+                built.add(item);
+            } catch (Throwable t) {
+                fail(item, Stage.BUILD, t);
+            }
+        }
+        record(Stage.BUILD, built.size(), System.nanoTime() - start);
+        return built;
+    }
+
+    // The system fees of all transactions in the batch are fetched with one batched request.
+    private void fetchSystemFees(List<Item> items) throws IOException {
+        List<Request<?, NeoInvokeScript>> requests = items.stream()
+                .map(i -> neow3j.invokeScript(toHexStringNoPrefix(i.spec.script), i.spec.signers))
+                .collect(Collectors.toList());
+        List<NeoInvokeScript> responses = Request.sendBatch(requests);
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            NeoInvokeScript response = responses.get(i);
+            if (response.hasError()) {
+                fail(item, Stage.BUILD, new RpcResponseErrorException(response.getError()));
+            } else if (response.getResult().hasStateFault() && !neow3j.transmissionOnFaultIsAllowed()) {
+                fail(item, Stage.BUILD, new TransactionConfigurationException(
+                        "The vm exited due to the following exception: " + response.getResult().getException()));
+            } else {
+                item.systemFee = new BigInteger(response.getResult().getGasConsumed()).longValue();
+            }
+        }
+    }
+
+    private Transaction buildTransaction(Item item, long blockCount) throws IOException {
+        long nonce = nonceSupplier.getAsLong();
+        long validUntilBlock = blockCount + validUntilBlockIncrement - 1;
+        List<Signer> signers = new ArrayList<>(Arrays.asList(item.spec.signers));
+        Transaction unsigned = new Transaction(neow3j, (byte) 0, nonce, validUntilBlock, signers, item.systemFee, 0,
+                new ArrayList<>(), item.spec.script, new ArrayList<>());
+        long networkFee = getNetworkFeeCalculator().calculateNetworkFee(unsigned);
+        return new Transaction(neow3j, (byte) 0, nonce, validUntilBlock, signers, item.systemFee, networkFee,
+                new ArrayList<>(), item.spec.script, new ArrayList<>());
+    }
+
+    private List<Item> sign(List<Item> items) {
+        long start = System.nanoTime();
+        try {
+            signingPool.submit(() -> items.parallelStream().forEach(this::signItem)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(items, Stage.SIGN, e);
+        } catch (ExecutionException e) {
+            fail(items, Stage.SIGN, e.getCause());
+        }
+        List<Item> signed = items.stream().filter(i -> !i.future.isDone()).collect(Collectors.toList());
+        record(Stage.SIGN, signed.size(), System.nanoTime() - start);
+        return signed;
+    }
+
+    private void signItem(Item item) {
+        try {
+            byte[] hashData = item.transaction.getHashData();
+            for (AccountSigner signer : item.spec.signers) {
+                item.transaction.addWitness(Witness.create(hashData, signer.getAccount().getECKeyPair()));
+            }
+        } catch (Throwable t) {
+            fail(item, Stage.SIGN, t);
+        }
+    }
+
+    // Runs on a submission thread. The transaction is registered before it is sent, so that it cannot be missed by
+    // the block subscription.
+    private void send(Item item, long blockCount) {
+        long start = System.nanoTime();
+        Transaction tx = item.transaction;
+        Hash256 txId = tx.getTxId();
+        synchronized (item) {
+            item.sent = false;
+            item.blockIndex = -1;
+            item.submissions++;
+            item.sentNanos = start;
+        }
+        pending.put(txId, item);
+        try {
+            subscribeToBlocks(blockCount);
+            NeoSendRawTransaction response = neow3j.sendRawTransaction(toHexStringNoPrefix(tx.toArray())).send();
+            if (response.hasError()) {
+                pending.remove(txId);
+                fail(item, Stage.SEND, new RpcResponseErrorException(response.getError()));
+                return;
+            }
+            if (neow3j.chainContextCacheIsEnabled()) {
+                neow3j.getChainContextCache().addPendingSpend(tx.getSender(),
+                        BigInteger.valueOf(tx.getSystemFee() + tx.getNetworkFee()));
+            }
+            synchronized (item) {
+                record(Stage.SEND, 1, System.nanoTime() - start);
+                item.sent = true;
+                if (item.blockIndex >= 0) {
+                    confirm(item);
+                }
+            }
+        } catch (Throwable t) {
+            pending.remove(txId);
+            fail(item, Stage.SEND, t);
+        }
+    }
+
+    private synchronized void subscribeToBlocks(long blockCount) {
+        if (closed) {
+            throw new IllegalStateException("The transaction pipeline was closed.");
+        }
+        if (blockSubscription != null) {
+            return;
+        }
+        if (nextBlockIndex < 0) {
+            nextBlockIndex = blockCount;
+        }
+        blockSubscription = neow3j.catchUpToLatestAndSubscribeToNewBlocksObservable(
+                BigInteger.valueOf(nextBlockIndex), true).subscribe(this::onBlock, this::onBlockStreamError);
+    }
+
+    private void onBlock(NeoGetBlock neoGetBlock) throws IOException {
+        NeoBlock block = neoGetBlock.getBlock();
+        long expectedIndex;
+        synchronized (this) {
+            expectedIndex = nextBlockIndex;
+        }
+        if (block.getIndex() < expectedIndex) {
+            return;
+        }
+        // The block subscription can skip blocks that are created while it switches from catching up to polling.
+        for (long i = expectedIndex; i < block.getIndex(); i++) {
+            processBlock(neow3j.getBlock(BigInteger.valueOf(i), true).send().getBlock());
+        }
+        processBlock(block);
+    }
+
+    private void processBlock(NeoBlock block) {
+        long blockIndex = block.getIndex();
+        synchronized (this) {
+            nextBlockIndex = blockIndex + 1;
+        }
+        if (block.getTransactions() != null) {
+            for (io.neow3j.protocol.core.response.Transaction tx : block.getTransactions()) {
+                Item item = pending.remove(tx.getHash());
+                if (item != null) {
+                    // The block can be received before the response to the sendrawtransaction request.
+                    synchronized (item) {
+                        item.blockIndex = blockIndex;
+                        if (item.sent) {
+                            confirm(item);
+                        }
+                    }
+                }
+            }
+        }
+        // A transaction that is not included up to its valid-until-block can not be included anymore.
+        List<Item> expired = new ArrayList<>();
+        pending.entrySet().removeIf(e -> {
+            if (e.getValue().transaction.getValidUntilBlock() <= blockIndex) {
+                expired.add(e.getValue());
+                return true;
+            }
+            return false;
+        });
+        List<Item> resubmitted = new ArrayList<>();
+        for (Item item : expired) {
+            synchronized (item) {
+                if (item.submissions > maxResubmissions) {
+                    fail(item, Stage.CONFIRM, new IllegalStateException(format("The transaction %s expired at " +
+                            "block %s after %s submissions.", item.transaction.getTxId(), blockIndex,
+                            item.submissions)));
+                } else {
+                    resubmitted.add(item);
+                }
+            }
+        }
+        if (!resubmitted.isEmpty()) {
+            enqueue(resubmitted);
+        }
+    }
+
+    private void onBlockStreamError(Throwable t) {
+        synchronized (this) {
+            blockSubscription = null;
+        }
+        failPending(t);
+    }
+
+    private void failPending(Throwable t) {
+        List<Item> items = new ArrayList<>(pending.values());
+        pending.clear();
+        fail(items, Stage.CONFIRM, t);
+    }
+
+    private long fetchBlockCount() throws IOException {
+        if (neow3j.chainContextCacheIsEnabled()) {
+            return neow3j.getChainContextCache().getBlockCount();
+        }
+        return neow3j.getBlockCount().send().getBlockCount().longValue();
+    }
+
+    private NetworkFeeCalculator getNetworkFeeCalculator() throws IOException {
+        if (neow3j.chainContextCacheIsEnabled()) {
+            return neow3j.getChainContextCache().getNetworkFeeCalculator();
+        }
+        return networkFeeCalculator;
+    }
+
+    private void record(Stage stage, int count, long nanos) {
+        processed.get(stage).add(count);
+        timeNanos.get(stage).add(nanos);
+    }
+
+    private void fail(List<Item> items, Stage stage, Throwable t) {
+        items.forEach(i -> fail(i, stage, t));
+    }
+
+    // Must be called while holding the lock of the item.
+    private void confirm(Item item) {
+        record(Stage.CONFIRM, 1, System.nanoTime() - item.sentNanos);
+        item.future.complete(new Result(item.transaction, item.blockIndex, item.submissions));
+    }
+
+    private void fail(Item item, Stage stage, Throwable t) {
+        synchronized (item) {
+            if (!item.future.isDone()) {
+                failed.get(stage).increment();
+                item.future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * The specification of a transaction submitted to a {@link TransactionPipeline}.
+     */
+    public static class Spec {
+
+        private final byte[] script;
+        private final AccountSigner[] signers;
+
+        /**
+         * Creates a transaction specification.
+         *
+         * @param script  the script of the transaction.
+         * @param signers the signers of the transaction. The first signer is the sender.
+         * @throws TransactionConfigurationException if no signer is given or a signer is not a single-sig account
+         *                                           holding a private key.
+         */
+        public Spec(byte[] script, AccountSigner... signers) {
+            if (signers.length == 0) {
+                throw new TransactionConfigurationException("A transaction requires at least one signer.");
+            }
+            for (AccountSigner signer : signers) {
+                Account account = signer.getAccount();
+                if (account.isMultiSig()) {
+                    throw new TransactionConfigurationException("Transactions with multi-sig signers cannot be " +
+                            "signed automatically.");
+                }
+                ECKeyPair keyPair = account.getECKeyPair();
+                if (keyPair == null) {
+                    throw new TransactionConfigurationException(format("Cannot create transaction signature " +
+                            "because account %s does not hold a private key.", account.getAddress()));
+                }
+            }
+            this.script = script;
+            this.signers = signers;
+        }
+
+        public byte[] getScript() {
+            return script;
+        }
+
+        public List<AccountSigner> getSigners() {
+            return Collections.unmodifiableList(Arrays.asList(signers));
+        }
+
+    }
+
+    /**
+     * The result of a transaction that was included in a block.
+     */
+    public static class Result {
+
+        private final Transaction transaction;
+        private final long blockIndex;
+        private final int submissions;
+
+        public Result(Transaction transaction, long blockIndex, int submissions) {
+            this.transaction = transaction;
+            this.blockIndex = blockIndex;
+            this.submissions = submissions;
+        }
+
+        /**
+         * @return the transaction that was included in the block.
+         */
+        public Transaction getTransaction() {
+            return transaction;
+        }
+
+        /**
+         * @return the hash of the transaction.
+         */
+        public Hash256 getTxId() {
+            return transaction.getTxId();
+        }
+
+        /**
+         * @return the index of the block that includes the transaction.
+         */
+        public long getBlockIndex() {
+            return blockIndex;
+        }
+
+        /**
+         * @return how many times the transaction was sent, including resubmissions after expiry.
+         */
+        public int getSubmissions() {
+            return submissions;
+        }
+
+    }
+
+    private static class Item {
+
+        private final Spec spec;
+        private final CompletableFuture<Result> future = new CompletableFuture<>();
+        private long systemFee = -1;
+        private volatile Transaction transaction;
+        // The following fields are guarded by the lock of the item.
+        private int submissions;
+        private long sentNanos;
+        private boolean sent;
+        private long blockIndex = -1;
+
+        Item(Spec spec) {
+            this.spec = spec;
+        }
+
+    }
+
+}
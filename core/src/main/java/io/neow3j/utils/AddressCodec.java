@@ -0,0 +1,375 @@
+package io.neow3j.utils;
+
+import io.neow3j.constants.NeoConstants;
+import io.neow3j.crypto.Base58;
+import io.neow3j.crypto.Hash;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.types.Hash160;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.neow3j.protocol.Neow3jConfig.getAddressVersion;
+
+/**
+ * Converts between script hashes and Neo addresses.
+ * <p>
+ * A Neo address is the Base58Check encoding of exactly 25 bytes, i.e., the address version, the script hash in
+ * little-endian order and a 4 byte checksum. Instead of the generic byte-wise Base58 conversion of {@link Base58},
+ * this codec divides and multiplies the 25 byte number in 32-bit limbs by {@code 58^5}, which produces five Base58
+ * digits per step. The results are identical to the ones of {@link Base58}.
+ * <p>
+ * An instance can optionally intern recently converted addresses and script hashes in a bounded
+ * least-recently-used cache. Instances are thread-safe.
+ * <p>
+ * The address version configured in {@link Neow3jConfig#getAddressVersion()} is used.
+ */
+public class AddressCodec {
+
+    private static final int ADDRESS_SIZE = 25;
+    private static final int DATA_SIZE = 21;
+    private static final int CHECKSUM_SIZE = 4;
+    // The number of 32-bit limbs that hold a 25 byte number. The first limb holds the most significant byte only.
+    private static final int LIMBS = 7;
+    // The maximum length of the Base58 encoding of 25 bytes.
+    private static final int MAX_ADDRESS_LENGTH = 35;
+    private static final long FIFTH_POWER_OF_58 = 58L * 58 * 58 * 58 * 58;
+    private static final char[] ALPHABET = Base58.ALPHABET;
+    private static final int[] INDEXES = new int[128];
+
+    static {
+        Arrays.fill(INDEXES, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            INDEXES[ALPHABET[i]] = i;
+        }
+    }
+
+    private final int cacheSize;
+    private final Map<Hash160, String> addresses;
+    private final Map<String, Hash160> scriptHashes;
+    private byte cachedAddressVersion;
+
+    /**
+     * Constructs a codec without a cache.
+     */
+    public AddressCodec() {
+        this(0);
+    }
+
+    /**
+     * Constructs a codec that interns up to the given number of addresses and script hashes.
+     *
+     * @param cacheSize the maximum number of cached addresses, and of cached script hashes. 0 disables the cache.
+     */
+    public AddressCodec(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("The cache size must not be negative.");
+        }
+        this.cacheSize = cacheSize;
+        this.addresses = createCache(cacheSize);
+        this.scriptHashes = createCache(cacheSize);
+        this.cachedAddressVersion = getAddressVersion();
+    }
+
+    private static <K, V> Map<K, V> createCache(int cacheSize) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Derives the Neo address from the given script hash.
+     *
+     * @param scriptHash the script hash.
+     * @return the address.
+     */
+    public String toAddress(Hash160 scriptHash) {
+        if (cacheSize == 0) {
+            return encodeAddress(getAddressVersion(), scriptHash.toArray());
+        }
+        byte version = getAddressVersion();
+        synchronized (this) {
+            checkAddressVersion(version);
+            String address = addresses.get(scriptHash);
+            if (address != null) {
+                return address;
+            }
+        }
+        String address = encodeAddress(version, scriptHash.toArray());
+        synchronized (this) {
+            checkAddressVersion(version);
+            addresses.put(scriptHash, address);
+        }
+        return address;
+    }
+
+    /**
+     * Transforms the given address into its script hash.
+     *
+     * @param address the address.
+     * @return the script hash.
+     * @throws IllegalArgumentException if the address is not a valid Neo address.
+     */
+    public Hash160 fromAddress(String address) {
+        if (cacheSize == 0) {
+            return new Hash160(decodeAddress(getAddressVersion(), address));
+        }
+        byte version = getAddressVersion();
+        synchronized (this) {
+            checkAddressVersion(version);
+            Hash160 scriptHash = scriptHashes.get(address);
+            if (scriptHash != null) {
+                return scriptHash;
+            }
+        }
+        Hash160 scriptHash = new Hash160(decodeAddress(version, address));
+        synchronized (this) {
+            checkAddressVersion(version);
+            scriptHashes.put(address, scriptHash);
+        }
+        return scriptHash;
+    }
+
+    // Cached entries are only valid for the address version they were created with.
+    private void checkAddressVersion(byte version) {
+        if (version != cachedAddressVersion) {
+            addresses.clear();
+            scriptHashes.clear();
+            cachedAddressVersion = version;
+        }
+    }
+
+    /**
+     * Derives the Neo addresses from the given script hashes.
+     *
+     * @param scriptHashes the script hashes.
+     * @return the addresses in the order of the given script hashes.
+     */
+    public String[] toAddresses(Hash160[] scriptHashes) {
+        String[] result = new String[scriptHashes.length];
+        for (int i = 0; i < scriptHashes.length; i++) {
+            result[i] = toAddress(scriptHashes[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Transforms the given addresses into their script hashes.
+     *
+     * @param addresses the addresses.
+     * @return the script hashes in the order of the given addresses.
+     * @throws IllegalArgumentException if an address is not a valid Neo address.
+     */
+    public Hash160[] fromAddresses(String[] addresses) {
+        Hash160[] result = new Hash160[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            result[i] = fromAddress(addresses[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Lazily derives the Neo addresses from the given script hashes. The returned stream is parallel if the given
+     * stream is.
+     *
+     * @param scriptHashes the script hashes.
+     * @return the addresses.
+     */
+    public Stream<String> toAddresses(Stream<Hash160> scriptHashes) {
+        return scriptHashes.map(this::toAddress);
+    }
+
+    /**
+     * Lazily transforms the given addresses into their script hashes. The returned stream is parallel if the given
+     * stream is. An invalid address terminates the stream with an {@link IllegalArgumentException}.
+     *
+     * @param addresses the addresses.
+     * @return the script hashes.
+     */
+    public Stream<Hash160> fromAddresses(Stream<String> addresses) {
+        return addresses.map(this::fromAddress);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void clearCache() {
+        addresses.clear();
+        scriptHashes.clear();
+    }
+
+    /**
+     * Derives the Neo address from the given script hash.
+     *
+     * @param version    the address version.
+     * @param scriptHash the script hash in big-endian order.
+     * @return the address.
+     */
+    static String encodeAddress(byte version, byte[] scriptHash) {
+        byte[] data = new byte[ADDRESS_SIZE];
+        data[0] = version;
+        for (int i = 0; i < NeoConstants.HASH160_SIZE; i++) {
+            data[DATA_SIZE - 1 - i] = scriptHash[i];
+        }
+        byte[] checksum = new byte[Hash.SHA256_LENGTH];
+        Hash.hash256(data, 0, DATA_SIZE, checksum, 0);
+        System.arraycopy(checksum, 0, data, DATA_SIZE, CHECKSUM_SIZE);
+        return encode(data);
+    }
+
+    /**
+     * Transforms the given address into its script hash.
+     *
+     * @param version the expected address version.
+     * @param address the address.
+     * @return the script hash in big-endian order.
+     * @throws IllegalArgumentException if the address is not a valid Neo address.
+     */
+    static byte[] decodeAddress(byte version, String address) {
+        byte[] data = decodeAndVerify(version, address);
+        if (data == null) {
+            throw new IllegalArgumentException("Not a valid NEO address.");
+        }
+        byte[] scriptHash = new byte[NeoConstants.HASH160_SIZE];
+        for (int i = 0; i < scriptHash.length; i++) {
+            scriptHash[i] = data[DATA_SIZE - 1 - i];
+        }
+        return scriptHash;
+    }
+
+    /**
+     * Decodes the given address and verifies its version and checksum.
+     *
+     * @param version the expected address version.
+     * @param address the address.
+     * @return the 25 decoded bytes or null if the address is not valid.
+     */
+    static byte[] decodeAndVerify(byte version, String address) {
+        byte[] data = decode(address);
+        if (data == null || data[0] != version) {
+            return null;
+        }
+        byte[] checksum = new byte[Hash.SHA256_LENGTH];
+        Hash.hash256(data, 0, DATA_SIZE, checksum, 0);
+        for (int i = 0; i < CHECKSUM_SIZE; i++) {
+            if (data[DATA_SIZE + i] != checksum[i]) {
+                return null;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Encodes 25 bytes in Base58.
+     *
+     * @param data the 25 bytes.
+     * @return the encoded string.
+     */
+    static String encode(byte[] data) {
+        int[] limbs = new int[LIMBS];
+        limbs[0] = data[0] & 0xFF;
+        for (int i = 1; i < LIMBS; i++) {
+            int p = 1 + (i - 1) * 4;
+            limbs[i] = (data[p] & 0xFF) << 24 | (data[p + 1] & 0xFF) << 16 | (data[p + 2] & 0xFF) << 8
+                    | (data[p + 3] & 0xFF);
+        }
+
+        // Fill the digits from the back, five at a time.
+        char[] encoded = new char[MAX_ADDRESS_LENGTH + 5];
+        int outputStart = encoded.length;
+        int firstLimb = 0;
+        while (firstLimb < LIMBS) {
+            long remainder = 0;
+            for (int i = firstLimb; i < LIMBS; i++) {
+                long current = remainder << 32 | (limbs[i] & 0xFFFFFFFFL);
+                limbs[i] = (int) (current / FIFTH_POWER_OF_58);
+                remainder = current % FIFTH_POWER_OF_58;
+            }
+            for (int k = 0; k < 5; k++) {
+                encoded[--outputStart] = ALPHABET[(int) (remainder % 58)];
+                remainder /= 58;
+            }
+            while (firstLimb < LIMBS && limbs[firstLimb] == 0) {
+                firstLimb++;
+            }
+        }
+        // Remove the zero digits of the last group and add one per leading zero byte, as Base58 does.
+        while (outputStart < encoded.length && encoded[outputStart] == ALPHABET[0]) {
+            outputStart++;
+        }
+        for (int i = 0; i < ADDRESS_SIZE && data[i] == 0; i++) {
+            encoded[--outputStart] = ALPHABET[0];
+        }
+        return new String(encoded, outputStart, encoded.length - outputStart);
+    }
+
+    /**
+     * Decodes a Base58 string that represents exactly 25 bytes.
+     *
+     * @param input the encoded string.
+     * @return the 25 bytes or null if the string is not valid Base58 or does not represent exactly 25 bytes.
+     */
+    static byte[] decode(String input) {
+        int length = input.length();
+        if (length == 0 || length > MAX_ADDRESS_LENGTH) {
+            return null;
+        }
+        int zeros = 0;
+        while (zeros < length && input.charAt(zeros) == ALPHABET[0]) {
+            zeros++;
+        }
+
+        long[] limbs = new long[LIMBS];
+        int i = 0;
+        int groupLength = length % 5 == 0 ? 5 : length % 5;
+        while (i < length) {
+            long group = 0;
+            long multiplier = 1;
+            for (int end = i + groupLength; i < end; i++) {
+                char c = input.charAt(i);
+                int digit = c < 128 ? INDEXES[c] : -1;
+                if (digit < 0) {
+                    return null;
+                }
+                group = group * 58 + digit;
+                multiplier *= 58;
+            }
+            long carry = group;
+            for (int j = LIMBS - 1; j >= 0; j--) {
+                long current = limbs[j] * multiplier + carry;
+                limbs[j] = current & 0xFFFFFFFFL;
+                carry = current >>> 32;
+            }
+            if (carry != 0 || limbs[0] > 0xFF) {
+                return null;
+            }
+            groupLength = 5;
+        }
+
+        byte[] data = new byte[ADDRESS_SIZE];
+        data[0] = (byte) limbs[0];
+        for (int j = 1; j < LIMBS; j++) {
+            int p = 1 + (j - 1) * 4;
+            data[p] = (byte) (limbs[j] >>> 24);
+            data[p + 1] = (byte) (limbs[j] >>> 16);
+            data[p + 2] = (byte) (limbs[j] >>> 8);
+            data[p + 3] = (byte) limbs[j];
+        }
+        // The leading '1's must account for exactly the leading zero bytes.
+        for (int j = 0; j < zeros; j++) {
+            if (j >= ADDRESS_SIZE || data[j] != 0) {
+                return null;
+            }
+        }
+        if (zeros < ADDRESS_SIZE && data[zeros] == 0) {
+            return null;
+        }
+        return data;
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.neow3j.wallet;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.neow3j.crypto.Base64;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.ECKeyPair.ECPublicKey;
@@ -44,7 +45,7 @@ import static java.lang.String.format;
 @SuppressWarnings("unchecked")
 public class Account {
 
-    private ECKeyPair keyPair;
+    private volatile ECKeyPair keyPair;
     private String address;
     private String encryptedPrivateKey;
     private String label;
@@ -55,6 +56,16 @@ public class Account {
     private Integer signingThreshold;
     // The nr of involved keys is null if the account is single-sig.
     private Integer nrOfParticipants;
+    // The password and Scrypt parameters used to decrypt the private key on first use. Null if not set. The password
+    // and the key pair are read without the lock in getECKeyPair().
+    private volatile String passwordForFirstUse;
+    private ScryptParams scryptParamsForFirstUse;
+    // The Base64 encoded verification script of an account read from a NEP-6 wallet. It is decoded on first use.
+    private volatile String encodedVerificationScript;
+    private Hash160 scriptHash;
+    // The NEP-6 JSON representation of this account as last serialized. Null if it has to be serialized again.
+    private String nep6Json;
+    private boolean nep6JsonIsDefault;
 
     protected Account() {
     }
@@ -76,26 +87,51 @@ public class Account {
     }
 
     public Hash160 getScriptHash() {
-        return Hash160.fromAddress(address);
+        if (scriptHash == null) {
+            scriptHash = Hash160.fromAddress(address);
+        }
+        return scriptHash;
     }
 
     /**
      * Gets this account's EC key pair if available.
      * <p>
-     * The key pair is not available, e.g., if this account was encrypted.
+     * The key pair is not available, e.g., if this account was encrypted. If the account was set up to be decrypted
+     * on first use (see {@link #decryptPrivateKeyOnFirstUse(String, ScryptParams)}), the private key is decrypted
+     * when this method is called for the first time.
      *
      * @return the key pair or null if it is not available.
+     * @throws AccountStateException if the decryption on first use fails.
      */
     public ECKeyPair getECKeyPair() {
+        if (keyPair == null && passwordForFirstUse != null) {
+            decryptPrivateKeyForFirstUse();
+        }
         return keyPair;
     }
 
+    private synchronized void decryptPrivateKeyForFirstUse() {
+        if (keyPair != null || passwordForFirstUse == null) {
+            return;
+        }
+        try {
+            keyPair = NEP2.decrypt(passwordForFirstUse, encryptedPrivateKey, scryptParamsForFirstUse);
+        } catch (NEP2InvalidFormat | CipherException | NEP2InvalidPassphrase e) {
+            throw new AccountStateException(format("Failed to decrypt the private key of account %s on first use.",
+                    address), e);
+        } finally {
+            passwordForFirstUse = null;
+            scryptParamsForFirstUse = null;
+        }
+    }
+
     public String getLabel() {
         return label;
     }
 
     public Account label(String label) {
         this.label = label;
+        this.nep6Json = null;
         return this;
     }
 
@@ -121,11 +157,13 @@ public class Account {
 
     public Account lock() {
         this.isLocked = true;
+        this.nep6Json = null;
         return this;
     }
 
     public void unlock() {
         this.isLocked = false;
+        this.nep6Json = null;
     }
 
     void setWallet(Wallet wallet) {
@@ -133,9 +171,28 @@ public class Account {
     }
 
     public VerificationScript getVerificationScript() {
+        decodeVerificationScript();
         return this.verificationScript;
     }
 
+    private void decodeVerificationScript() {
+        if (this.encodedVerificationScript == null) {
+            return;
+        }
+        synchronized (this) {
+            if (this.encodedVerificationScript == null) {
+                return;
+            }
+            VerificationScript script = new VerificationScript(Base64.decode(this.encodedVerificationScript));
+            if (script.isMultiSigScript()) {
+                this.signingThreshold = script.getSigningThreshold();
+                this.nrOfParticipants = script.getNrOfAccounts();
+            }
+            this.verificationScript = script;
+            this.encodedVerificationScript = null;
+        }
+    }
+
     public String getEncryptedPrivateKey() {
         return encryptedPrivateKey;
     }
@@ -188,6 +245,27 @@ public class Account {
         this.keyPair = NEP2.decrypt(password, this.encryptedPrivateKey, scryptParams);
     }
 
+    /**
+     * Defers the decryption of this account's private key until the key pair is used for the first time, i.e., until
+     * {@link #getECKeyPair()} is called. Does nothing if the private key is already decrypted.
+     * <p>
+     * The password is held in memory until the private key is decrypted.
+     *
+     * @param password     the passphrase used to decrypt this account's private key.
+     * @param scryptParams the Scrypt parameters used for decryption.
+     * @throws AccountStateException if the account doesn't hold an encrypted private key.
+     */
+    public synchronized void decryptPrivateKeyOnFirstUse(String password, ScryptParams scryptParams) {
+        if (this.keyPair != null) {
+            return;
+        }
+        if (this.encryptedPrivateKey == null) {
+            throw new AccountStateException("The account does not hold an encrypted private key.");
+        }
+        this.passwordForFirstUse = password;
+        this.scryptParamsForFirstUse = scryptParams;
+    }
+
     /**
      * Encrypts this account's private key according to the NEP-2 standard using the default Scrypt parameters.
      *
@@ -206,10 +284,11 @@ public class Account {
      * @throws CipherException if failed encrypt the created wallet.
      */
     public void encryptPrivateKey(String password, ScryptParams scryptParams) throws CipherException {
-        if (this.keyPair == null) {
+        if (getECKeyPair() == null) {
             throw new AccountStateException("The account does not hold a decrypted private key.");
         }
         this.encryptedPrivateKey = NEP2.encrypt(password, this.keyPair, scryptParams);
+        this.nep6Json = null;
         this.keyPair.getPrivateKey().erase();
         this.keyPair = null;
     }
@@ -220,6 +299,7 @@ public class Account {
      * @return true if this account is a multi-sig account. False, otherwise.
      */
     public boolean isMultiSig() {
+        decodeVerificationScript();
         return signingThreshold != null && nrOfParticipants != null;
     }
 
@@ -270,6 +350,7 @@ public class Account {
         if (this.keyPair != null && this.encryptedPrivateKey == null) {
             throw new AccountStateException("Account private key is available but not encrypted.");
         }
+        decodeVerificationScript();
         if (this.verificationScript == null) {
             return new NEP6Account(this.address, this.label, this.isDefault(), this.isLocked,
                     this.encryptedPrivateKey, null, null);
@@ -288,6 +369,26 @@ public class Account {
                 contract, null);
     }
 
+    /**
+     * Gets the JSON representation of {@link #toNEP6Account()}.
+     * <p>
+     * The JSON is only serialized again if this account was changed since the last call.
+     *
+     * @param objectMapper the mapper to serialize with.
+     * @return the JSON representation.
+     * @throws IOException if the serialization fails.
+     */
+    String toNEP6Json(ObjectMapper objectMapper) throws IOException {
+        boolean isDefault = isDefault();
+        String json = this.nep6Json;
+        if (json == null || this.nep6JsonIsDefault != isDefault) {
+            json = objectMapper.writeValueAsString(toNEP6Account());
+            this.nep6Json = json;
+            this.nep6JsonIsDefault = isDefault;
+        }
+        return json;
+    }
+
     /**
      * Creates an account from the given verification script.
      *
@@ -394,12 +495,8 @@ public class Account {
         account.isLocked = nep6Acct.getLock();
         NEP6Contract contr = nep6Acct.getContract();
         if (contr != null && contr.getScript() != null && !contr.getScript().isEmpty()) {
-            byte[] script = Base64.decode(contr.getScript());
-            account.verificationScript = new VerificationScript(script);
-            if (account.verificationScript.isMultiSigScript()) {
-                account.signingThreshold = account.verificationScript.getSigningThreshold();
-                account.nrOfParticipants = account.verificationScript.getNrOfAccounts();
-            }
+            // The script is decoded when it is used for the first time.
+            account.encodedVerificationScript = contr.getScript();
         }
         return account;
     }
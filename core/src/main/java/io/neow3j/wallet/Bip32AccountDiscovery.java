@@ -0,0 +1,213 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.Bip32ECKeyPair;
+import io.neow3j.crypto.Bip32KeyDeriver;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.response.NeoGetNep17Transfers;
+import io.neow3j.protocol.core.response.NeoGetNep17Transfers.Nep17Transfers;
+import io.neow3j.types.Hash160;
+import io.neow3j.utils.Async;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static io.neow3j.crypto.Bip32ECKeyPair.HARDENED_BIT;
+import static java.lang.String.format;
+
+/**
+ * Discovers the used accounts of a BIP-32 hierarchical deterministic wallet, e.g., to recover or audit a wallet from
+ * its master key.
+ * <p>
+ * The accounts are searched along the BIP-44 paths {@code m/44'/888'/account'/chain/index}. An address counts as used
+ * if it ever sent or received a NEP-17 token, which requires a Neo node with the TokensTracker plugin. On each chain,
+ * the addresses are probed in windows of {@code gapLimit} addresses until {@code gapLimit} consecutive addresses are
+ * unused. The accounts {@code 0, 1, ...} are searched until an account without any used address is found.
+ * <p>
+ * The script hashes of a window are derived in parallel from the extended public key of the chain, and the addresses
+ * of a window are probed in concurrent JSON-RPC batches. Only the key pairs of used addresses are derived.
+ */
+public class Bip32AccountDiscovery {
+
+    public static final int DEFAULT_GAP_LIMIT = 20;
+    public static final int NEO_COIN_TYPE = 888;
+    public static final int EXTERNAL_CHAIN = 0;
+    public static final int INTERNAL_CHAIN = 1;
+
+    private static final int PURPOSE = 44;
+
+    private final Neow3j neow3j;
+    private final Bip32KeyDeriver deriver;
+    private int gapLimit = DEFAULT_GAP_LIMIT;
+    private int[] chains = new int[]{EXTERNAL_CHAIN};
+    private int batchSize = Nep17BalanceTracker.DEFAULT_BATCH_SIZE;
+    private int maxConcurrency = Nep17BalanceTracker.DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Constructs a discovery for the wallet with the given master key pair.
+     *
+     * @param neow3j the {@link Neow3j} instance used to call a Neo node.
+     * @param master the master key pair of the wallet.
+     */
+    public Bip32AccountDiscovery(Neow3j neow3j, Bip32ECKeyPair master) {
+        this(neow3j, new Bip32KeyDeriver(master));
+    }
+
+    /**
+     * Constructs a discovery that derives the keys with the given deriver.
+     *
+     * @param neow3j  the {@link Neow3j} instance used to call a Neo node.
+     * @param deriver the deriver of the wallet's keys.
+     */
+    public Bip32AccountDiscovery(Neow3j neow3j, Bip32KeyDeriver deriver) {
+        this.neow3j = neow3j;
+        this.deriver = deriver;
+    }
+
+    /**
+     * Sets the number of consecutive unused addresses after which the search on a chain is stopped.
+     *
+     * @param gapLimit the gap limit.
+     * @return this.
+     */
+    public Bip32AccountDiscovery gapLimit(int gapLimit) {
+        if (gapLimit < 1) {
+            throw new IllegalArgumentException("The gap limit must be at least 1.");
+        }
+        this.gapLimit = gapLimit;
+        return this;
+    }
+
+    /**
+     * Sets the chains that are searched in each account. By default, only the external chain is searched.
+     *
+     * @param chains the chains, e.g., {@link #EXTERNAL_CHAIN} and {@link #INTERNAL_CHAIN}.
+     * @return this.
+     */
+    public Bip32AccountDiscovery chains(int... chains) {
+        if (chains.length == 0) {
+            throw new IllegalArgumentException("At least one chain is required.");
+        }
+        this.chains = Arrays.copyOf(chains, chains.length);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests per JSON-RPC batch.
+     *
+     * @param batchSize the batch size.
+     * @return this.
+     */
+    public Bip32AccountDiscovery batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1.");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of concurrently sent JSON-RPC batches.
+     *
+     * @param maxConcurrency the maximum concurrency.
+     * @return this.
+     */
+    public Bip32AccountDiscovery maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Discovers the used accounts and creates a wallet with them.
+     * <p>
+     * The accounts are labeled with their derivation path. The first discovered account is the default account. If no
+     * used account is found, the wallet contains the account at {@code m/44'/888'/0'/0/0}.
+     *
+     * @return the wallet.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public Wallet discover() throws IOException {
+        List<Account> accounts = new ArrayList<>();
+        for (int account = 0; ; account++) {
+            List<Account> used = new ArrayList<>();
+            for (int chain : chains) {
+                used.addAll(discoverChain(account, chain));
+            }
+            if (used.isEmpty()) {
+                break;
+            }
+            accounts.addAll(used);
+        }
+        if (accounts.isEmpty()) {
+            accounts.add(createAccount(0, EXTERNAL_CHAIN, 0));
+        }
+        return Wallet.withAccounts(accounts.toArray(new Account[0]));
+    }
+
+    /**
+     * Asynchronously discovers the used accounts and creates a wallet with them.
+     *
+     * @return a future of the wallet.
+     * @see #discover()
+     */
+    public CompletableFuture<Wallet> discoverAsync() {
+        return Async.run(this::discover);
+    }
+
+    private List<Account> discoverChain(int account, int chain) throws IOException {
+        int[] chainPath = getChainPath(account, chain);
+        List<Integer> usedIndices = new ArrayList<>();
+        int lastUsed = -1;
+        int from = 0;
+        while (from - lastUsed - 1 < gapLimit) {
+            List<Hash160> scriptHashes = deriver.deriveScriptHashes(chainPath, from, gapLimit);
+            List<Boolean> used = probe(scriptHashes);
+            for (int i = 0; i < used.size(); i++) {
+                if (used.get(i)) {
+                    lastUsed = from + i;
+                    usedIndices.add(lastUsed);
+                }
+            }
+            from += gapLimit;
+        }
+        return usedIndices.stream()
+                .map(index -> createAccount(account, chain, index))
+                .collect(Collectors.toList());
+    }
+
+    private List<Boolean> probe(List<Hash160> scriptHashes) throws IOException {
+        // Without a start time, the node only returns the transfers of the last seven days.
+        Date beginning = new Date(0);
+        List<Request<?, NeoGetNep17Transfers>> requests = scriptHashes.stream()
+                .map(h -> neow3j.getNep17Transfers(h, beginning))
+                .collect(Collectors.toList());
+        List<Boolean> used = new ArrayList<>(requests.size());
+        for (NeoGetNep17Transfers response : Request.sendBatches(requests, batchSize, maxConcurrency)) {
+            response.throwOnError();
+            Nep17Transfers transfers = response.getNep17Transfers();
+            used.add(!transfers.getSent().isEmpty() || !transfers.getReceived().isEmpty());
+        }
+        return used;
+    }
+
+    private Account createAccount(int account, int chain, int index) {
+        int[] path = getChainPath(account, chain);
+        path = Arrays.copyOf(path, path.length + 1);
+        path[path.length - 1] = index;
+        Account a = new Account(deriver.deriveKeyPair(path));
+        return a.label(format("m/%d'/%d'/%d'/%d/%d", PURPOSE, NEO_COIN_TYPE, account, chain, index));
+    }
+
+    private static int[] getChainPath(int account, int chain) {
+        return new int[]{PURPOSE | HARDENED_BIT, NEO_COIN_TYPE | HARDENED_BIT, account | HARDENED_BIT, chain};
+    }
+
+}
@@ -0,0 +1,253 @@
+package io.neow3j.wallet;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.response.NeoApplicationLog;
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.response.NeoGetBlock;
+import io.neow3j.protocol.core.response.NeoGetNep17Balances;
+import io.neow3j.protocol.core.response.NeoGetNep17Balances.Nep17Balance;
+import io.neow3j.protocol.core.response.Notification;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.protocol.core.stackitem.StackItem;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.StackItemType;
+import io.neow3j.utils.Async;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static io.neow3j.utils.ArrayUtils.reverseArray;
+
+/**
+ * Keeps track of the NEP-17 token balances of all accounts of a wallet.
+ * <p>
+ * The balances are queried with the {@code getnep17balances} RPC method, which requires a Neo node with the
+ * TokensTracker plugin. The requests are sent in JSON-RPC batches of up to {@code batchSize} requests, and up to
+ * {@code maxConcurrency} batches are sent concurrently.
+ * <p>
+ * After a first full refresh, {@link #refreshIncrementally()} only queries the balances of accounts that took part in
+ * a {@code Transfer} event since the last refresh, as well as of accounts that were added to the wallet in the
+ * meantime. To find these accounts, the application logs of the new blocks and their transactions are fetched,
+ * which requires the ApplicationLogs plugin.
+ */
+public class Nep17BalanceTracker {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private static final String TRANSFER_EVENT = "Transfer";
+
+    private final Wallet wallet;
+    private final Neow3j neow3j;
+    private final int batchSize;
+    private final int maxConcurrency;
+
+    private WalletNep17Balances balances;
+
+    /**
+     * Creates a tracker with a batch size of {@value DEFAULT_BATCH_SIZE} and at most
+     * {@value DEFAULT_MAX_CONCURRENCY} concurrent batches.
+     *
+     * @param wallet the wallet.
+     * @param neow3j the {@link Neow3j} instance used to call a Neo node.
+     */
+    public Nep17BalanceTracker(Wallet wallet, Neow3j neow3j) {
+        this(wallet, neow3j, DEFAULT_BATCH_SIZE, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates a tracker.
+     *
+     * @param wallet         the wallet.
+     * @param neow3j         the {@link Neow3j} instance used to call a Neo node.
+     * @param batchSize      the maximum number of requests per JSON-RPC batch.
+     * @param maxConcurrency the maximum number of concurrently sent batches.
+     */
+    public Nep17BalanceTracker(Wallet wallet, Neow3j neow3j, int batchSize, int maxConcurrency) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1.");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.wallet = wallet;
+        this.neow3j = neow3j;
+        this.batchSize = batchSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @return the balances of the last refresh or null if the balances were not refreshed yet.
+     */
+    public synchronized WalletNep17Balances getBalances() {
+        return balances;
+    }
+
+    /**
+     * Queries the balances of all accounts of the wallet.
+     *
+     * @return the balances.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public synchronized WalletNep17Balances refresh() throws IOException {
+        long blockCount = getBlockCount();
+        List<Hash160> accounts = getWalletAccounts();
+        balances = new WalletNep17Balances(blockCount, queryBalances(accounts));
+        return balances;
+    }
+
+    /**
+     * Queries the balances of the accounts that took part in a transfer since the last refresh and of the accounts
+     * that were added to the wallet since then. The balances of all other accounts are taken over from the last
+     * refresh.
+     * <p>
+     * Queries the balances of all accounts if the balances were not refreshed before.
+     *
+     * @return the balances.
+     * @throws IOException if something goes wrong when communicating with the Neo node.
+     */
+    public synchronized WalletNep17Balances refreshIncrementally() throws IOException {
+        if (balances == null) {
+            return refresh();
+        }
+        long blockCount = getBlockCount();
+        List<Hash160> walletAccounts = getWalletAccounts();
+        Set<Hash160> transferParticipants = findTransferParticipants(balances.getBlockCount(), blockCount);
+
+        Map<Hash160, Map<Hash160, BigInteger>> previous = balances.getAccountBalances();
+        List<Hash160> accountsToQuery = walletAccounts.stream()
+                .filter(a -> transferParticipants.contains(a) || !previous.containsKey(a))
+                .collect(Collectors.toList());
+
+        Map<Hash160, Map<Hash160, BigInteger>> updated = new HashMap<>();
+        for (Hash160 account : walletAccounts) {
+            if (previous.containsKey(account)) {
+                updated.put(account, previous.get(account));
+            }
+        }
+        updated.putAll(queryBalances(accountsToQuery));
+        balances = new WalletNep17Balances(blockCount, updated);
+        return balances;
+    }
+
+    /**
+     * Asynchronously queries the balances of all accounts of the wallet.
+     *
+     * @return a future of the balances.
+     * @see #refresh()
+     */
+    public CompletableFuture<WalletNep17Balances> refreshAsync() {
+        return Async.run(this::refresh);
+    }
+
+    /**
+     * Asynchronously queries the balances of the accounts that changed since the last refresh.
+     *
+     * @return a future of the balances.
+     * @see #refreshIncrementally()
+     */
+    public CompletableFuture<WalletNep17Balances> refreshIncrementallyAsync() {
+        return Async.run(this::refreshIncrementally);
+    }
+
+    private long getBlockCount() throws IOException {
+        return neow3j.getBlockCount().send().getBlockCount().longValue();
+    }
+
+    private List<Hash160> getWalletAccounts() {
+        return wallet.getAccounts().stream().map(Account::getScriptHash).collect(Collectors.toList());
+    }
+
+    private Map<Hash160, Map<Hash160, BigInteger>> queryBalances(List<Hash160> accounts) throws IOException {
+        List<Request<?, NeoGetNep17Balances>> requests = accounts.stream()
+                .map(neow3j::getNep17Balances)
+                .collect(Collectors.toList());
+        List<NeoGetNep17Balances> responses = sendInBatches(requests);
+
+        Map<Hash160, Map<Hash160, BigInteger>> result = new HashMap<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            NeoGetNep17Balances response = responses.get(i);
+            response.throwOnError();
+            Map<Hash160, BigInteger> accountBalances = new HashMap<>();
+            for (Nep17Balance b : response.getBalances().getBalances()) {
+                accountBalances.put(b.getAssetHash(), new BigInteger(b.getAmount()));
+            }
+            result.put(accounts.get(i), accountBalances);
+        }
+        return result;
+    }
+
+    // Gets the senders and receivers of all transfers in the blocks with the indices fromIndex to toIndex - 1.
+    private Set<Hash160> findTransferParticipants(long fromIndex, long toIndex) throws IOException {
+        List<Request<?, NeoGetBlock>> blockRequests = new ArrayList<>();
+        for (long i = fromIndex; i < toIndex; i++) {
+            blockRequests.add(neow3j.getBlock(BigInteger.valueOf(i), true));
+        }
+        // The block's own application log contains the transfers of the OnPersist and PostPersist triggers, e.g.,
+        // the burned network fees and the minted GAS rewards.
+        List<Request<?, NeoGetApplicationLog>> logRequests = new ArrayList<>();
+        for (NeoGetBlock response : sendInBatches(blockRequests)) {
+            response.throwOnError();
+            NeoBlock block = response.getBlock();
+            logRequests.add(neow3j.getApplicationLog(block.getHash()));
+            if (block.getTransactions() != null) {
+                for (Transaction tx : block.getTransactions()) {
+                    logRequests.add(neow3j.getApplicationLog(tx.getHash()));
+                }
+            }
+        }
+
+        Set<Hash160> participants = new HashSet<>();
+        for (NeoGetApplicationLog response : sendInBatches(logRequests)) {
+            response.throwOnError();
+            addTransferParticipants(response.getApplicationLog(), participants);
+        }
+        return participants;
+    }
+
+    private static void addTransferParticipants(NeoApplicationLog log, Set<Hash160> participants) {
+        if (log == null || log.getExecutions() == null) {
+            return;
+        }
+        for (NeoApplicationLog.Execution execution : log.getExecutions()) {
+            if (execution.getNotifications() == null) {
+                continue;
+            }
+            for (Notification notification : execution.getNotifications()) {
+                StackItem state = notification.getState();
+                if (!TRANSFER_EVENT.equals(notification.getEventName()) || state == null
+                        || !state.getType().equals(StackItemType.ARRAY) || state.getList().size() != 3) {
+                    continue;
+                }
+                addAccount(state.getList().get(0), participants);
+                addAccount(state.getList().get(1), participants);
+            }
+        }
+    }
+
+    private static void addAccount(StackItem item, Set<Hash160> participants) {
+        // The sender of a mint and the receiver of a burn are null.
+        if (item.getType().equals(StackItemType.BYTE_STRING)) {
+            byte[] bytes = item.getByteArray();
+            if (bytes.length == 20) {
+                participants.add(new Hash160(reverseArray(bytes)));
+            }
+        }
+    }
+
+    private <T extends Response> List<T> sendInBatches(List<? extends Request<?, T>> requests) throws IOException {
+        return Request.sendBatches(requests, batchSize, maxConcurrency);
+    }
+
+}
@@ -2,6 +2,11 @@ package io.neow3j.wallet;
 
 import io.neow3j.types.Hash160;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.neow3j.crypto.NEP2;
 import io.neow3j.crypto.ScryptParams;
@@ -19,11 +24,20 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static io.neow3j.crypto.SecurityProviderChecker.addBouncyCastle;
@@ -43,6 +57,8 @@ public class Wallet {
     private Map<Hash160, Account> accounts = new HashMap<>();
     private ScryptParams scryptParams;
     private Hash160 defaultAccount;
+    // The accounts sorted by their script hash. Null if it has to be sorted again.
+    private List<Account> sortedAccounts;
 
     static {
         addBouncyCastle();
@@ -62,11 +78,23 @@ public class Wallet {
         return version;
     }
 
+    /**
+     * Gets the accounts of this wallet sorted by their script hash.
+     * <p>
+     * The returned list is an unmodifiable view that is only sorted again after accounts were added or removed.
+     *
+     * @return the accounts.
+     */
     public List<Account> getAccounts() {
-        return accounts.entrySet().stream()
-                .sorted(Entry.comparingByKey())
-                .map(Entry::getValue)
-                .collect(Collectors.toList());
+        List<Account> sorted = sortedAccounts;
+        if (sorted == null) {
+            sorted = Collections.unmodifiableList(accounts.entrySet().stream()
+                    .sorted(Entry.comparingByKey())
+                    .map(Entry::getValue)
+                    .collect(Collectors.toList()));
+            sortedAccounts = sorted;
+        }
+        return sorted;
     }
 
     /**
@@ -154,6 +182,7 @@ public class Wallet {
                                 "containing wallet before adding it to another wallet.", acct.getAddress()));
             }
             this.accounts.put(acct.getScriptHash(), acct);
+            this.sortedAccounts = null;
             // Create a link for the account
             acct.setWallet(this);
         }
@@ -199,6 +228,7 @@ public class Wallet {
                     .iterator().next().getKey();
             this.defaultAccount(newDefaultAccountHash160);
         }
+        this.sortedAccounts = null;
         return accounts.remove(hash160) != null;
     }
 
@@ -210,12 +240,203 @@ public class Wallet {
         }
     }
 
+    /**
+     * Decrypts the private keys of all accounts in parallel.
+     * <p>
+     * Each decryption runs a Scrypt key derivation, which allocates about
+     * {@link ScryptParams#getMemoryRequirement()} bytes. The number of concurrent decryptions is limited such that
+     * these allocations stay within the given memory budget.
+     * <p>
+     * If a decryption fails, the remaining accounts are not decrypted and the failure of the first account (in the
+     * order of the wallet's accounts) is thrown.
+     *
+     * @param password     the passphrase used to decrypt the private keys.
+     * @param parallelism  the maximum number of concurrent decryptions.
+     * @param memoryBudget the maximum number of bytes that the concurrent Scrypt derivations may allocate.
+     * @param listener     a listener that is notified after each decrypted account. Can be null.
+     * @throws NEP2InvalidFormat     if a private key is not in a valid NEP-2 format.
+     * @throws CipherException       if a private key cannot be decrypted.
+     * @throws NEP2InvalidPassphrase if the passphrase is wrong.
+     */
+    public void decryptAllAccounts(String password, int parallelism, long memoryBudget,
+            ProgressListener listener) throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
+        runOnAllAccounts(a -> a.decryptPrivateKey(password, scryptParams), parallelism, memoryBudget, listener);
+    }
+
+    /**
+     * Decrypts the private keys of all accounts in parallel, using one thread per available processor and at most a
+     * quarter of the maximum heap size for the Scrypt key derivations.
+     *
+     * @param password the passphrase used to decrypt the private keys.
+     * @param listener a listener that is notified after each decrypted account. Can be null.
+     * @throws NEP2InvalidFormat     if a private key is not in a valid NEP-2 format.
+     * @throws CipherException       if a private key cannot be decrypted.
+     * @throws NEP2InvalidPassphrase if the passphrase is wrong.
+     * @see #decryptAllAccounts(String, int, long, ProgressListener)
+     */
+    public void decryptAllAccountsInParallel(String password, ProgressListener listener)
+            throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
+        decryptAllAccounts(password, defaultParallelism(), defaultMemoryBudget(), listener);
+    }
+
+    /**
+     * Sets up all accounts to decrypt their private key when it is used for the first time, instead of decrypting
+     * all keys at once. Accounts whose private key is already decrypted are not affected.
+     * <p>
+     * The password is held in memory until all private keys are decrypted.
+     *
+     * @param password the passphrase used to decrypt the private keys.
+     * @see Account#decryptPrivateKeyOnFirstUse(String, ScryptParams)
+     */
+    public void decryptAllAccountsOnFirstUse(String password) {
+        for (Account a : accounts.values()) {
+            if (a.getEncryptedPrivateKey() != null) {
+                a.decryptPrivateKeyOnFirstUse(password, scryptParams);
+            }
+        }
+    }
+
     public void encryptAllAccounts(String password) throws CipherException {
         for (Entry<Hash160, Account> e : accounts.entrySet()) {
             e.getValue().encryptPrivateKey(password, scryptParams);
         }
     }
 
+    /**
+     * Encrypts the private keys of all accounts in parallel.
+     * <p>
+     * The number of concurrent encryptions is limited the same way as in
+     * {@link #decryptAllAccounts(String, int, long, ProgressListener)}.
+     *
+     * @param password     the passphrase used to encrypt the private keys.
+     * @param parallelism  the maximum number of concurrent encryptions.
+     * @param memoryBudget the maximum number of bytes that the concurrent Scrypt derivations may allocate.
+     * @param listener     a listener that is notified after each encrypted account. Can be null.
+     * @throws CipherException if a private key cannot be encrypted.
+     */
+    public void encryptAllAccounts(String password, int parallelism, long memoryBudget,
+            ProgressListener listener) throws CipherException {
+
+        try {
+            runOnAllAccounts(a -> a.encryptPrivateKey(password, scryptParams), parallelism, memoryBudget,
+                    listener);
+        } catch (NEP2InvalidFormat | NEP2InvalidPassphrase e) {
+            // Only thrown by decryptions.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encrypts the private keys of all accounts in parallel, using one thread per available processor and at most a
+     * quarter of the maximum heap size for the Scrypt key derivations.
+     *
+     * @param password the passphrase used to encrypt the private keys.
+     * @param listener a listener that is notified after each encrypted account. Can be null.
+     * @throws CipherException if a private key cannot be encrypted.
+     * @see #encryptAllAccounts(String, int, long, ProgressListener)
+     */
+    public void encryptAllAccountsInParallel(String password, ProgressListener listener) throws CipherException {
+        encryptAllAccounts(password, defaultParallelism(), defaultMemoryBudget(), listener);
+    }
+
+    private static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static long defaultMemoryBudget() {
+        return Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    private void runOnAllAccounts(AccountTask task, int parallelism, long memoryBudget,
+            ProgressListener listener) throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        List<Account> accts = new ArrayList<>(accounts.values());
+        int total = accts.size();
+        long memoryPerTask = Math.max(1, scryptParams.getMemoryRequirement());
+        int threads = (int) Math.min(Math.min(parallelism, total), Math.max(1, memoryBudget / memoryPerTask));
+        if (threads <= 1) {
+            for (int i = 0; i < total; i++) {
+                task.run(accts.get(i));
+                if (listener != null) {
+                    listener.onProgress(i + 1, total);
+                }
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicInteger completed = new AtomicInteger(0);
+        List<Future<?>> futures = new ArrayList<>(total);
+        try {
+            for (Account a : accts) {
+                futures.add(executor.submit(() -> {
+                    if (failed.get()) {
+                        return null;
+                    }
+                    try {
+                        task.run(a);
+                    } catch (Exception e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                    if (listener != null) {
+                        synchronized (listener) {
+                            listener.onProgress(completed.incrementAndGet(), total);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing the wallet's accounts.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NEP2InvalidFormat) {
+                throw (NEP2InvalidFormat) cause;
+            } else if (cause instanceof NEP2InvalidPassphrase) {
+                throw (NEP2InvalidPassphrase) cause;
+            } else if (cause instanceof CipherException) {
+                throw (CipherException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface AccountTask {
+        void run(Account account) throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase;
+    }
+
+    /**
+     * A listener for the progress of encrypting or decrypting all accounts of a wallet.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Is called after an account was processed. Calls are not concurrent.
+         *
+         * @param completed the number of accounts processed so far.
+         * @param total     the total number of accounts.
+         */
+        void onProgress(int completed, int total);
+
+    }
+
     public NEP6Wallet toNEP6Wallet() {
         List<NEP6Account> accts = this.accounts.values().stream()
                 .map(Account::toNEP6Account)
@@ -235,9 +456,73 @@ public class Wallet {
         return fromNEP6Wallet(new FileInputStream(nep6WalletFile));
     }
 
+    /**
+     * Reads a NEP-6 wallet from the given stream.
+     * <p>
+     * The wallet file is parsed as a stream, so that the accounts are never held in memory as a whole in their NEP-6
+     * representation. The verification scripts of the accounts are decoded when they are used for the first time.
+     *
+     * @param nep6WalletFileInputStream the stream to read the wallet from.
+     * @return the wallet.
+     * @throws IOException if reading or parsing the wallet file fails.
+     */
     public static Wallet fromNEP6Wallet(InputStream nep6WalletFileInputStream) throws IOException {
-        NEP6Wallet nep6Wallet = OBJECT_MAPPER.readValue(nep6WalletFileInputStream, NEP6Wallet.class);
-        return fromNEP6Wallet(nep6Wallet);
+        Wallet wallet = new Wallet();
+        wallet.scryptParams = null;
+        wallet.name = null;
+        wallet.version = null;
+        List<Account> accts = new ArrayList<>();
+        Account defaultAccount = null;
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(nep6WalletFileInputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "A NEP-6 wallet must be a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "name":
+                        wallet.name = parser.getValueAsString();
+                        break;
+                    case "version":
+                        wallet.version = parser.getValueAsString();
+                        break;
+                    case "scrypt":
+                        wallet.scryptParams = OBJECT_MAPPER.readValue(parser, ScryptParams.class);
+                        break;
+                    case "accounts":
+                        defaultAccount = readNEP6Accounts(parser, accts);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        if (defaultAccount == null) {
+            throw new IllegalArgumentException("The NEP-6 wallet does not contain any default account.");
+        }
+        return wallet.addAccounts(accts.toArray(new Account[0]))
+                .defaultAccount(defaultAccount.getScriptHash());
+    }
+
+    // Reads the accounts into the given list and returns the first account that is marked as default.
+    private static Account readNEP6Accounts(JsonParser parser, List<Account> accts) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "The accounts of a NEP-6 wallet must be a JSON array.");
+        }
+        Account defaultAccount = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            NEP6Account nep6Account = OBJECT_MAPPER.readValue(parser, NEP6Account.class);
+            Account account = Account.fromNEP6Account(nep6Account);
+            accts.add(account);
+            if (defaultAccount == null && Boolean.TRUE.equals(nep6Account.getDefault())) {
+                defaultAccount = account;
+            }
+        }
+        return defaultAccount;
     }
 
     public static Wallet fromNEP6Wallet(NEP6Wallet nep6Wallet) {
@@ -273,12 +558,25 @@ public class Wallet {
         if (destination == null) {
             throw new IllegalArgumentException("Destination file cannot be null.");
         }
-        NEP6Wallet nep6Wallet = toNEP6Wallet();
         if (destination.isDirectory()) {
             String fileName = getName() + ".json";
             destination = Paths.get(destination.toString(), fileName).toFile();
         }
-        OBJECT_MAPPER.writeValue(destination, nep6Wallet);
+        // Accounts that did not change since the last save are not serialized again.
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(destination, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("name", name);
+            generator.writeStringField("version", version);
+            generator.writeFieldName("scrypt");
+            OBJECT_MAPPER.writeValue(generator, scryptParams);
+            generator.writeArrayFieldStart("accounts");
+            for (Account a : accounts.values()) {
+                generator.writeRawValue(a.toNEP6Json(OBJECT_MAPPER));
+            }
+            generator.writeEndArray();
+            generator.writeNullField("extra");
+            generator.writeEndObject();
+        }
         return this;
     }
 
@@ -304,6 +602,20 @@ public class Wallet {
         return balances;
     }
 
+    /**
+     * Asynchronously gets the balances of all NEP-17 tokens that this wallet owns.
+     * <p>
+     * In contrast to {@link #getNep17TokenBalances(Neow3j)}, the balance requests for the accounts are sent in
+     * JSON-RPC batches, and several batches are sent concurrently. Use a {@link Nep17BalanceTracker} to also get the
+     * balances per account or to repeatedly refresh the balances of only the accounts that changed.
+     *
+     * @param neow3j the {@link Neow3j} object used to call a Neo node.
+     * @return a future of the map of token script hashes to token amounts.
+     */
+    public CompletableFuture<Map<Hash160, BigInteger>> getNep17TokenBalancesAsync(Neow3j neow3j) {
+        return new Nep17BalanceTracker(this, neow3j).refreshAsync().thenApply(WalletNep17Balances::getTotals);
+    }
+
     /**
      * Creates a new wallet with one account.
      *
@@ -0,0 +1,70 @@
+package io.neow3j.wallet;
+
+import io.neow3j.types.Hash160;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The NEP-17 token balances of the accounts of a wallet at a certain block height.
+ * <p>
+ * The token amounts are given in token fractions. E.g., an amount of 1 GAS is given as 1*10^8 GAS fractions.
+ */
+public class WalletNep17Balances {
+
+    private final long blockCount;
+    private final Map<Hash160, Map<Hash160, BigInteger>> accountBalances;
+    private final Map<Hash160, BigInteger> totals;
+
+    /**
+     * Creates the balances from the balances of the individual accounts.
+     *
+     * @param blockCount      the block count of the node when the balances were queried.
+     * @param accountBalances the balances of each account mapped from the token hash to the amount.
+     */
+    public WalletNep17Balances(long blockCount, Map<Hash160, Map<Hash160, BigInteger>> accountBalances) {
+        this.blockCount = blockCount;
+        Map<Hash160, Map<Hash160, BigInteger>> balances = new HashMap<>();
+        Map<Hash160, BigInteger> sums = new HashMap<>();
+        for (Map.Entry<Hash160, Map<Hash160, BigInteger>> e : accountBalances.entrySet()) {
+            balances.put(e.getKey(), Collections.unmodifiableMap(new HashMap<>(e.getValue())));
+            e.getValue().forEach((token, amount) -> sums.merge(token, amount, BigInteger::add));
+        }
+        this.accountBalances = Collections.unmodifiableMap(balances);
+        this.totals = Collections.unmodifiableMap(sums);
+    }
+
+    /**
+     * @return the block count of the node when the balances were queried.
+     */
+    public long getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * @return the balances of each account mapped from the account's script hash to its token balances.
+     */
+    public Map<Hash160, Map<Hash160, BigInteger>> getAccountBalances() {
+        return accountBalances;
+    }
+
+    /**
+     * Gets the token balances of the given account.
+     *
+     * @param account the script hash of the account.
+     * @return the balances mapped from the token hash to the amount. Empty if the account is unknown.
+     */
+    public Map<Hash160, BigInteger> getAccountBalances(Hash160 account) {
+        return accountBalances.getOrDefault(account, Collections.emptyMap());
+    }
+
+    /**
+     * @return the sum of the balances of all accounts mapped from the token hash to the amount.
+     */
+    public Map<Hash160, BigInteger> getTotals() {
+        return totals;
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.neow3j.archive;
+
+import io.neow3j.protocol.core.response.NeoBlock;
+import io.neow3j.protocol.core.response.Transaction;
+import io.neow3j.script.OpCode;
+import io.neow3j.serialization.NeoSerializableInterface;
+import io.neow3j.serialization.exceptions.DeserializationException;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
+import static io.neow3j.utils.Numeric.toHexStringNoPrefix;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChainArchiveReaderTest {
+
+    private static final String TX = ""
+            + "00" // version
+            + "62bdaa0e"  // nonce
+            + "c272890000000000"  // system fee
+            + "a65a130000000000"  // network fee
+            + "99232000"  // valid until block
+            + "01" + "941343239213fa0e765f1027ce742f48db779a96" + "01" // one called by entry signer
+            + "01" + "01" // one attribute - high priority
+            + "01" + OpCode.PUSH1 // 1-byte script with PUSH1 OpCode
+            + "01" + "01000100"; // one witness
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] block(int index) {
+        ByteBuffer idx = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(index);
+        return hexStringToByteArray(""
+                + "00000000" // version
+                + "0102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f20" // previous hash
+                + "2122232425262728292a2b2c2d2e2f303132333435363738393a3b3c3d3e3f40" // merkle root
+                + "e8ad8d4d88010000" // timestamp
+                + "efbeadde00000000" // nonce
+                + toHexStringNoPrefix(idx.array()) // index
+                + "02" // primary index
+                + "941343239213fa0e765f1027ce742f48db779a96" // next consensus
+                + "01" + "01000100" // one witness
+                + "01" + TX); // one transaction
+    }
+
+    private Path writeArchive(String name, Integer start, int count) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer header = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        if (start != null) {
+            header.putInt(start);
+        }
+        header.putInt(count);
+        out.write(header.array(), 0, header.position());
+        for (int i = 0; i < count; i++) {
+            byte[] block = block((start == null ? 0 : start) + i);
+            out.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(block.length).array());
+            out.write(block);
+        }
+        Path path = tempDir.resolve(name);
+        Files.write(path, out.toByteArray());
+        return path;
+    }
+
+    @Test
+    public void deserializeAndSerializeBlock() throws DeserializationException {
+        byte[] data = block(7);
+        Block block = NeoSerializableInterface.from(data, Block.class);
+        assertThat(block.getVersion(), is(0L));
+        assertThat(block.getPrevBlockHash(),
+                is(new Hash256("201f1e1d1c1b1a191817161514131211100f0e0d0c0b0a090807060504030201")));
+        assertThat(block.getTimestamp(), is(1684928310760L));
+        assertThat(block.getNonce(), is(0xdeadbeefL));
+        assertThat(block.getIndex(), is(7L));
+        assertThat(block.getPrimaryIndex(), is(2));
+        assertThat(block.getNextConsensus(), is(new Hash160("969a77db482f74ce27105f760efa139223431394")));
+        assertThat(block.getTransactions(), hasSize(1));
+        assertThat(block.getSize(), is(data.length));
+        assertArrayEquals(data, block.toArray());
+    }
+
+    @Test
+    public void blockHash() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(block(7), Block.class);
+        // The SHA-256 of the 109 bytes of the unsigned header of the fixture, in reversed byte order.
+        assertThat(block.getHash(),
+                is(new Hash256("037f3d6b18d0f7d25c24340af721a1f8954e3756e56fce2216ec993bca9498eb")));
+    }
+
+    @Test
+    public void convertToNeoBlock() throws DeserializationException {
+        Block block = NeoSerializableInterface.from(block(7), Block.class);
+        NeoBlock neoBlock = block.toNeoBlock();
+        assertThat(neoBlock.getHash(),
+                is(new Hash256("037f3d6b18d0f7d25c24340af721a1f8954e3756e56fce2216ec993bca9498eb")));
+        assertThat(neoBlock.getIndex(), is(7L));
+        assertThat(neoBlock.getNonceAsLong(), is(0xdeadbeefL));
+        assertThat(neoBlock.getNextConsensus(), is(new Hash160("969a77db482f74ce27105f760efa139223431394").toAddress()));
+        assertThat(neoBlock.getTransactions(), hasSize(1));
+        assertThat(neoBlock.getTransactions().get(0).getHash(),
+                is(block.getTransactions().get(0).getTxId()));
+    }
+
+    @Test
+    public void readArchiveWithoutStartIndex() throws IOException, DeserializationException {
+        Path path = writeArchive("chain.acc", null, 3);
+        try (ChainArchiveReader reader = ChainArchiveReader.open(path)) {
+            assertThat(reader.getStartIndex(), is(0L));
+            assertThat(reader.getBlockCount(), is(3));
+            assertThat(reader.readBlock(2).getIndex(), is(2L));
+            List<Long> indices = reader.blocks(false).map(Block::getIndex).collect(Collectors.toList());
+            assertThat(indices, contains(0L, 1L, 2L));
+        }
+    }
+
+    @Test
+    public void readArchiveWithStartIndexInParallel() throws IOException {
+        Path path = writeArchive("chain.1000.acc", 1000, 500);
+        try (ChainArchiveReader reader = ChainArchiveReader.open(path)) {
+            assertThat(reader.getStartIndex(), is(1000L));
+            List<Long> indices = reader.neoBlocks(true).map(NeoBlock::getIndex).collect(Collectors.toList());
+            assertThat(indices, hasSize(500));
+            assertThat(indices.get(0), is(1000L));
+            assertThat(indices.get(499), is(1499L));
+            List<Transaction> txs = reader.transactions(true).collect(Collectors.toList());
+            assertThat(txs, hasSize(500));
+        }
+    }
+
+    @Test
+    public void readBlockOutOfRange() throws IOException {
+        Path path = writeArchive("chain.5.acc", 5, 2);
+        try (ChainArchiveReader reader = ChainArchiveReader.open(path)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.readBlock(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.readBlock(7));
+        }
+    }
+
+    @Test
+    public void failOnTruncatedArchive() throws IOException {
+        Path path = writeArchive("chain.acc", null, 2);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 10));
+        IOException thrown = assertThrows(IOException.class, () -> ChainArchiveReader.open(path));
+        assertThat(thrown.getMessage(), is("The chain archive ends before block 1."));
+    }
+
+}
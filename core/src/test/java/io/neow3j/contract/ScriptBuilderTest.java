@@ -5,8 +5,10 @@ import io.neow3j.script.InteropService;
 import io.neow3j.script.OpCode;
 import io.neow3j.script.ScriptBuilder;
 import io.neow3j.serialization.TestBinaryUtils;
+import io.neow3j.types.CallFlags;
 import io.neow3j.types.ContractParameter;
 import io.neow3j.types.ContractParameterType;
+import io.neow3j.types.Hash160;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import org.junit.jupiter.api.BeforeEach;
@@ -337,4 +339,32 @@ public class ScriptBuilderTest extends TestBinaryUtils {
         assertThat(actual, isOneOf(possibleExpected1, possibleExpected2));
     }
 
+    @Test
+    public void buildContractCallAndUnwrapIteratorWithOffset() {
+        Hash160 contract = new Hash160("ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+        byte[] withoutOffset = ScriptBuilder.buildContractCallAndUnwrapIterator(contract, "tokens",
+                Arrays.asList(integer(1)), CallFlags.ALL, 20);
+        assertArrayEquals(ScriptBuilder.buildContractCallAndUnwrapIterator(contract, "tokens",
+                Arrays.asList(integer(1)), CallFlags.ALL, 0, 20), withoutOffset);
+
+        int callLength = new ScriptBuilder().pushInteger(20)
+                .contractCall(contract, "tokens", Arrays.asList(integer(1)), CallFlags.ALL).toArray().length;
+        byte[] skipCycle = new ScriptBuilder()
+                .pushInteger(3)
+                .opCode(OpCode.DUP)
+                .opCode(OpCode.JMPIFNOT, new byte[]{0x0d})
+                .opCode(OpCode.OVER)
+                .sysCall(InteropService.SYSTEM_ITERATOR_NEXT)
+                .opCode(OpCode.JMPIFNOT, new byte[]{0x05})
+                .opCode(OpCode.DEC)
+                .opCode(OpCode.JMP, new byte[]{(byte) 0xf4})
+                .opCode(OpCode.DROP)
+                .toArray();
+        byte[] expected = ArrayUtils.concatenate(copyOfRange(withoutOffset, 0, callLength), skipCycle,
+                copyOfRange(withoutOffset, callLength, withoutOffset.length));
+
+        assertArrayEquals(ScriptBuilder.buildContractCallAndUnwrapIterator(contract, "tokens",
+                Arrays.asList(integer(1)), CallFlags.ALL, 3, 20), expected);
+    }
+
 }
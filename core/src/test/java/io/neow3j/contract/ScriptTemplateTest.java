@@ -0,0 +1,121 @@
+package io.neow3j.contract;
+
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.script.ScriptTemplate;
+import io.neow3j.types.CallFlags;
+import io.neow3j.types.ContractParameter;
+import io.neow3j.types.ContractParameterType;
+import io.neow3j.types.Hash160;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.neow3j.script.ScriptTemplate.slot;
+import static io.neow3j.types.ContractParameter.array;
+import static io.neow3j.types.ContractParameter.bool;
+import static io.neow3j.types.ContractParameter.byteArray;
+import static io.neow3j.types.ContractParameter.hash160;
+import static io.neow3j.types.ContractParameter.hash256;
+import static io.neow3j.types.ContractParameter.integer;
+import static io.neow3j.types.ContractParameter.string;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScriptTemplateTest {
+
+    private static final Hash160 CONTRACT = new Hash160("ef4073a0f2b305a38ec4050e4d3d28bc40ea63f5");
+    private static final Hash160 FROM = new Hash160("969a77db482f74ce27105f760efa139223431394");
+    private static final Hash160 TO = new Hash160("0xd2a4cff31913016155e38e474a2c06d08be276cf");
+
+    @Test
+    public void testTransferTemplateMatchesScriptBuilder() {
+        ScriptTemplate template = ScriptTemplate.contractCall(CONTRACT, "transfer",
+                asList(slot(), slot(), slot(), slot()));
+        assertThat(template.getSlotCount(), is(4));
+
+        long[] amounts = {-1, 0, 1, 16, 17, -2, 127, 128, -128, -129, 255, 256, 32767, 32768, -32768, -32769,
+                8388607, 8388608, 2147483647L, 2147483648L, -2147483648L, -2147483649L, 549755813888L,
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long amount : amounts) {
+            List<ContractParameter> params = asList(hash160(FROM), hash160(TO), integer(BigInteger.valueOf(amount)), null);
+            assertThat("amount " + amount, template.build(params), is(buildWithScriptBuilder(params)));
+        }
+    }
+
+    @Test
+    public void testBigIntegersMatchScriptBuilder() {
+        ScriptTemplate template = ScriptTemplate.contractCall(CONTRACT, "mint", asList(slot()));
+        BigInteger[] values = {BigInteger.ONE.shiftLeft(63), BigInteger.ONE.shiftLeft(63).negate().subtract(
+                BigInteger.ONE), BigInteger.ONE.shiftLeft(100), BigInteger.ONE.shiftLeft(200).negate()};
+        for (BigInteger value : values) {
+            List<ContractParameter> params = asList(integer(value));
+            assertThat(template.build(params), is(buildWithScriptBuilder("mint", params)));
+        }
+    }
+
+    @Test
+    public void testOtherTypesMatchScriptBuilder() {
+        ScriptTemplate template = ScriptTemplate.contractCall(CONTRACT, "test", asList(slot(), slot(), slot()));
+        char[] chars = new char[300];
+        Arrays.fill(chars, 'a');
+        byte[] bytes = new byte[70000];
+        Arrays.fill(bytes, (byte) 7);
+
+        List<List<ContractParameter>> cases = asList(
+                asList(bool(true), bool(false), string("neo")),
+                asList(string(new String(chars)), byteArray(bytes), byteArray(new byte[0])),
+                asList(hash256(new Hash256("0x" + repeat("ab", 32))), array(1, "two"), null),
+                asList(string(null), integer(5), new ContractParameter(ContractParameterType.ANY)));
+        for (List<ContractParameter> params : cases) {
+            assertThat(template.build(params), is(buildWithScriptBuilder("test", params)));
+        }
+    }
+
+    @Test
+    public void testFixedParametersAndCallFlags() {
+        ScriptTemplate template = ScriptTemplate.contractCall(CONTRACT, "transfer",
+                asList(hash160(FROM), slot(), integer(1000), slot()), CallFlags.READ_ONLY);
+        assertThat(template.getSlotCount(), is(2));
+
+        byte[] expected = new ScriptBuilder().contractCall(CONTRACT, "transfer",
+                asList(hash160(FROM), hash160(TO), integer(1000), string("data")), CallFlags.READ_ONLY).toArray();
+        assertThat(template.build(hash160(TO), string("data")), is(expected));
+        assertThat(template.getFixedLength(), is(expected.length - 22 - 6));
+    }
+
+    @Test
+    public void testWithoutParameters() {
+        ScriptTemplate template = ScriptTemplate.contractCall(CONTRACT, "symbol", new ArrayList<>());
+        assertThat(template.getSlotCount(), is(0));
+        assertThat(template.build(), is(buildWithScriptBuilder("symbol", new ArrayList<>())));
+    }
+
+    @Test
+    public void testWrongNumberOfValues() {
+        ScriptTemplate template = ScriptTemplate.contractCall(CONTRACT, "transfer", asList(slot(), slot()));
+        assertThrows(IllegalArgumentException.class, () -> template.build(integer(1)));
+    }
+
+    private static byte[] buildWithScriptBuilder(List<ContractParameter> params) {
+        return buildWithScriptBuilder("transfer", params);
+    }
+
+    private static byte[] buildWithScriptBuilder(String method, List<ContractParameter> params) {
+        return new ScriptBuilder().contractCall(CONTRACT, method, params).toArray();
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            b.append(s);
+        }
+        return b.toString();
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.ECKeyPair.ECPublicKey;
+import io.neow3j.types.Hash160;
+import io.neow3j.utils.Numeric;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.neow3j.crypto.Bip32ECKeyPair.HARDENED_BIT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Bip32KeyDeriverTest {
+
+    private static final int[] ACCOUNT_PATH = new int[]{44 | HARDENED_BIT, 888 | HARDENED_BIT, 0 | HARDENED_BIT, 0};
+
+    private static Bip32ECKeyPair master;
+
+    @BeforeAll
+    public static void setUp() {
+        master = Bip32ECKeyPair.generateKeyPair(Numeric.hexStringToByteArray("000102030405060708090a0b0c0d0e0f"));
+    }
+
+    private static int[] childPath(int index) {
+        return new int[]{ACCOUNT_PATH[0], ACCOUNT_PATH[1], ACCOUNT_PATH[2], ACCOUNT_PATH[3], index};
+    }
+
+    @Test
+    public void testDeriveKeyPair() {
+        Bip32KeyDeriver deriver = new Bip32KeyDeriver(master);
+        for (int i = 0; i < 3; i++) {
+            Bip32ECKeyPair expected = Bip32ECKeyPair.deriveKeyPair(master, childPath(i));
+            Bip32ECKeyPair derived = deriver.deriveKeyPair(childPath(i));
+            assertThat(derived.exportAsWIF(), is(expected.exportAsWIF()));
+            assertThat(derived.getDepth(), is(expected.getDepth()));
+            assertThat(derived.getParentFingerprint(), is(expected.getParentFingerprint()));
+            assertThat(derived.getChainCode(), is(expected.getChainCode()));
+        }
+        assertThat(deriver.deriveKeyPair(new int[0]), is(master));
+    }
+
+    @Test
+    public void testDeriveKeyPairs() {
+        Bip32KeyDeriver deriver = new Bip32KeyDeriver(master);
+        List<Bip32ECKeyPair> keyPairs = deriver.deriveKeyPairs(ACCOUNT_PATH, 5, 40, new ForkJoinPool(4));
+
+        assertThat(keyPairs, hasSize(40));
+        for (int i = 0; i < 40; i++) {
+            Bip32ECKeyPair expected = Bip32ECKeyPair.deriveKeyPair(master, childPath(5 + i));
+            assertThat(keyPairs.get(i).getChildNumber(), is(5 + i));
+            assertThat(keyPairs.get(i).exportAsWIF(), is(expected.exportAsWIF()));
+        }
+    }
+
+    @Test
+    public void testDeriveHardenedKeyPairs() {
+        Bip32KeyDeriver deriver = new Bip32KeyDeriver(master);
+        List<Bip32ECKeyPair> keyPairs = deriver.deriveKeyPairs(ACCOUNT_PATH, HARDENED_BIT, 3);
+
+        for (int i = 0; i < 3; i++) {
+            Bip32ECKeyPair expected = Bip32ECKeyPair.deriveKeyPair(master, childPath(HARDENED_BIT | i));
+            assertThat(keyPairs.get(i).exportAsWIF(), is(expected.exportAsWIF()));
+        }
+    }
+
+    @Test
+    public void testDerivePublicKeysAndScriptHashes() {
+        Bip32KeyDeriver deriver = new Bip32KeyDeriver(master, 2);
+        List<ECPublicKey> publicKeys = deriver.derivePublicKeys(ACCOUNT_PATH, 0, 20);
+        List<Hash160> scriptHashes = deriver.deriveScriptHashes(ACCOUNT_PATH, 0, 20);
+
+        for (int i = 0; i < 20; i++) {
+            Bip32ECKeyPair expected = Bip32ECKeyPair.deriveKeyPair(master, childPath(i));
+            assertThat(publicKeys.get(i), is(expected.getPublicKey()));
+            assertThat(scriptHashes.get(i), is(expected.getScriptHash()));
+        }
+    }
+
+    @Test
+    public void failDerivingHardenedPublicKeys() {
+        Bip32KeyDeriver deriver = new Bip32KeyDeriver(master);
+        assertThrows(IllegalArgumentException.class,
+                () -> deriver.derivePublicKeys(ACCOUNT_PATH, HARDENED_BIT, 1));
+    }
+
+    @Test
+    public void failDerivingRangeAcrossHardenedBoundary() {
+        Bip32KeyDeriver deriver = new Bip32KeyDeriver(master);
+        assertThrows(IllegalArgumentException.class,
+                () -> deriver.deriveKeyPairs(ACCOUNT_PATH, Integer.MAX_VALUE, 2));
+    }
+
+}
@@ -17,6 +17,7 @@ import static io.neow3j.crypto.Bip32ECKeyPair.HARDENED_BIT;
 import static io.neow3j.crypto.Hash.sha256;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * BIP-32 implementation test.
@@ -51,6 +52,17 @@ public class Bip32Test {
         return serialize(pair, 0x0488ADE4, false);
     }
 
+    static byte[] serializePublic(Bip32ExtendedPublicKey key) {
+        ByteBuffer ser = ByteBuffer.allocate(78);
+        ser.putInt(0x0488B21E);
+        ser.put((byte) key.getDepth());
+        ser.putInt(key.getParentFingerprint());
+        ser.putInt(key.getChildNumber());
+        ser.put(key.getChainCode());
+        ser.put(key.getEncodedPublicKey());
+        return ser.array();
+    }
+
     private static byte[] hashTwice(byte[] input) {
         return sha256(sha256(input));
     }
@@ -184,6 +196,44 @@ public class Bip32Test {
                 new int[]{0 | HARDENED_BIT});
     }
 
+    @Test
+    public void deriveExtendedPublicKeyVector1() {
+        Bip32ECKeyPair master = Bip32ECKeyPair.generateKeyPair(
+                Numeric.hexStringToByteArray("000102030405060708090a0b0c0d0e0f"));
+        Bip32ECKeyPair parent = Bip32ECKeyPair.deriveKeyPair(master,
+                new int[]{0 | HARDENED_BIT, 1, 2 | HARDENED_BIT});
+
+        // Chain m/0H/1/2H/2/1000000000
+        Bip32ExtendedPublicKey key = Bip32ExtendedPublicKey.deriveKey(parent.toExtendedPublicKey(),
+                new int[]{2, 1000000000});
+
+        assertEquals(
+                "xpub6H1LXWLaKsWFhvm6RVpEL9P4KfRZSW7abD2ttkWP3SSQvnyA8FSVqNTEcYFgJS2UaFcxupHiYkro49S8yGasTvXEYBVPamhGW6cFJodrTHy",
+                Base58.encode(addChecksum(serializePublic(key))));
+    }
+
+    @Test
+    public void deriveExtendedPublicKeyVector2() {
+        Bip32ECKeyPair master = Bip32ECKeyPair.generateKeyPair(Numeric.hexStringToByteArray(
+                "fffcf9f6f3f0edeae7e4e1dedbd8d5d2cfccc9c6c3c0bdbab7b4b1aeaba8a5a29f9c999693908d8a8784817e7b7875726f6c696663605d5a5754514e4b484542"));
+
+        // Chain m/0
+        Bip32ExtendedPublicKey key = master.toExtendedPublicKey().deriveChildKey(0);
+
+        assertEquals(
+                "xpub69H7F5d8KSRgmmdJg2KhpAK8SR3DjMwAdkxj3ZuxV27CprR9LgpeyGmXUbC6wb7ERfvrnKZjXoUmmDznezpbZb7ap6r1D3tgFxHmwMkQTPH",
+                Base58.encode(addChecksum(serializePublic(key))));
+    }
+
+    @Test
+    public void failDerivingHardenedKeyFromExtendedPublicKey() {
+        Bip32ECKeyPair master = Bip32ECKeyPair.generateKeyPair(
+                Numeric.hexStringToByteArray("000102030405060708090a0b0c0d0e0f"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> master.toExtendedPublicKey().deriveChildKey(0 | HARDENED_BIT));
+    }
+
     private void testGenerated(String seed, String expectedPriv, String expectedPub, int[] path) {
         Bip32ECKeyPair pair = Bip32ECKeyPair.generateKeyPair(Numeric.hexStringToByteArray(seed));
         assertNotNull(pair);
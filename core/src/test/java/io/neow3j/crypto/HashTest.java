@@ -3,8 +3,17 @@ package io.neow3j.crypto;
 import io.neow3j.utils.Numeric;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class HashTest {
 
@@ -59,4 +68,89 @@ public class HashTest {
         assertThat(result, is(expected));
     }
 
+    @Test
+    public void testSha256() {
+        byte[] result = Hash.sha256("Hello World.".getBytes());
+        assertThat(Numeric.toHexStringNoPrefix(result),
+                is("f4bb1975bf1f81f76ce824f7536c1e101a8060a632a52289d530a6f600d52c92"));
+    }
+
+    @Test
+    public void testSha256WithOffset() {
+        byte[] input = "__Hello World.__".getBytes();
+        assertThat(Hash.sha256(input, 2, 12), is(Hash.sha256("Hello World.".getBytes())));
+    }
+
+    @Test
+    public void testSha256ByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("__Hello World.__".getBytes(), 2, 12);
+        assertThat(Hash.sha256(buffer), is(Hash.sha256("Hello World.".getBytes())));
+        assertThat(buffer.remaining(), is(0));
+    }
+
+    @Test
+    public void testSha256IntoOutputBuffer() {
+        byte[] output = new byte[40];
+        Hash.sha256("Hello World.".getBytes(), 0, 12, output, 8);
+        assertThat(Arrays.copyOfRange(output, 8, 40), is(Hash.sha256("Hello World.".getBytes())));
+        assertThat(Arrays.copyOfRange(output, 0, 8), is(new byte[8]));
+    }
+
+    @Test
+    public void testSha256IntoTooSmallOutputBuffer() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Hash.sha256("Hello World.".getBytes(), 0, 12, new byte[40], 9));
+    }
+
+    @Test
+    public void testHash256() {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.sha256(Hash.sha256(input));
+        assertThat(Hash.hash256(input), is(expected));
+        assertThat(Hash.hash256(ByteBuffer.wrap(input)), is(expected));
+        byte[] output = new byte[32];
+        Hash.hash256("__Hello World.".getBytes(), 2, 12, output, 0);
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testHash160() {
+        byte[] input = Numeric.hexStringToByteArray(
+                "0c2102249425a06b5a1f8e6133fc79afa2c2b8430bf9327297f176761df79e8d8929c50b4195440d78");
+        assertThat(Numeric.toHexStringNoPrefix(Hash.hash160(input)),
+                is(Numeric.toHexStringNoPrefix(Hash.ripemd160(Hash.sha256(input)))));
+        assertThat(Hash.sha256AndThenRipemd160(input), is(Hash.hash160(input)));
+        byte[] output = new byte[20];
+        Hash.hash160(input, 0, input.length, output, 0);
+        assertThat(output, is(Hash.hash160(input)));
+    }
+
+    @Test
+    public void testRipeMD160WithOffset() {
+        final byte[] bytesToHash = "__Hello World.".getBytes();
+        assertThat(Numeric.toHexStringNoPrefix(Hash.ripemd160(bytesToHash, 2, 12)),
+                is("c5d570cb5b85319dbafc0385b998fd98eb62295e"));
+    }
+
+    @Test
+    public void testConcurrentHashing() throws Exception {
+        byte[] input = "Hello World.".getBytes();
+        byte[] expected = Hash.hash256(input);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> {
+                    Hash.hash160(input);
+                    return Hash.hash256(input);
+                }));
+            }
+            for (Future<byte[]> result : results) {
+                assertThat(result.get(), is(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
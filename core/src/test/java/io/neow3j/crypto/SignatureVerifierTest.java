@@ -0,0 +1,88 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.Sign.SignatureData;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.neow3j.crypto.SignTest.KEY_PAIR;
+import static io.neow3j.crypto.SignTest.PUBLIC_KEY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SignatureVerifierTest {
+
+    private static final byte[] MESSAGE = "A test message".getBytes(UTF_8);
+
+    @Test
+    public void verifyWithCachedKey() {
+        SignatureData sig = Sign.signMessage(MESSAGE, KEY_PAIR);
+        SignatureVerifier verifier = new SignatureVerifier(4);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(verifier.verify(MESSAGE, sig, PUBLIC_KEY));
+            assertTrue(verifier.verify(Hash.sha256(MESSAGE), sig, PUBLIC_KEY, false));
+            assertFalse(verifier.verify("Another message".getBytes(UTF_8), sig, PUBLIC_KEY));
+        }
+    }
+
+    @Test
+    public void verifyWithWrongKey() throws InvalidAlgorithmParameterException, NoSuchAlgorithmException,
+            NoSuchProviderException {
+
+        SignatureData sig = Sign.signMessage(MESSAGE, KEY_PAIR);
+        ECKeyPair other = ECKeyPair.createEcKeyPair();
+        SignatureVerifier verifier = new SignatureVerifier(1);
+        assertFalse(verifier.verify(MESSAGE, sig, other.getPublicKey()));
+        assertThat(verifier.verify(MESSAGE, sig, other.getPublicKey()),
+                is(Sign.verifySignature(MESSAGE, sig, other.getPublicKey())));
+    }
+
+    @Test
+    public void verifyOutOfRangeSignature() {
+        SignatureData sig = new SignatureData((byte) 0, new byte[32], new byte[32]);
+        assertFalse(new SignatureVerifier().verify(MESSAGE, sig, PUBLIC_KEY));
+    }
+
+    @Test
+    public void verifyBatch() throws InvalidAlgorithmParameterException, NoSuchAlgorithmException,
+            NoSuchProviderException {
+
+        List<ECKeyPair> keyPairs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            keyPairs.add(ECKeyPair.createEcKeyPair());
+        }
+        List<SignatureVerifier.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            byte[] message = ("message " + i).getBytes(UTF_8);
+            ECKeyPair keyPair = keyPairs.get(i % keyPairs.size());
+            SignatureData sig = Sign.signMessage(message, keyPair);
+            if (i % 10 == 7) {
+                // Verify against the wrong message.
+                message = ("other message " + i).getBytes(UTF_8);
+            }
+            entries.add(new SignatureVerifier.Entry(message, sig, keyPair.getPublicKey()));
+        }
+        boolean[] results = Sign.verifySignatures(entries);
+        assertThat(results.length, is(60));
+        for (int i = 0; i < results.length; i++) {
+            assertThat(results[i], is(i % 10 != 7));
+        }
+        SignatureVerifier verifier = new SignatureVerifier();
+        assertFalse(verifier.verifyAll(entries));
+        assertTrue(verifier.verifyAll(entries.subList(0, 7)));
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new SignatureVerifier(0));
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.Sign.SignatureData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.neow3j.crypto.Hash.sha256;
+import static io.neow3j.crypto.SignTest.KEY_PAIR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SigningContextTest {
+
+    @Test
+    public void signProducesSameSignatureAsKeyPair() {
+        try (SigningContext context = KEY_PAIR.createSigningContext()) {
+            for (int i = 0; i < 5; i++) {
+                byte[] hash = sha256(("message " + i).getBytes(UTF_8));
+                BigInteger[] expected = KEY_PAIR.sign(hash);
+                assertThat(context.sign(hash), is(expected));
+                assertThat(context.signAndGetECDSASignature(hash).r, is(expected[0]));
+                assertThat(context.signAndGetECDSASignature(hash).s, is(expected[1]));
+            }
+        }
+    }
+
+    @Test
+    public void signMessageProducesSameSignatureAsSign() {
+        byte[] message = "A test message".getBytes(UTF_8);
+        try (SigningContext context = new SigningContext(KEY_PAIR)) {
+            assertThat(context.signMessage(message), is(Sign.signMessage(message, KEY_PAIR)));
+        }
+    }
+
+    @Test
+    public void signMessagesSequentiallyAndInParallel() {
+        List<byte[]> messages = new ArrayList<>();
+        List<SignatureData> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            byte[] message = ("message " + i).getBytes(UTF_8);
+            messages.add(message);
+            expected.add(Sign.signMessage(message, KEY_PAIR));
+        }
+        try (SigningContext context = KEY_PAIR.createSigningContext()) {
+            assertThat(context.signMessages(messages), is(expected));
+            assertThat(context.signMessagesInParallel(messages), is(expected));
+        }
+    }
+
+    @Test
+    public void closeReleasesSignersOfAllThreads() {
+        List<byte[]> messages = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            messages.add(("message " + i).getBytes(UTF_8));
+        }
+        SigningContext context = new SigningContext(KEY_PAIR);
+        context.signMessagesInParallel(messages);
+        assertThat(context.pooledSignerCount() > 0, is(true));
+
+        context.close();
+        assertThat(context.pooledSignerCount(), is(0));
+    }
+
+    @Test
+    public void signWithClosedContext() {
+        SigningContext context = KEY_PAIR.createSigningContext();
+        context.sign(sha256(new byte[]{1}));
+        context.close();
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> context.sign(sha256(new byte[]{1})));
+        assertThat(thrown.getMessage(), is("The signing context has been closed."));
+    }
+
+}
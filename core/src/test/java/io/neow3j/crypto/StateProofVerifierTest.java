@@ -0,0 +1,107 @@
+package io.neow3j.crypto;
+
+import io.neow3j.crypto.StateProofVerifier.Entry;
+import io.neow3j.crypto.StateProofVerifier.Result;
+import io.neow3j.types.Hash256;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class StateProofVerifierTest {
+
+    // A proof of the key 0x17 of the contract with id -5, as returned by a Neo node.
+    private static final String PROOF =
+            "Bfv///8XBiQBAQ8DRzb6Vkdw0r5nxMBp6Z5nvbyXiupMvffwm0v5GdB6jHvyAAQEBAQEBAQEA7l84HFtRI5V11s58vA" +
+            "+8CZ5GArFLkGUYLO98RLaMaYmA5MEnx0upnVI45XTpoUDRvwrlPD59uWy9aIrdS4T0D2cA6Rwv/l3GmrctRzL1me" +
+            "+iTUFdDgooaz+esFHFXJdDANfA2bdshZMp5ox2goVAOMjvoxNIWWOqjJoRPu6ZOw2kdj6A8xovEK1Mp6cAG9z" +
+            "/jfFDrSEM60kuo97MNaVOP/cDZ1wA1nf4WdI" +
+            "+jksYz0EJgzBukK8rEzz8jE2cb2Zx2fytVyQBANC7v2RaLMCRF1XgLpSri12L2IwL9Zcjz5LZiaB5nHKNgQpAQYPDw8PDw8DggF" +
+            "ffnsVMyqAfZjg+4gu97N/gKpOsAK8Q27s56tijRlSAAMm26DYxOdf/IjEgkE/u/CoRL6dDnzvs1dxCg/00esMvgPGioeOqQCkDO" +
+            "TfliOnCxYjbY/0XvVUOXkceuDm1W0FzQQEBAQEBAQEBAQEBAQEBJIABAPH1PnX/P8NOgV4KHnogwD7xIsD8KvNhkTcDxgCo7Ec6" +
+            "gPQs1zD4igSJB4M9jTREq+7lQ5PbTH/6d138yUVvtM8bQP9Df1kh7asXrYjZolKhLcQ1NoClQgEzbcJfYkCHXv6DQQEBAOUw9z" +
+            "Nl/7FJrWD7rCv0mbOoy6nLlHWiWuyGsA12ohRuAQEBAQEBAQEBAYCBAIAAgA=";
+    private static final Hash256 STATE_ROOT =
+            new Hash256("0x7bf925dbd33af0e00d392b92313da59369ed86c82494d0e02040b24faac0a3ca");
+    private static final int CONTRACT_ID = -5;
+    private static final byte[] KEY = new byte[]{0x17};
+
+    private final StateProofVerifier verifier = new StateProofVerifier();
+
+    @Test
+    public void verifyProof() {
+        Result result = verifier.verify(STATE_ROOT, CONTRACT_ID, KEY, PROOF);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getKey(), is(StateProofVerifier.storageKey(CONTRACT_ID, KEY)));
+        assertThat(result.getValue(), is(new byte[]{0x02, 0x00, 0x02, 0x00}));
+        assertThat(result.getFailure(), is(nullValue()));
+    }
+
+    @Test
+    public void verifyProofWithoutExpectedKey() {
+        Result result = verifier.verify(STATE_ROOT, PROOF);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getKey(), is(new byte[]{(byte) 0xfb, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x17}));
+    }
+
+    @Test
+    public void failOnOtherStateRoot() {
+        Hash256 otherRoot = new Hash256("0x8bf925dbd33af0e00d392b92313da59369ed86c82494d0e02040b24faac0a3ca");
+        Result result = verifier.verify(otherRoot, CONTRACT_ID, KEY, PROOF);
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getFailure(), is("The proof does not contain a referenced node."));
+        assertThat(result.getValue(), is(nullValue()));
+    }
+
+    @Test
+    public void failOnOtherKey() {
+        Result result = verifier.verify(STATE_ROOT, CONTRACT_ID, new byte[]{0x18}, PROOF);
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getFailure(), is("The proof is for a different key."));
+    }
+
+    @Test
+    public void failOnTamperedValue() {
+        byte[] proof = Base64.decode(PROOF);
+        // The last bytes are the value of the leaf node.
+        proof[proof.length - 1] = 0x01;
+        Result result = verifier.verify(STATE_ROOT, CONTRACT_ID, KEY, Base64.encode(proof));
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getFailure(), is("The proof does not contain a referenced node."));
+    }
+
+    @Test
+    public void failOnMalformedProof() {
+        byte[] proof = Base64.decode(PROOF);
+        byte[] truncated = new byte[proof.length - 10];
+        System.arraycopy(proof, 0, truncated, 0, truncated.length);
+
+        assertThat(verifier.verify(STATE_ROOT, Base64.encode(truncated)).getFailure(),
+                is("The proof is malformed."));
+        assertThat(verifier.verify(STATE_ROOT, "not base64!").getFailure(), is("The proof is malformed."));
+    }
+
+    @Test
+    public void verifyInParallel() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(new Entry(STATE_ROOT, CONTRACT_ID, i % 2 == 0 ? KEY : new byte[]{0x18}, PROOF));
+        }
+
+        Result[] results = verifier.verify(entries);
+
+        for (int i = 0; i < results.length; i++) {
+            assertThat(results[i].isValid(), is(i % 2 == 0));
+        }
+    }
+
+}
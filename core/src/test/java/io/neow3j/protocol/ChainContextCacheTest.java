@@ -0,0 +1,132 @@
+package io.neow3j.protocol;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.transaction.Transaction;
+import io.neow3j.transaction.TransactionBuilder;
+import io.neow3j.types.Hash160;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.TestProperties.neoTokenHash;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBalanceOf;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class ChainContextCacheTest {
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private Neow3j neow3j;
+    private Account account;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port),
+                new Neow3jConfig().setNetworkMagic(769).enableChainContextCache(Long.MAX_VALUE));
+        account = new Account(ECKeyPair.create(hexStringToByteArray(
+                "e6e919577dd7b8e97805151c05ae07ff4f752654d6d8797597aca989c02c4cb3")));
+        setUpBlockCount(1000);
+        setUpWireMockForCall("getcommittee", "getcommittee.json");
+        setUpWireMockForBalanceOf(account.getScriptHash().toString(), "invokefunction_balanceOf_1000000.json");
+    }
+
+    @Test
+    public void testBlockCountIsCached() throws IOException {
+        ChainContextCache cache = neow3j.getChainContextCache();
+        assertThat(cache.getBlockCount(), is(1000L));
+        assertThat(cache.getBlockCount(), is(1000L));
+        assertThat(neow3j.getChainContextCache(), is(cache));
+
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getblockcount")));
+    }
+
+    @Test
+    public void testValuesAreInvalidatedOnNewBlock() throws IOException {
+        ChainContextCache cache = new ChainContextCache(neow3j, 0);
+        assertThat(cache.getCommittee(), hasSize(1));
+        assertThat(cache.getCommittee(), hasSize(1));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getcommittee")));
+
+        setUpBlockCount(1001);
+        assertThat(cache.getCommittee(), hasSize(1));
+        assertThat(cache.getBlockCount(), is(1001L));
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getcommittee")));
+    }
+
+    @Test
+    public void testGasBalanceIsReducedByPendingSpend() throws IOException {
+        ChainContextCache cache = new ChainContextCache(neow3j, 0);
+        Hash160 sender = account.getScriptHash();
+        assertThat(cache.getGasBalance(sender), is(new BigInteger("1000000")));
+
+        cache.addPendingSpend(sender, new BigInteger("300000"));
+        cache.addPendingSpend(sender, new BigInteger("200000"));
+        assertThat(cache.getGasBalance(sender), is(new BigInteger("500000")));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("balanceOf")));
+
+        // The balance fetched after a new block includes the spends.
+        setUpBlockCount(1001);
+        assertThat(cache.getGasBalance(sender), is(new BigInteger("1000000")));
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("balanceOf")));
+    }
+
+    @Test
+    public void testTransactionBuildersShareCache() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_necessary_mock.json");
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+        byte[] script = new ScriptBuilder()
+                .contractCall(new Hash160(neoTokenHash()), "symbol", new ArrayList<>())
+                .toArray();
+
+        for (int i = 0; i < 3; i++) {
+            Transaction tx = new TransactionBuilder(neow3j)
+                    .script(script)
+                    .signers(calledByEntry(account))
+                    .doIfSenderCannotCoverFees((fee, balance) -> {
+                    })
+                    .getUnsignedTransaction();
+            assertThat(tx.getValidUntilBlock(), is(1000L + neow3j.getMaxValidUntilBlockIncrement() - 1));
+        }
+
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getblockcount")));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("balanceOf")));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getFeePerByte")));
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("getExecFeeFactor")));
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("calculatenetworkfee")));
+        WireMock.verify(3, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokescript")));
+    }
+
+    private static void setUpBlockCount(long blockCount) {
+        WireMock.stubFor(WireMock.post(WireMock.urlEqualTo("/"))
+                .withRequestBody(containing("\"method\":\"getblockcount\""))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + blockCount + "}")));
+    }
+
+}
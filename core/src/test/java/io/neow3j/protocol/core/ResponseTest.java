@@ -1652,6 +1652,10 @@ public class ResponseTest extends ResponseTester {
                         "        \"wsport\": 40334,\n" +
                         "        \"nonce\": 224036820,\n" +
                         "        \"useragent\": \"/Neo:3.0.0/\",\n" +
+                        "        \"rpc\": {\n" +
+                        "            \"maxiteratorresultitems\": 100,\n" +
+                        "            \"sessionenabled\": true\n" +
+                        "        },\n" +
                         "        \"protocol\": {\n" +
                         "            \"network\": 769,\n" +
                         "            \"validatorscount\": 7,\n" +
@@ -1681,6 +1685,10 @@ public class ResponseTest extends ResponseTester {
         assertThat(version.getNonce(), is(224036820L));
         assertThat(version.getUserAgent(), is("/Neo:3.0.0/"));
 
+        NeoGetVersion.NeoVersion.Rpc rpc = version.getRpc();
+        assertThat(rpc.getMaxIteratorResultItems(), is(100));
+        assertThat(rpc.getSessionEnabled(), is(true));
+
         NeoGetVersion.NeoVersion.Protocol protocol = version.getProtocol();
         assertThat(protocol.getAddressVersion(), is(22));
         assertThat(protocol.getNetwork(), is(769L));
@@ -0,0 +1,143 @@
+package io.neow3j.transaction;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.script.ScriptBuilder;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash160;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.TestProperties.committeeAccountAddress;
+import static io.neow3j.test.TestProperties.defaultAccountAddress;
+import static io.neow3j.test.TestProperties.neoTokenHash;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NetworkFeeCalculatorTest {
+
+    private static final byte[] SCRIPT = new ScriptBuilder()
+            .contractCall(new Hash160(neoTokenHash()), "symbol", new ArrayList<>())
+            .toArray();
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private Neow3j neow3j;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+    }
+
+    // The expected fees were calculated by a Neo node with a fee per byte of 1000 and an execution fee factor of 30
+    // (see TransactionBuilderIntegrationTest).
+    @Test
+    public void testParityWithNode() throws IOException {
+        NetworkFeeCalculator calculator = new NetworkFeeCalculator(neow3j);
+
+        Account singleSig = Account.fromAddress(defaultAccountAddress());
+        assertThat(calculator.calculateNetworkFee(createTransaction(singleSig)), is(1178520L));
+
+        Account multiSig = Account.createMultiSigAccount(committeeAccountAddress(), 1, 1);
+        assertThat(calculator.calculateNetworkFee(createTransaction(multiSig)), is(1180580L));
+
+        multiSig = Account.createMultiSigAccount(committeeAccountAddress(), 5, 7);
+        assertThat(calculator.calculateNetworkFee(createTransaction(multiSig)), is(7557220L));
+    }
+
+    @Test
+    public void testPolicyValuesAreCached() throws IOException {
+        NetworkFeeCalculator calculator = new NetworkFeeCalculator(neow3j);
+        Transaction tx = createTransaction(Account.fromAddress(defaultAccountAddress()));
+
+        calculator.calculateNetworkFee(tx);
+        calculator.calculateNetworkFee(tx);
+        assertThat(calculator.getFeePerByte(), is(1000L));
+        assertThat(calculator.getExecFeeFactor(), is(30L));
+        WireMock.verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokefunction")));
+
+        calculator.invalidatePolicyValues();
+        calculator.calculateNetworkFee(tx);
+        WireMock.verify(4, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokefunction")));
+    }
+
+    @Test
+    public void testExpiredPolicyValuesAreRead() throws IOException {
+        NetworkFeeCalculator calculator = new NetworkFeeCalculator(neow3j, 0);
+        Transaction tx = createTransaction(Account.fromAddress(defaultAccountAddress()));
+
+        calculator.calculateNetworkFee(tx);
+        calculator.calculateNetworkFee(tx);
+        WireMock.verify(4, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("invokefunction")));
+    }
+
+    @Test
+    public void testWitnessSize() {
+        Account singleSig = Account.create();
+        Witness witness = Witness.create(new byte[]{0x01}, singleSig.getECKeyPair());
+        assertThat(NetworkFeeCalculator.calculateWitnessSize(singleSig), is(witness.getSize()));
+
+        Account multiSig = Account.createMultiSigAccount(asList(singleSig.getECKeyPair().getPublicKey(),
+                Account.create().getECKeyPair().getPublicKey(), Account.create().getECKeyPair().getPublicKey()), 2);
+        witness = new Witness(new byte[2 * 66], multiSig.getVerificationScript().getScript());
+        assertThat(NetworkFeeCalculator.calculateWitnessSize(multiSig), is(witness.getSize()));
+    }
+
+    @Test
+    public void testContractSignerIsNotSupported() {
+        Transaction tx = new Transaction(neow3j, (byte) 0, 1L, 100L,
+                new ArrayList<>(singletonList(
+                        ContractSigner.calledByEntry(new Hash160(neoTokenHash())))),
+                0, 0, new ArrayList<>(), SCRIPT, new ArrayList<>());
+
+        assertThat(NetworkFeeCalculator.supports(tx), is(false));
+        assertThrows(TransactionConfigurationException.class,
+                () -> new NetworkFeeCalculator(neow3j).calculateNetworkFee(tx));
+    }
+
+    @Test
+    public void testTransactionBuilderUsesCalculator() throws Throwable {
+        setUpWireMockForCall("invokescript", "invokescript_necessary_mock.json");
+
+        Transaction tx = new TransactionBuilder(neow3j)
+                .networkFeeCalculator(new NetworkFeeCalculator(neow3j))
+                .validUntilBlock(100L)
+                .script(SCRIPT)
+                .signers(calledByEntry(Account.fromAddress(defaultAccountAddress())))
+                .getUnsignedTransaction();
+
+        assertThat(tx.getNetworkFee(), is(1178520L));
+        WireMock.verify(0, postRequestedFor(urlEqualTo("/")).withRequestBody(containing("calculatenetworkfee")));
+    }
+
+    private Transaction createTransaction(Account account) {
+        return new Transaction(neow3j, (byte) 0, 1L, 100L, new ArrayList<>(
+                singletonList(calledByEntry(account))), 0, 0, new ArrayList<>(), SCRIPT,
+                new ArrayList<>());
+    }
+
+}
@@ -0,0 +1,240 @@
+package io.neow3j.transaction;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.test.JsonRpcBatchTransformer;
+import io.neow3j.transaction.TransactionPipeline.Result;
+import io.neow3j.transaction.TransactionPipeline.Spec;
+import io.neow3j.transaction.TransactionPipeline.Stage;
+import io.neow3j.transaction.exceptions.TransactionConfigurationException;
+import io.neow3j.types.Hash256;
+import io.neow3j.wallet.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.WireMockTestHelper.loadFile;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBatches;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForGetBlockCount;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForInvokeFunction;
+import static io.neow3j.transaction.AccountSigner.calledByEntry;
+import static io.neow3j.utils.Numeric.hexStringToByteArray;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TransactionPipelineTest {
+
+    private static final byte[] DROPPED_SCRIPT = new byte[]{0x11, 0x40};
+    private static final byte[] FAULT_SCRIPT = new byte[]{0x12, 0x40};
+
+    // The hashes of the transactions with the nonce 0 in the files getblock_1000_pipelineTransactions.json and
+    // getblock_1005_resubmittedTransaction.json.
+    private static final List<Hash256> INCLUDED_TX_HASHES = Arrays.asList(
+            new Hash256("c6bb2f1a0069f86553bcc8a9da592d9d7c453ecf9df2fb45b02aeed50ffc5c93"),
+            new Hash256("6e2243dba88fed70fddb8c0b19421251d9818717d379b5dcdb2903678c87112e"),
+            new Hash256("bd86ab1de30d34d94f59b960eb4923829342c5a33a7c8700eca0a3775614fc8a"),
+            new Hash256("e9c6b8df3c9865cb79618dda77ad94f6054ef114f8f9a109771ea057566e11dc"),
+            new Hash256("c4f0db71012c446d2d7e4360502aa808868c803c92d5709e3292644cbf0e1d9d"));
+    private static final Hash256 RESUBMITTED_TX_HASH =
+            new Hash256("81548d5c8d060995d412ff2d6cbe59e64d4f1a469be61ce61822714e21edc33f");
+
+    private static final String CHAIN = "chain";
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().extensions(new JsonRpcBatchTransformer()))
+            .build();
+
+    private Account account;
+    private TransactionPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        Neow3j neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port),
+                new Neow3jConfig().setNetworkMagic(769).setPollingInterval(10));
+        account = new Account(ECKeyPair.create(hexStringToByteArray(
+                "e6e919577dd7b8e97805151c05ae07ff4f752654d6d8797597aca989c02c4cb3")));
+        pipeline = new TransactionPipeline(neow3j).nonceSupplier(() -> 0);
+        WireMock.resetAllScenarios();
+        setUpWireMockForBatches();
+        setUpWireMockForGetBlockCount(1000);
+        setUpWireMockForInvokeFunction("getFeePerByte", "policy_getFeePerByte.json");
+        setUpWireMockForInvokeFunction("getExecFeeFactor", "policy_getExecFeeFactor.json");
+        setUpWireMockForCall("invokescript", "invokescript_pipeline.json");
+        setUpWireMockForCall("invokescript", "invokescript_fault.json", "EkA=");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    public void testBuildSignSendAndConfirm() throws Exception {
+        setUpInclusionAfterSubmissions(5);
+        List<Spec> specs = IntStream.range(0, 5)
+                .mapToObj(i -> new Spec(new byte[]{(byte) (0x13 + i), 0x40}, calledByEntry(account)))
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<Result>> futures = pipeline.batchSize(2).submit(specs);
+
+        assertThat(futures.size(), is(5));
+        for (int i = 0; i < 5; i++) {
+            Result result = futures.get(i).get(10, TimeUnit.SECONDS);
+            Transaction tx = result.getTransaction();
+            assertThat(tx.getScript(), is(specs.get(i).getScript()));
+            assertThat(tx.getSystemFee(), is(984060L));
+            assertThat(tx.getNetworkFee(), is(1143520L));
+            assertThat(tx.getWitnesses().size(), is(1));
+            assertThat(result.getSubmissions(), is(1));
+            assertThat(result.getTxId(), is(INCLUDED_TX_HASHES.get(i)));
+            assertThat(result.getBlockIndex(), is(1000L));
+        }
+        // One batched invokescript request per batch of two transactions.
+        WireMock.verify(3, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matching("(?s)\\s*\\[.*\"method\":\"invokescript\".*")));
+        for (Stage stage : Stage.values()) {
+            assertThat(pipeline.getProcessedCount(stage), is(5L));
+            assertThat(pipeline.getFailedCount(stage), is(0L));
+        }
+        assertThat(pipeline.getThroughput(Stage.CONFIRM), greaterThan(0.0));
+        assertThat(pipeline.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testExpiredTransactionIsResubmitted() throws Exception {
+        setUpDroppedFirstSubmission();
+        List<CompletableFuture<Result>> futures = pipeline.validUntilBlockIncrement(5)
+                .submit(Collections.singletonList(new Spec(DROPPED_SCRIPT, calledByEntry(account))));
+
+        Result dropped = futures.get(0).get(10, TimeUnit.SECONDS);
+        assertThat(dropped.getSubmissions(), is(2));
+        assertThat(dropped.getTxId(), is(RESUBMITTED_TX_HASH));
+        assertThat(dropped.getBlockIndex(), is(1005L));
+        assertThat(pipeline.getProcessedCount(Stage.SEND), is(2L));
+        assertThat(pipeline.getProcessedCount(Stage.CONFIRM), is(1L));
+        // The system fee is not fetched again for the resubmission.
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo("invokescript"))));
+    }
+
+    @Test
+    public void testExpiredTransactionFailsWithoutResubmissions() throws IOException {
+        setUpDroppedFirstSubmission();
+        List<CompletableFuture<Result>> futures = pipeline.validUntilBlockIncrement(2).maxResubmissions(0)
+                .submit(Collections.singletonList(new Spec(DROPPED_SCRIPT, calledByEntry(account))));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> futures.get(0).get(10, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(pipeline.getFailedCount(Stage.CONFIRM), is(1L));
+    }
+
+    @Test
+    public void testFaultingScriptFailsOnlyItsTransaction() throws Exception {
+        setUpInclusionAfterSubmissions(1);
+        List<CompletableFuture<Result>> futures = pipeline.submit(Arrays.asList(
+                new Spec(FAULT_SCRIPT, calledByEntry(account)),
+                new Spec(new byte[]{0x13, 0x40}, calledByEntry(account))));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> futures.get(0).get(10, TimeUnit.SECONDS));
+        assertThat(thrown.getCause(), instanceOf(TransactionConfigurationException.class));
+        assertThat(futures.get(1).get(10, TimeUnit.SECONDS).getSubmissions(), is(1));
+        assertThat(pipeline.getFailedCount(Stage.BUILD), is(1L));
+        assertThat(pipeline.getProcessedCount(Stage.BUILD), is(1L));
+    }
+
+    @Test
+    public void testSpecRequiresPrivateKey() {
+        Account withoutKey = Account.fromAddress(account.getAddress());
+        assertThrows(TransactionConfigurationException.class,
+                () -> new Spec(DROPPED_SCRIPT, calledByEntry(withoutKey)));
+    }
+
+    // Includes the transactions in the block 1000 after the given number of submissions.
+    private static void setUpInclusionAfterSubmissions(int submissions) throws IOException {
+        String state = Scenario.STARTED;
+        for (int i = 1; i <= submissions; i++) {
+            String nextState = i == submissions ? "included" : i + " sent";
+            setUpSubmission(state, nextState);
+            state = nextState;
+        }
+        setUpGrowingChain("included", 1001, 1002);
+        setUpWireMockForCall("getblock", "getblock_1000_pipelineTransactions.json", "\\[1000,");
+        setUpWireMockForCall("getblock", "getblock_1001.json", "\\[1001,");
+    }
+
+    // Drops the first submission and includes the second in the block 1005 after the blocks 1000 to 1004.
+    private static void setUpDroppedFirstSubmission() throws IOException {
+        setUpSubmission(Scenario.STARTED, "dropped");
+        String state = setUpGrowingChain("dropped", 1001, 1002, 1003, 1004, 1005);
+        setUpSubmission(state, "resubmitted");
+        setUpGrowingChain("resubmitted", 1006);
+        setUpWireMockForCall("getblock", "getblock_1000.json", "\\[1000,");
+        setUpWireMockForCall("getblock", "getblock_1001.json", "\\[1001,");
+        setUpWireMockForCall("getblock", "getblock_1002.json", "\\[1002,");
+        setUpWireMockForCall("getblock", "getblock_1003.json", "\\[1003,");
+        setUpWireMockForCall("getblock", "getblock_1004.json", "\\[1004,");
+        setUpWireMockForCall("getblock", "getblock_1005_resubmittedTransaction.json", "\\[1005,");
+    }
+
+    // Answers each getblockcount request with the next of the given block counts, starting in the given state. The
+    // last block count is kept, i.e., its state is returned. Since the block subscription only emits the blocks that
+    // are created after its first poll, the chain must not reach its final block count at once.
+    private static String setUpGrowingChain(String state, long... blockCounts) throws IOException {
+        for (int i = 0; i < blockCounts.length; i++) {
+            String nextState = i == blockCounts.length - 1 ? state : "block count " + blockCounts[i];
+            WireMock.stubFor(WireMock.post(urlEqualTo("/"))
+                    .inScenario(CHAIN)
+                    .whenScenarioStateIs(state)
+                    .withRequestBody(matchingJsonPath("$.method", equalTo("getblockcount")))
+                    .willSetStateTo(nextState)
+                    .willReturn(WireMock.aResponse()
+                            .withStatus(200)
+                            .withBody(loadFile("/responses/getblockcount_" + blockCounts[i] + ".json"))));
+            state = nextState;
+        }
+        return state;
+    }
+
+    private static void setUpSubmission(String state, String nextState) throws IOException {
+        WireMock.stubFor(WireMock.post(urlEqualTo("/"))
+                .inScenario(CHAIN)
+                .whenScenarioStateIs(state)
+                .withRequestBody(matchingJsonPath("$.method", equalTo("sendrawtransaction")))
+                .willSetStateTo(nextState)
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withBody(loadFile("/responses/sendrawtransaction.json"))));
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.neow3j.utils;
+
+import io.neow3j.crypto.Base58;
+import io.neow3j.protocol.Neow3jConfig;
+import io.neow3j.types.Hash160;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AddressCodecTest {
+
+    private static final Hash160 SCRIPT_HASH = new Hash160("d6c712eb53b1a130f59fd4e5864bdac27458a509");
+    private static final String ADDRESS = "NLnyLtep7jwyq1qhNPkwXbJpurC4jUT8ke";
+
+    @AfterEach
+    public void resetAddressVersion() {
+        Neow3jConfig.setAddressVersion(Neow3jConfig.DEFAULT_ADDRESS_VERSION);
+    }
+
+    @Test
+    public void testEncodeMatchesBase58() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            byte[] data = new byte[25];
+            random.nextBytes(data);
+            // Also cover leading zero bytes.
+            Arrays.fill(data, 0, i % 27 > 25 ? 25 : i % 27, (byte) 0);
+            String expected = Base58.encode(data);
+            assertThat(AddressCodec.encode(data), is(expected));
+            assertArrayEquals(data, AddressCodec.decode(expected));
+        }
+    }
+
+    @Test
+    public void testDecodeRejectsWrongLength() {
+        assertThat(AddressCodec.decode(Base58.encode(new byte[24])), nullValue());
+        assertThat(AddressCodec.decode(Base58.encode(new byte[]{1, 2, 3})), nullValue());
+        byte[] data = new byte[26];
+        data[0] = 1;
+        assertThat(AddressCodec.decode(Base58.encode(data)), nullValue());
+        assertThat(AddressCodec.decode("zzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzz"), nullValue());
+        assertThat(AddressCodec.decode(""), nullValue());
+        assertThat(AddressCodec.decode("NLnyLtep7jwyq1qhNPkwXbJpurC4jUT8k0"), nullValue());
+    }
+
+    @Test
+    public void testToAndFromAddress() {
+        AddressCodec codec = new AddressCodec();
+        assertThat(codec.toAddress(SCRIPT_HASH), is(ADDRESS));
+        assertThat(codec.fromAddress(ADDRESS), is(SCRIPT_HASH));
+        assertThat(codec.toAddress(SCRIPT_HASH), is(SCRIPT_HASH.toAddress()));
+    }
+
+    @Test
+    public void testFromInvalidAddress() {
+        AddressCodec codec = new AddressCodec(16);
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> codec.fromAddress("NLnyLtep7jwyq1qhNPkwXbJpurC4jUT8kf"));
+        assertThat(thrown.getMessage(), is("Not a valid NEO address."));
+    }
+
+    @Test
+    public void testBulkConversion() {
+        Hash160[] scriptHashes = new Hash160[]{SCRIPT_HASH, Hash160.ZERO, SCRIPT_HASH};
+        String[] expected = new String[]{ADDRESS, Hash160.ZERO.toAddress(), ADDRESS};
+        AddressCodec codec = new AddressCodec();
+
+        assertArrayEquals(expected, codec.toAddresses(scriptHashes));
+        assertArrayEquals(scriptHashes, codec.fromAddresses(expected));
+
+        List<String> addresses = codec.toAddresses(Stream.of(scriptHashes)).collect(Collectors.toList());
+        assertThat(addresses, contains(expected));
+        List<Hash160> hashes = codec.fromAddresses(Stream.of(expected).parallel()).collect(Collectors.toList());
+        assertThat(hashes, contains(scriptHashes));
+    }
+
+    @Test
+    public void testCacheInternsAddresses() {
+        AddressCodec codec = new AddressCodec(1);
+        String address = codec.toAddress(SCRIPT_HASH);
+        assertThat(codec.toAddress(SCRIPT_HASH), sameInstance(address));
+        Hash160 scriptHash = codec.fromAddress(ADDRESS);
+        assertThat(codec.fromAddress(ADDRESS), sameInstance(scriptHash));
+
+        // Evicts the entry of SCRIPT_HASH.
+        codec.toAddress(Hash160.ZERO);
+        assertThat(codec.toAddress(SCRIPT_HASH), not(sameInstance(address)));
+    }
+
+    @Test
+    public void testCacheRespectsAddressVersion() {
+        AddressCodec codec = new AddressCodec(16);
+        assertThat(codec.toAddress(SCRIPT_HASH), is(ADDRESS));
+
+        Neow3jConfig.setAddressVersion((byte) 0x17);
+        assertThat(codec.toAddress(SCRIPT_HASH), is(SCRIPT_HASH.toAddress()));
+        assertThat(codec.toAddress(SCRIPT_HASH), not(ADDRESS));
+        assertThrows(IllegalArgumentException.class, () -> codec.fromAddress(ADDRESS));
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.neow3j.wallet;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.neow3j.crypto.Bip32ECKeyPair;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.exceptions.RpcResponseErrorException;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.test.JsonRpcBatchTransformer;
+import io.neow3j.types.Hash160;
+import io.neow3j.utils.Numeric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.crypto.Bip32ECKeyPair.HARDENED_BIT;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBatches;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Bip32AccountDiscoveryTest {
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().extensions(new JsonRpcBatchTransformer()))
+            .build();
+
+    private Bip32ECKeyPair master;
+    private Neow3j neow3j;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        master = Bip32ECKeyPair.generateKeyPair(Numeric.hexStringToByteArray("000102030405060708090a0b0c0d0e0f"));
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+        setUpWireMockForBatches();
+        setUpWireMockForCall("getnep17transfers", "getnep17transfers_unused.json");
+    }
+
+    @Test
+    public void testDiscoverWithGapLimit() throws IOException {
+        setUpUsedAccount(0, 0, 0);
+        setUpUsedAccount(0, 0, 4);
+        setUpUsedAccount(1, 0, 2);
+        // More than three unused addresses after the last used one on the chain.
+        setUpUsedAccount(0, 0, 9);
+        // Not searched, because the account 2 is not used.
+        setUpUsedAccount(3, 0, 0);
+
+        Wallet wallet = new Bip32AccountDiscovery(neow3j, master).gapLimit(3).batchSize(2).discover();
+
+        List<String> labels = wallet.getAccounts().stream().map(Account::getLabel).collect(Collectors.toList());
+        assertThat(labels.size(), is(3));
+        assertThat(labels.stream().sorted().collect(Collectors.toList()), contains(
+                "m/44'/888'/0'/0/0", "m/44'/888'/0'/0/4", "m/44'/888'/1'/0/2"));
+        assertThat(wallet.getDefaultAccount().getScriptHash(), is(scriptHash(0, 0, 0)));
+        Account account = wallet.getAccount(scriptHash(1, 0, 2));
+        assertThat(account.getECKeyPair(), is(derive(1, 0, 2)));
+        // Account 0: 3 windows, account 1: 2 windows, account 2: 1 window. Each window of 3 in batches of 2.
+        WireMock.verify(18, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo("getnep17transfers"))));
+    }
+
+    @Test
+    public void testDiscoverInternalChain() throws Exception {
+        setUpUsedAccount(0, 1, 1);
+
+        Wallet wallet = new Bip32AccountDiscovery(neow3j, master)
+                .gapLimit(2)
+                .chains(Bip32AccountDiscovery.EXTERNAL_CHAIN, Bip32AccountDiscovery.INTERNAL_CHAIN)
+                .discoverAsync().get();
+
+        assertThat(wallet.getAccounts().size(), is(1));
+        assertThat(wallet.getDefaultAccount().getLabel(), is("m/44'/888'/0'/1/1"));
+    }
+
+    @Test
+    public void testDiscoverWithoutUsedAccounts() throws IOException {
+        Wallet wallet = new Bip32AccountDiscovery(neow3j, master).discover();
+
+        assertThat(wallet.getAccounts().size(), is(1));
+        assertThat(wallet.getDefaultAccount().getScriptHash(), is(scriptHash(0, 0, 0)));
+        assertThat(wallet.getDefaultAccount().getLabel(), is("m/44'/888'/0'/0/0"));
+    }
+
+    @Test
+    public void testFailIfNodeDoesNotTrackTransfers() throws IOException {
+        // The node does not run the TokensTracker plugin.
+        setUpWireMockForCall("getnep17transfers", "getnep17transfers_methodnotfound.json");
+
+        RpcResponseErrorException thrown = assertThrows(RpcResponseErrorException.class,
+                () -> new Bip32AccountDiscovery(neow3j, master).discover());
+        assertThat(thrown.getMessage(), containsString("Method not found"));
+    }
+
+    // Answers the getnep17transfers requests for the account with one received transfer.
+    private void setUpUsedAccount(int account, int chain, int index) throws IOException {
+        setUpWireMockForCall("getnep17transfers", "getnep17transfers_used.json",
+                scriptHash(account, chain, index).toAddress());
+    }
+
+    private Bip32ECKeyPair derive(int account, int chain, int index) {
+        return Bip32ECKeyPair.deriveKeyPair(master,
+                new int[]{44 | HARDENED_BIT, 888 | HARDENED_BIT, account | HARDENED_BIT, chain, index});
+    }
+
+    private Hash160 scriptHash(int account, int chain, int index) {
+        return Hash160.fromPublicKey(derive(account, chain, index).getPublicKey().getEncoded(true));
+    }
+
+}
@@ -0,0 +1,194 @@
+package io.neow3j.wallet;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.http.HttpService;
+import io.neow3j.test.JsonRpcBatchTransformer;
+import io.neow3j.types.Hash160;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.test.TestProperties.defaultAccountAddress;
+import static io.neow3j.test.TestProperties.gasTokenHash;
+import static io.neow3j.test.TestProperties.neoTokenHash;
+import static io.neow3j.test.WireMockTestHelper.loadFile;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForBatches;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForCall;
+import static io.neow3j.test.WireMockTestHelper.setUpWireMockForGetBlockCount;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+public class Nep17BalanceTrackerTest {
+
+    // The sender and receiver of the transfer in the application log of the file getapplicationlog.json.
+    private static final String SENDER = "NLhRmyt8Gc6MUiWgc1Yib6mZPXbSqXGqvy";
+    private static final String RECEIVER = "NZQvGWfSupuUAYtCH6pje72hdkWJH1jAZP";
+    private static final String OTHER = defaultAccountAddress();
+    // The account of the file getnep17balances_added.json.
+    private static final String ADDED = "NLnyLtep7jwyq1qhNPkwXbJpurC4jUT8ke";
+
+    private static final Hash160 GAS = new Hash160(gasTokenHash());
+    private static final Hash160 NEO = new Hash160(neoTokenHash());
+
+    // The hashes of the blocks in the files getblock_1000.json and getblock_1001.json and of the transaction in block
+    // 1001.
+    private static final String BLOCK_HASH_1000 = "4f1d2e4c8e3ab5d0b8a6d9f7e18f2c2e7c64cde1d3a5f71dbe6f4a3d1e8c7b25";
+    private static final String BLOCK_HASH_1001 = "9b4c1d7e3f2a8b6d5c0e1f3a7d9b2c4e6f8a0b1c3d5e7f9a2b4c6d8e0f1a3b5c";
+    private static final String TX_HASH = "eb52f99ae5cf923d8905bdd91c4160e2207d20c0cb42f8062f31c6743770e4d1";
+
+    @RegisterExtension
+    static WireMockExtension wireMockExtension = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().extensions(new JsonRpcBatchTransformer()))
+            .build();
+
+    private Neow3j neow3j;
+    private Wallet wallet;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        int port = wireMockExtension.getPort();
+        WireMock.configureFor(port);
+        neow3j = Neow3j.build(new HttpService("http://127.0.0.1:" + port));
+        wallet = Wallet.withAccounts(Account.fromAddress(SENDER), Account.fromAddress(RECEIVER),
+                Account.fromAddress(OTHER));
+        setUpWireMockForBatches();
+        setUpWireMockForGetBlockCount(1000);
+        setUpWireMockForCall("getnep17balances", "getnep17balances_sender.json", SENDER);
+        setUpWireMockForCall("getnep17balances", "getnep17balances_receiver.json", RECEIVER);
+        setUpWireMockForCall("getnep17balances", "getnep17balances_other.json", OTHER);
+        setUpWireMockForCall("getblock", "getblock_1000.json", "\\[1000,");
+        setUpWireMockForCall("getblock", "getblock_1001.json", "\\[1001,");
+        setUpWireMockForCall("getapplicationlog", "getapplicationlog_block_1000.json", BLOCK_HASH_1000);
+        setUpWireMockForCall("getapplicationlog", "getapplicationlog_block_1001.json", BLOCK_HASH_1001);
+        setUpWireMockForCall("getapplicationlog", "getapplicationlog.json", TX_HASH);
+    }
+
+    @Test
+    public void testRefresh() throws IOException {
+        Nep17BalanceTracker tracker = new Nep17BalanceTracker(wallet, neow3j, 2, 2);
+        WalletNep17Balances balances = tracker.refresh();
+
+        assertThat(balances.getBlockCount(), is(1000L));
+        assertThat(balances.getAccountBalances(account(SENDER)).get(GAS), is(new BigInteger("100")));
+        assertThat(balances.getAccountBalances(account(RECEIVER)).get(GAS), is(new BigInteger("20")));
+        assertThat(balances.getAccountBalances(account(RECEIVER)).get(NEO), is(new BigInteger("5")));
+        assertThat(balances.getAccountBalances(account(OTHER)).get(NEO), is(new BigInteger("7")));
+        assertThat(balances.getTotals().get(GAS), is(new BigInteger("120")));
+        assertThat(balances.getTotals().get(NEO), is(new BigInteger("12")));
+        assertThat(tracker.getBalances(), is(balances));
+
+        // Three balance requests in batches of two.
+        WireMock.verify(2, batchRequestedFor("getnep17balances"));
+        WireMock.verify(0, batchRequestedFor("getnep17balances").withRequestBody(matchingJsonPath("$[2]")));
+        verifyBalancesRequested(1, SENDER);
+        verifyBalancesRequested(1, RECEIVER);
+        verifyBalancesRequested(1, OTHER);
+    }
+
+    @Test
+    public void testRefreshIncrementally() throws IOException {
+        Nep17BalanceTracker tracker = new Nep17BalanceTracker(wallet, neow3j);
+        tracker.refresh();
+
+        setUpWireMockForGetBlockCount(1002);
+        setUpWireMockForCall("getnep17balances", "getnep17balances_sender_afterTransfer.json", SENDER);
+        setUpWireMockForCall("getnep17balances", "getnep17balances_receiver_afterTransfer.json", RECEIVER);
+        // Not part of a transfer in the new blocks, thus, not refreshed.
+        setUpWireMockForCall("getnep17balances", "getnep17balances_other_afterTransfer.json", OTHER);
+        WireMock.resetAllRequests();
+
+        WalletNep17Balances balances = tracker.refreshIncrementally();
+
+        assertThat(balances.getBlockCount(), is(1002L));
+        verifyBalancesRequested(1, SENDER);
+        verifyBalancesRequested(1, RECEIVER);
+        verifyBalancesRequested(0, OTHER);
+        assertThat(balances.getAccountBalances(account(SENDER)).get(GAS), is(new BigInteger("90")));
+        assertThat(balances.getAccountBalances(account(RECEIVER)).get(GAS), is(new BigInteger("30")));
+        assertThat(balances.getAccountBalances(account(OTHER)).get(NEO), is(new BigInteger("7")));
+        assertThat(balances.getTotals().get(GAS), is(new BigInteger("120")));
+    }
+
+    @Test
+    public void testRefreshIncrementallyQueriesAddedAndDropsRemovedAccounts() throws IOException {
+        Nep17BalanceTracker tracker = new Nep17BalanceTracker(wallet, neow3j);
+        WalletNep17Balances balances = tracker.refreshIncrementally();
+        assertThat(balances.getAccountBalances().size(), is(3));
+
+        setUpWireMockForCall("getnep17balances", "getnep17balances_added.json", ADDED);
+        wallet.addAccounts(Account.fromAddress(ADDED));
+        wallet.removeAccount(account(OTHER));
+        WireMock.resetAllRequests();
+
+        balances = tracker.refreshIncrementally();
+
+        verifyBalancesRequested(1, ADDED);
+        WireMock.verify(1, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo("getnep17balances"))));
+        assertThat(balances.getAccountBalances().keySet(),
+                containsInAnyOrder(account(SENDER), account(RECEIVER), account(ADDED)));
+        assertThat(balances.getTotals().get(GAS), is(new BigInteger("121")));
+        assertThat(balances.getTotals().get(NEO), is(new BigInteger("5")));
+    }
+
+    @Test
+    public void testGetNep17TokenBalancesAsync() throws Exception {
+        Map<Hash160, BigInteger> balances = wallet.getNep17TokenBalancesAsync(neow3j).get();
+
+        assertThat(balances.get(GAS), is(new BigInteger("120")));
+        assertThat(balances.get(NEO), is(new BigInteger("12")));
+        assertThat(balances, is(wallet.getNep17TokenBalances(neow3j)));
+    }
+
+    @Test
+    public void testRefreshFallsBackToSingleRequestsIfNodeDoesNotSupportBatches() throws IOException {
+        WireMock.stubFor(WireMock.post(urlEqualTo("/"))
+                .atPriority(1)
+                .withRequestBody(matching("(?s)\\s*\\[.*"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withBody(loadFile("/responses/batch_invalidrequest.json"))));
+        Nep17BalanceTracker tracker = new Nep17BalanceTracker(wallet, neow3j, 2, 1);
+
+        WalletNep17Balances balances = tracker.refresh();
+
+        assertThat(balances.getTotals().get(GAS), is(new BigInteger("120")));
+        assertThat(balances.getTotals().get(NEO), is(new BigInteger("12")));
+        verifyBalancesRequested(1, SENDER);
+        verifyBalancesRequested(1, RECEIVER);
+        verifyBalancesRequested(1, OTHER);
+        // Only the first batch is sent. The service then remembers that the node does not support batches.
+        WireMock.verify(1, batchRequestedFor("getnep17balances"));
+    }
+
+    private static Hash160 account(String address) {
+        return Hash160.fromAddress(address);
+    }
+
+    // The request journal contains the batches as well as each of their requests.
+    private static RequestPatternBuilder batchRequestedFor(String method) {
+        return postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matching("(?s)\\s*\\[.*\"method\":\"" + method + "\".*"));
+    }
+
+    private static void verifyBalancesRequested(int count, String address) {
+        WireMock.verify(count, postRequestedFor(urlEqualTo("/"))
+                .withRequestBody(matchingJsonPath("$.method", equalTo("getnep17balances")))
+                .withRequestBody(matchingJsonPath("$.params[0]", equalTo(address))));
+    }
+
+}
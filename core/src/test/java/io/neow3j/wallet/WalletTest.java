@@ -1,10 +1,12 @@
 package io.neow3j.wallet;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import io.neow3j.crypto.ECKeyPair;
 import io.neow3j.crypto.NEP2;
+import io.neow3j.crypto.ScryptParams;
 import io.neow3j.crypto.exceptions.CipherException;
 import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
 import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
@@ -26,10 +28,14 @@ import java.nio.file.Files;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.neow3j.wallet.Wallet.OBJECT_MAPPER;
 import static io.neow3j.test.TestProperties.committeeAccountAddress;
 import static io.neow3j.test.TestProperties.defaultAccountAddress;
 import static io.neow3j.test.TestProperties.gasTokenHash;
@@ -38,11 +44,14 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -501,4 +510,118 @@ public class WalletTest {
                 new BigInteger("50000000")));
     }
 
+    @Test
+    public void testEncryptAndDecryptAllAccountsInParallel() throws Exception {
+        ScryptParams params = new ScryptParams(256, 1, 1);
+        Account[] accts = new Account[6];
+        for (int i = 0; i < accts.length; i++) {
+            accts[i] = Account.create();
+        }
+        Map<Hash160, String> wifs = new HashMap<>();
+        Map<Hash160, String> encryptedKeys = new HashMap<>();
+        for (Account a : accts) {
+            wifs.put(a.getScriptHash(), a.getECKeyPair().exportAsWIF());
+            encryptedKeys.put(a.getScriptHash(), NEP2.encrypt("12345678", a.getECKeyPair(), params));
+        }
+        Wallet w = Wallet.withAccounts(accts).scryptParams(params);
+
+        List<Integer> progress = new ArrayList<>();
+        w.encryptAllAccounts("12345678", 3, Long.MAX_VALUE, (completed, total) -> {
+            assertThat(total, is(accts.length));
+            progress.add(completed);
+        });
+        assertThat(progress, contains(1, 2, 3, 4, 5, 6));
+        for (Account a : accts) {
+            assertThat(a.getECKeyPair(), nullValue());
+            assertThat(a.getEncryptedPrivateKey(), is(encryptedKeys.get(a.getScriptHash())));
+        }
+
+        w.decryptAllAccounts("12345678", 3, Long.MAX_VALUE, null);
+        for (Account a : accts) {
+            assertThat(a.getECKeyPair().exportAsWIF(), is(wifs.get(a.getScriptHash())));
+        }
+    }
+
+    @Test
+    public void testDecryptAllAccountsInParallelWithWrongPassword() throws Exception {
+        Wallet w = Wallet.withAccounts(Account.create(), Account.create(), Account.create())
+                .scryptParams(new ScryptParams(256, 1, 1));
+        w.encryptAllAccounts("12345678");
+
+        assertThrows(NEP2InvalidPassphrase.class, () -> w.decryptAllAccounts("wrong", 2, Long.MAX_VALUE, null));
+    }
+
+    @Test
+    public void testDecryptAllAccountsOnFirstUse() throws Exception {
+        Account a = Account.create();
+        String wif = a.getECKeyPair().exportAsWIF();
+        Wallet w = Wallet.withAccounts(a).scryptParams(new ScryptParams(256, 1, 1));
+        w.encryptAllAccounts("12345678");
+
+        w.decryptAllAccountsOnFirstUse("12345678");
+        assertThat(a.getECKeyPair().exportAsWIF(), is(wif));
+    }
+
+    @Test
+    public void testDecryptAllAccountsOnFirstUseWithWrongPassword() throws Exception {
+        Account a = Account.create();
+        Wallet w = Wallet.withAccounts(a).scryptParams(new ScryptParams(256, 1, 1));
+        w.encryptAllAccounts("12345678");
+
+        w.decryptAllAccountsOnFirstUse("wrong");
+        AccountStateException thrown = assertThrows(AccountStateException.class, a::getECKeyPair);
+        assertThat(thrown.getMessage(), containsString("on first use"));
+        assertThat(thrown.getCause(), instanceOf(NEP2InvalidPassphrase.class));
+        assertThat(a.getECKeyPair(), nullValue());
+    }
+
+    @Test
+    public void testGetAccountsReturnsCachedSortedView() {
+        Account a1 = Account.create();
+        Account a2 = Account.create();
+        Wallet w = Wallet.withAccounts(a1, a2);
+
+        List<Account> accounts = w.getAccounts();
+        assertThat(w.getAccounts(), sameInstance(accounts));
+        assertThrows(UnsupportedOperationException.class, () -> accounts.add(Account.create()));
+
+        Account a3 = Account.create();
+        w.addAccounts(a3);
+        assertThat(w.getAccounts(), hasSize(3));
+        assertTrue(w.getAccounts().get(0).getScriptHash().compareTo(w.getAccounts().get(1).getScriptHash()) < 0);
+        assertTrue(w.getAccounts().get(1).getScriptHash().compareTo(w.getAccounts().get(2).getScriptHash()) < 0);
+
+        w.removeAccount(a3);
+        assertThat(w.getAccounts(), hasSize(2));
+    }
+
+    @Test
+    public void testSaveNEP6WalletMatchesNEP6Representation() throws Exception {
+        Wallet w = Wallet.fromNEP6Wallet("wallet/wallet.json");
+        File tempFile = createTempFile();
+        w.saveNEP6Wallet(tempFile);
+
+        JsonNode expected = OBJECT_MAPPER.valueToTree(w.toNEP6Wallet());
+        assertThat(OBJECT_MAPPER.readTree(tempFile), is(expected));
+    }
+
+    @Test
+    public void testSaveNEP6WalletAfterChangingAccounts() throws Exception {
+        Wallet w = Wallet.fromNEP6Wallet("wallet/wallet.json");
+        File tempFile = createTempFile();
+        w.saveNEP6Wallet(tempFile);
+
+        Account a = w.getAccount(Hash160.fromAddress("NWcx4EfYdfqn5jNjDz8AHE6hWtWdUGDdmy"));
+        a.label("New label").lock();
+        w.defaultAccount(a.getScriptHash());
+        w.saveNEP6Wallet(tempFile);
+
+        Wallet w2 = Wallet.fromNEP6Wallet(tempFile);
+        Account a2 = w2.getAccount(a.getScriptHash());
+        assertThat(a2.getLabel(), is("New label"));
+        assertTrue(a2.isLocked());
+        assertTrue(a2.isDefault());
+        assertThat(w2.toNEP6Wallet(), is(w.toNEP6Wallet()));
+    }
+
 }
@@ -10,6 +10,7 @@ import io.neow3j.test.NeoTestContainer;
 import io.neow3j.test.TestProperties;
 import io.neow3j.transaction.AccountSigner;
 import io.neow3j.transaction.ConflictsAttribute;
+import io.neow3j.transaction.NetworkFeeCalculator;
 import io.neow3j.transaction.NotValidBeforeAttribute;
 import io.neow3j.transaction.Signer;
 import io.neow3j.transaction.Transaction;
@@ -91,6 +92,24 @@ public class TransactionBuilderIntegrationTest {
         assertThat(tx.getNetworkFee(), is(7557220L));
     }
 
+    @Test
+    public void testLocalNetworkFeeCalculationMatchesNode() throws Throwable {
+        NetworkFeeCalculator calculator = new NetworkFeeCalculator(neow3j);
+        Account[] accounts = new Account[]{
+                Account.fromAddress(TestProperties.defaultAccountAddress()),
+                Account.createMultiSigAccount(TestProperties.committeeAccountAddress(), 1, 1),
+                Account.createMultiSigAccount(TestProperties.committeeAccountAddress(), 5, 7)};
+
+        for (Account a : accounts) {
+            TransactionBuilder b = new TransactionBuilder(neow3j)
+                    .script(hexStringToByteArray(TEST_SCRIPT))
+                    .signers(AccountSigner.calledByEntry(a));
+            long nodeFee = b.getUnsignedTransaction().getNetworkFee();
+            long localFee = b.networkFeeCalculator(calculator).getUnsignedTransaction().getNetworkFee();
+            assertThat(localFee, is(nodeFee));
+        }
+    }
+
     @Test
     public void testAdditionalNetworkFee() throws Throwable {
         Account a = Account.fromAddress(TestProperties.defaultAccountAddress());
@@ -0,0 +1,94 @@
+package io.neow3j.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+
+/**
+ * A WireMock extension that answers JSON-RPC batch requests with the stubs of the single requests.
+ * <p>
+ * Each request of a batch is sent to the WireMock server on its own, so that it is answered by the stub that matches
+ * it, e.g., one set up with {@link WireMockTestHelper#setUpWireMockForCall(String, String, String...)}. The responses
+ * are collected in a JSON array and their ids are set to the ids of the requests, since the response files all use
+ * the same id.
+ * <p>
+ * Register the extension with the WireMock server and set up the batch stub with
+ * {@link WireMockTestHelper#setUpWireMockForBatches()}. Note, that the WireMock request journal contains the batch
+ * request as well as each of its requests.
+ */
+public class JsonRpcBatchTransformer extends ResponseDefinitionTransformer {
+
+    public static final String NAME = "json-rpc-batch";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files,
+            Parameters parameters) {
+
+        try {
+            ArrayNode responses = MAPPER.createArrayNode();
+            for (JsonNode singleRequest : MAPPER.readTree(request.getBodyAsString())) {
+                ObjectNode response = (ObjectNode) MAPPER.readTree(post(request.getAbsoluteUrl(),
+                        MAPPER.writeValueAsBytes(singleRequest)));
+                response.set("id", singleRequest.get("id"));
+                responses.add(response);
+            }
+            return responseDefinition()
+                    .withStatus(200)
+                    .withBody(MAPPER.writeValueAsString(responses))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] post(String url, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        if (connection.getResponseCode() != 200) {
+            throw new IOException("No stub matched the request " + new String(body) + ".");
+        }
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                result.write(buffer, 0, read);
+            }
+            return result.toByteArray();
+        }
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+}
@@ -69,6 +69,18 @@ public class WireMockTestHelper {
                         .withBody(responseBody)));
     }
 
+    /**
+     * Sets up a stub that answers JSON-RPC batch requests with the stubs of the single requests. The WireMock server
+     * must be configured with the {@link JsonRpcBatchTransformer} extension.
+     */
+    public static void setUpWireMockForBatches() {
+        WireMock.stubFor(WireMock.post(WireMock.urlEqualTo("/"))
+                .atPriority(1)
+                .withRequestBody(new RegexPattern("(?s)\\s*\\[.*"))
+                .willReturn(WireMock.aResponse()
+                        .withTransformers(JsonRpcBatchTransformer.NAME)));
+    }
+
     public static String loadFile(String fileName) throws IOException {
         String absFileName = WireMockTestHelper.class.getResource(fileName).getFile();
         FileInputStream inStream = new FileInputStream(new File(absFileName));